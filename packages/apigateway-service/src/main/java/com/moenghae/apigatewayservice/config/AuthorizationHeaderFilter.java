@@ -1,14 +1,20 @@
 package com.moenghae.apigatewayservice.config;
 
+import com.meonghae.auth.GatewayIdentity;
 import com.moenghae.apigatewayservice.jwt.JwtTokenProvider;
 import com.moenghae.apigatewayservice.jwt.RedisService;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
@@ -18,10 +24,15 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
     JwtTokenProvider jwtTokenProvider;
     RedisService redisService;
 
-    public AuthorizationHeaderFilter(JwtTokenProvider jwtTokenProvider, RedisService redisService) {
+    // 게이트웨이에서 검증한 회원 정보를 서명해서 하위 서비스로 전달한다.
+    GatewayIdentity gatewayIdentity;
+
+    public AuthorizationHeaderFilter(JwtTokenProvider jwtTokenProvider, RedisService redisService,
+                                     @Value("${gateway.identity.secret:}") String identitySecret) {
         super(Config.class);
         this.jwtTokenProvider = jwtTokenProvider;
         this.redisService = redisService;
+        this.gatewayIdentity = new GatewayIdentity(identitySecret);
     }
 
     @Override
@@ -34,7 +45,12 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
     @Override
     public GatewayFilter apply(Config config) {
         return ((exchange, chain) -> {
-            ServerHttpRequest request = exchange.getRequest();
+            // 클라이언트가 직접 보낸 회원 정보 헤더는 신뢰하지 않는다.
+            ServerHttpRequest request = exchange.getRequest().mutate()
+                    .headers(headers -> {
+                        headers.remove(GatewayIdentity.USER_EMAIL_HEADER);
+                        headers.remove(GatewayIdentity.USER_SIGNATURE_HEADER);
+                    }).build();
 
             String path = request.getURI().getPath();
             String androidId = request.getHeaders().getFirst("androidId");
@@ -48,28 +64,57 @@ public class AuthorizationHeaderFilter extends AbstractGatewayFilterFactory<Auth
             }
 
             if (accessToken == null) {
-                if (jwtTokenProvider.validateToken(refreshToken) && redisService.isRefreshTokenValid(refreshToken)
-                        && redisService.isAndroidIdValid(refreshToken, androidId)) {
-                    return chain.filter(exchange.mutate().request(
-                            request.mutate()
-                                    .header("androidId", androidId)
-                                    .header("RefreshToken", refreshToken)
-                                    .build()).build());
-                }
-            } else {
-                if (jwtTokenProvider.validateToken(accessToken) && !redisService.isTokenInBlacklist(accessToken)) {
-                    log.info("JWT Token is good.");
+                if (jwtTokenProvider.validateToken(refreshToken)) {
+                    return redisService.isRefreshTokenValid(refreshToken, androidId)
+                            .flatMap(valid -> {
+                                if (valid) {
+                                    return chain.filter(exchange.mutate().request(
+                                            request.mutate()
+                                                    .header("androidId", androidId)
+                                                    .header("RefreshToken", refreshToken)
+                                                    .build()).build());
+                                }
+                                return forward(exchange, chain, request, accessToken, refreshToken);
+                            });
                 }
+                return forward(exchange, chain, request, accessToken, refreshToken);
+            }
+
+            Claims claims = jwtTokenProvider.getValidClaims(accessToken);
+            if (claims != null) {
+                return redisService.isTokenInBlacklist(accessToken)
+                        .flatMap(blacklisted -> {
+                            log.info("JWT Token is good.");
+                            return forward(exchange, chain, identify(request, claims, accessToken),
+                                    accessToken, refreshToken);
+                        });
             }
 
-            return chain.filter(exchange.mutate().request(
-                    request.mutate()
-                            .header(HttpHeaders.AUTHORIZATION, accessToken)
-                            .header("RefreshToken", refreshToken)
-                            .build()).build());
+            return forward(exchange, chain, request, accessToken, refreshToken);
         });
     }
 
+    // 하위 서비스는 서명이 (email, 토큰)과 맞을 때만 헤더의 email 을 사용한다.
+    private ServerHttpRequest identify(ServerHttpRequest request, Claims claims, String accessToken) {
+        if (!gatewayIdentity.isEnabled()) {
+            return request;
+        }
+        String email = claims.getSubject();
+        return request.mutate()
+                .header(GatewayIdentity.USER_EMAIL_HEADER, email)
+                .header(GatewayIdentity.USER_SIGNATURE_HEADER, gatewayIdentity.sign(email, accessToken))
+                .build();
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, ServerHttpRequest request,
+                               String accessToken, String refreshToken) {
+        return chain.filter(exchange.mutate().request(
+                request.mutate()
+                        .header(HttpHeaders.AUTHORIZATION, accessToken)
+                        .header("RefreshToken", refreshToken)
+                        .build()).build());
+    }
+
     private boolean isPublicPath(String path) {
         return path.startsWith("/health") || path.endsWith("/prometheus") ||
                 path.contains("/signup") || path.contains("/login") ||
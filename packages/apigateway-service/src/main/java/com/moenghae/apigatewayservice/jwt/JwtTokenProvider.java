@@ -82,14 +82,20 @@ public class JwtTokenProvider {
 
     // 토큰의 유효성 + 만료일자 확인
     public boolean validateToken(String jwtToken) {
+        return getValidClaims(jwtToken) != null;
+    }
+
+    // 서명과 만료일자를 한 번만 검증하고 회원 정보(claims)를 돌려준다. 만료된 토큰이면 null
+    public Claims getValidClaims(String jwtToken) {
         try {
             Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-            Jws<Claims> claims = Jwts.parserBuilder()
+            Claims claims = Jwts.parserBuilder()
                     .setSigningKey(key)
                     .build()
-                    .parseClaimsJws(jwtToken);
+                    .parseClaimsJws(jwtToken)
+                    .getBody();
 
-            return !claims.getBody().getExpiration().before(new Date());
+            return claims.getExpiration().before(new Date()) ? null : claims;
         } catch (MalformedJwtException e) {
             throw new MalformedJwtException("Invalid JWT token");
         } catch (ExpiredJwtException e) {
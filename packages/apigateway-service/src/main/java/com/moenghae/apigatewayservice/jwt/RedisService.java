@@ -2,9 +2,9 @@ package com.moenghae.apigatewayservice.jwt;
 
 import io.jsonwebtoken.MalformedJwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -12,36 +12,37 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class RedisService {
 
-    private final RedisTemplate redisTemplate;
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
 
-    // RefreshToken, email, IP Address 가져오기
-    public Map<String, String> getValues(String token){
-        ValueOperations<String, Map<String, String>> values = redisTemplate.opsForValue();
-        return values.get(token);
-    }
+    private final TokenBlacklistFilter tokenBlacklistFilter;
 
-    public boolean isRefreshTokenValid(String token) {
-        Map<String, String> values = getValues(token);
-        return !values.isEmpty();
+    // RefreshToken, email, IP Address 가져오기
+    @SuppressWarnings("unchecked")
+    public Mono<Map<String, String>> getValues(String key) {
+        return reactiveRedisTemplate.opsForValue().get(key)
+                .filter(Map.class::isInstance)
+                .map(value -> (Map<String, String>) value);
     }
 
-    public boolean isAndroidIdValid(String token, String androidId) {
-        Map<String, String> tokenValue = getValues(token);
-        String email = tokenValue.get("email");
-
-        if (email != null) {
-            Map<String, String> emailValue = getValues(email);
-            return emailValue.get("androidId").equals(androidId);
-        } else {
-            return false;
-        }
+    // RefreshToken 이 저장되어 있고, 해당 회원의 Android-Id 와 일치하는지 확인 (키 당 1회 조회)
+    public Mono<Boolean> isRefreshTokenValid(String token, String androidId) {
+        return getValues(token)
+                .filter(tokenValue -> !tokenValue.isEmpty())
+                .mapNotNull(tokenValue -> tokenValue.get("email"))
+                .flatMap(this::getValues)
+                .map(emailValue -> emailValue.get("androidId") != null
+                        && emailValue.get("androidId").equals(androidId))
+                .defaultIfEmpty(false);
     }
 
-    public boolean isTokenInBlacklist(String token) {
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(token))) {
-            throw new MalformedJwtException("Invalid JWT token");
+    // Bloom filter 에 없으면 블랙리스트가 아니므로 Redis 를 조회하지 않는다.
+    public Mono<Boolean> isTokenInBlacklist(String token) {
+        if (!tokenBlacklistFilter.mightContain(token)) {
+            return Mono.just(false);
         }
-
-        return false;
+        return reactiveRedisTemplate.hasKey(token)
+                .flatMap(exists -> Boolean.TRUE.equals(exists)
+                        ? Mono.error(new MalformedJwtException("Invalid JWT token"))
+                        : Mono.just(false));
     }
 }
@@ -0,0 +1,168 @@
+package com.moenghae.apigatewayservice.jwt;
+
+import com.meonghae.auth.TokenBlacklist;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 블랙리스트에 등록된 토큰 해시의 Bloom filter.
+// 필터에 없는 토큰은 블랙리스트가 아니므로 Redis 조회를 생략할 수 있다.
+// 구독이 살아 있는 동안 적재한 필터만 사용하고, 그 밖에는 모든 토큰을 Redis 로 확인한다. (fail closed)
+@Slf4j
+@Component
+public class TokenBlacklistFilter {
+
+    // 2^20 bit(128KB), 해시 7개 | 약 10만 건에서 오탐률 1% 내외
+    private static final int BIT_SIZE = 1 << 20;
+    private static final int HASH_COUNT = 7;
+
+    // 만료된 해시를 비워내기 위해 주기적으로 필터를 다시 만든다.
+    private static final Duration REBUILD_INTERVAL = Duration.ofHours(1);
+
+    // 구독이 끊기면 1초부터 2배씩, 최대 1분 간격으로 다시 구독한다.
+    private static final Duration RESUBSCRIBE_MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration RESUBSCRIBE_MAX_BACKOFF = Duration.ofMinutes(1);
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+
+    private volatile AtomicLongArray bits = new AtomicLongArray(BIT_SIZE / Long.SIZE);
+
+    // 재적재 중인 필터들, 적재 중 구독으로 들어온 해시도 함께 기록한다.
+    private final List<AtomicLongArray> loading = new CopyOnWriteArrayList<>();
+
+    // 현재 활성화된 구독 번호, 구독이 없으면 0
+    private final AtomicLong subscriptions = new AtomicLong();
+    private volatile long activeSubscription = 0L;
+
+    // 활성 구독이 시작된 뒤 적재를 마쳤을 때만 true
+    private volatile boolean loaded = false;
+
+    private Disposable subscription;
+
+    private Disposable rebuild;
+
+    public TokenBlacklistFilter(ReactiveRedisTemplate<String, Object> reactiveRedisTemplate) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+    }
+
+    @PostConstruct
+    protected void init() {
+        subscription = Mono.defer(this::listen)
+                .doOnError(e -> {
+                    activeSubscription = 0L;
+                    loaded = false;
+                    log.warn("Token blacklist subscription lost, falling back to Redis lookups", e);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, RESUBSCRIBE_MIN_BACKOFF).maxBackoff(RESUBSCRIBE_MAX_BACKOFF))
+                .subscribe();
+
+        // 최초 적재는 구독이 활성화된 뒤 listen() 에서 한다.
+        rebuild = Flux.interval(REBUILD_INTERVAL, REBUILD_INTERVAL)
+                .concatMap(tick -> reload()
+                        .onErrorResume(e -> {
+                            log.warn("Token blacklist reload failed", e);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    @PreDestroy
+    protected void destroy() {
+        if (subscription != null) subscription.dispose();
+        if (rebuild != null) rebuild.dispose();
+    }
+
+    // 채널 구독이 등록된 것을 확인한 뒤 스냅샷을 적재한다. -> 적재하는 동안 등록된 해시도 놓치지 않는다.
+    // 구독이 끝나거나 실패하면 에러로 끝나서 다시 구독한다.
+    private Mono<Void> listen() {
+        return reactiveRedisTemplate.listenToChannelLater(TokenBlacklist.CHANNEL)
+                .flatMap(messages -> {
+                    activeSubscription = subscriptions.incrementAndGet();
+                    return Flux.merge(
+                                    messages.doOnNext(message -> onBlacklisted(String.valueOf(message.getMessage())))
+                                            .then(),
+                                    reload())
+                            .then(Mono.error(new IllegalStateException("Token blacklist subscription closed")));
+                });
+    }
+
+    // 적재 중인 필터에 먼저 기록한 뒤 현재 필터를 읽어야, 교체되는 순간 들어온 해시도 빠지지 않는다.
+    private void onBlacklisted(String hash) {
+        for (AtomicLongArray next : loading) {
+            put(next, hash);
+        }
+        put(bits, hash);
+    }
+
+    // false 면 블랙리스트가 아님이 확실하다.
+    public boolean mightContain(String token) {
+        if (!loaded) {
+            return true;
+        }
+        return contains(bits, TokenBlacklist.hash(token));
+    }
+
+    // 만료된 해시를 정리한 뒤 남은 해시로 새 필터를 만든다.
+    // 적재하는 동안 같은 구독이 계속 살아 있었을 때만 필터를 교체한다. (그 사이 끊겼다면 놓친 해시가 있을 수 있다)
+    private Mono<Void> reload() {
+        return Mono.defer(() -> {
+            long session = activeSubscription;
+            long now = System.currentTimeMillis();
+            AtomicLongArray fresh = new AtomicLongArray(BIT_SIZE / Long.SIZE);
+            loading.add(fresh);
+            return reactiveRedisTemplate.opsForZSet()
+                    .removeRangeByScore(TokenBlacklist.HASHES_KEY, Range.closed(0d, (double) now))
+                    .thenMany(reactiveRedisTemplate.opsForZSet()
+                            .rangeByScore(TokenBlacklist.HASHES_KEY,
+                                    Range.rightUnbounded(Range.Bound.exclusive((double) now))))
+                    .doOnNext(hash -> put(fresh, String.valueOf(hash)))
+                    .then(Mono.fromRunnable(() -> {
+                        if (session != 0L && session == activeSubscription) {
+                            bits = fresh;
+                            loaded = true;
+                        }
+                    }))
+                    .doFinally(signal -> loading.remove(fresh))
+                    .then();
+        });
+    }
+
+    private static void put(AtomicLongArray target, String hash) {
+        for (int index : indexes(hash)) {
+            target.getAndAccumulate(index / Long.SIZE, 1L << (index % Long.SIZE), (a, b) -> a | b);
+        }
+    }
+
+    private static boolean contains(AtomicLongArray target, String hash) {
+        for (int index : indexes(hash)) {
+            if ((target.get(index / Long.SIZE) & (1L << (index % Long.SIZE))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // SHA-256 해시(hex)의 앞 16byte 로 double hashing
+    private static int[] indexes(String hash) {
+        long h1 = Long.parseUnsignedLong(hash.substring(0, 16), 16);
+        long h2 = Long.parseUnsignedLong(hash.substring(16, 32), 16);
+        int[] indexes = new int[HASH_COUNT];
+        for (int i = 0; i < HASH_COUNT; i++) {
+            indexes[i] = (int) Long.remainderUnsigned(h1 + i * h2, BIT_SIZE);
+        }
+        return indexes;
+    }
+}
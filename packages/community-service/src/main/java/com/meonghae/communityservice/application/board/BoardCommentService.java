@@ -9,6 +9,8 @@ import com.meonghae.communityservice.domain.board.BoardComment;
 import com.meonghae.communityservice.dto.comment.CommentChildDto;
 import com.meonghae.communityservice.dto.comment.CommentParentDto;
 import com.meonghae.communityservice.dto.comment.CommentRequest;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.exception.custom.BoardException;
 import com.meonghae.communityservice.exception.custom.CommentException;
 import lombok.Builder;
@@ -18,9 +20,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.meonghae.communityservice.exception.error.ErrorCode.*;
 
@@ -42,11 +49,26 @@ public class BoardCommentService {
         PageRequest request = PageRequest.of(page - 1, 20, Sort.by(Sort.Direction.DESC, "id"));
         Slice<BoardComment> comments = commentRepository.findByBoard_IdAndParentIsNull(request, boardId);
 
-        return comments.map(comment -> {
-            String url = redisService.getProfileImage(comment.getEmail());
+        return comments.map(toParentDto(board, comments.getContent()));
+    }
+
+    public CursorSlice<CommentParentDto> getParentComments(String cursor, Long boardId) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new BoardException(BAD_REQUEST, "board is not exist"));
+        CursorSlice<BoardComment> comments = commentRepository
+                .findByBoard_IdAndParentIsNull(decodeCursor(cursor), 20, boardId);
+
+        return comments.map(toParentDto(board, comments.getContent()));
+    }
+
+    private Function<BoardComment, CommentParentDto> toParentDto(Board board, List<BoardComment> comments) {
+        Map<String, String> profileImages = getProfileImages(comments);
+
+        return comment -> {
+            String url = profileImages.get(comment.getEmail());
             return Objects.equals(comment.getEmail(), board.getEmail()) ?
                     new CommentParentDto(comment, url, true) : new CommentParentDto(comment, url, false);
-        });
+        };
     }
 
     public Slice<CommentChildDto> getChildComments(int page, Long parentId) {
@@ -56,9 +78,10 @@ public class BoardCommentService {
         }
         PageRequest request = PageRequest.of(page - 1, 20, Sort.by(Sort.Direction.ASC, "id"));
         Slice<BoardComment> childComments = commentRepository.findByParent_Id(request, parent.getId());
+        Map<String, String> profileImages = getProfileImages(childComments.getContent());
 
         return childComments.map(comment -> {
-            String url = redisService.getProfileImage(comment.getEmail());
+            String url = profileImages.get(comment.getEmail());
             return Objects.equals(comment.getBoard().getEmail(), comment.getEmail()) ?
                     new CommentChildDto(comment, parentId, url, true) :
                     new CommentChildDto(comment, parentId, url, false);
@@ -73,7 +96,9 @@ public class BoardCommentService {
         BoardComment parent = createComment(findBoard, requestDto, token);
 //        fcmService.pushMessage(findBoard, requestDto);
 
-        return commentRepository.save(parent);
+        BoardComment saved = commentRepository.save(parent);
+        boardRepository.increaseCommentCount(boardId, 1);
+        return saved;
     }
 
     @Transactional
@@ -87,7 +112,9 @@ public class BoardCommentService {
 
         BoardComment child = createComment(parent.getBoard(), requestDto, token);
 
-        return commentRepository.saveChild(parent, child);
+        BoardComment saved = commentRepository.saveChild(parent, child);
+        boardRepository.increaseCommentCount(parent.getBoard().getId(), 1);
+        return saved;
     }
 
     @Transactional
@@ -109,7 +136,35 @@ public class BoardCommentService {
         if (!comment.getEmail().equals(userService.getUserEmail(token))) {
             throw new CommentException(UNAUTHORIZED, "댓글 작성자만 삭제 가능합니다.");
         }
+        // 부모 댓글 삭제 시 대댓글도 함께 삭제된다.
+        int deleted = 1 + comment.getReplies().size();
         commentRepository.delete(id);
+        boardRepository.increaseCommentCount(comment.getBoard().getId(), -deleted);
+    }
+
+    // 원자적 증감과 실제 댓글 수가 어긋난 경우(컬럼 추가 전 데이터, 수동 삭제 등) 보정
+    // 게시글 id 구간별로 짧은 트랜잭션을 나눠 실행해 board 테이블을 오래 잠그지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int repairCommentCounts(int chunkSize) {
+        long maxId = boardRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            updated += boardRepository.repairCommentCount(fromId, fromId + chunkSize - 1);
+        }
+        return updated;
+    }
+
+    private Map<String, String> getProfileImages(List<BoardComment> comments) {
+        return redisService.getProfileImages(comments.stream()
+                .map(BoardComment::getEmail).collect(Collectors.toSet()));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            return Cursor.decode(cursor, CommentRepository.ID_CURSOR, Cursor.KeyType.INT);
+        } catch (IllegalArgumentException e) {
+            throw new CommentException(BAD_REQUEST, "잘못된 cursor 입니다.");
+        }
     }
 
     private BoardComment createComment(Board findBoard, CommentRequest requestDto, String token) {
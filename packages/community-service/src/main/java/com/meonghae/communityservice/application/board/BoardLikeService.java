@@ -2,6 +2,8 @@ package com.meonghae.communityservice.application.board;
 
 import com.meonghae.communityservice.application.board.port.BoardLikeRepository;
 import com.meonghae.communityservice.application.board.port.BoardRepository;
+import com.meonghae.communityservice.application.port.ReactionBufferPort;
+import com.meonghae.communityservice.application.port.RedisPort;
 import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.domain.board.Board;
 import com.meonghae.communityservice.domain.board.BoardLike;
@@ -24,45 +26,37 @@ public class BoardLikeService {
     private final BoardLikeRepository likeRepository;
     private final BoardRepository boardRepository;
     private final UserServicePort userService;
+    private final RedisPort redisService;
+    private final ReactionBufferPort reactionBuffer;
 
+    // 좋아요 행 upsert + 게시글 좋아요 수 증감 두 번의 쓰기로 처리
+    // 게시글 전체를 읽고 다시 저장하지 않으므로 동시에 좋아요가 몰려도 갱신이 유실되지 않는다.
     @Transactional
     public String toggleLike(Long id, String token) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new BoardException(BAD_REQUEST, "board is not exist"));
         String email = userService.getUserEmail(token);
-        BoardLike like = likeRepository.findByEmailAndBoardEntity_Id(email, id);
 
-        // 좋아요
-        if (like != null) {
-            if (like.getStatus()) {
-                cancelLike(like, board);
-                return "추천 취소";
-            } else {
-                addLike(like, board);
-                return "추천 완료";
-            }
+        boolean liked;
+        if (reactionBuffer.isEnabled()) {
+            // Redis 에 기록하고 바로 응답 -> DB 반영은 주기적으로 모아서 처리
+            liked = reactionBuffer.toggleBoardLike(email, id, () -> isLiked(email, id));
         } else {
-            like = BoardLike.create(email, board);
-            likeRepository.save(like);
-            board.incrementLikes();
-            boardRepository.save(board);
-            return "추천 완료";
+            liked = likeRepository.toggle(email, id);
+            boardRepository.increaseLikes(id, liked ? 1 : -1);
         }
-    }
 
-    private void addLike(BoardLike like, Board board) {
-        like.toggleLike();
-        likeRepository.save(like);
-
-        board.incrementLikes();
-        boardRepository.save(board);
+        if (liked) {
+            board.incrementLikes();
+        } else {
+            board.decrementLikes();
+        }
+        MainBoardHighlights.evictIfAffected(redisService, board);
+        return liked ? "추천 완료" : "추천 취소";
     }
 
-    private void cancelLike(BoardLike like, Board board) {
-        like.toggleLike();
-        likeRepository.save(like);
-
-        board.decrementLikes();
-        boardRepository.save(board);
+    private boolean isLiked(String email, Long boardId) {
+        BoardLike like = likeRepository.findByEmailAndBoardEntity_Id(email, boardId);
+        return like != null && like.getStatus();
     }
 }
@@ -1,7 +1,8 @@
 package com.meonghae.communityservice.application.board;
 
 import com.meonghae.communityservice.application.board.port.BoardLikeRepository;
-import com.meonghae.communityservice.application.board.port.CommentRepository;
+import com.meonghae.communityservice.application.port.ImageOutboxPort;
+import com.meonghae.communityservice.application.port.ReactionBufferPort;
 import com.meonghae.communityservice.application.port.RedisPort;
 import com.meonghae.communityservice.application.board.port.BoardRepository;
 import com.meonghae.communityservice.application.port.S3ServicePort;
@@ -9,6 +10,8 @@ import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.domain.board.Board;
 import com.meonghae.communityservice.domain.board.BoardLike;
 import com.meonghae.communityservice.dto.board.*;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.dto.s3.S3RequestDto;
 import com.meonghae.communityservice.dto.s3.S3ResponseDto;
 import com.meonghae.communityservice.dto.s3.S3UpdateDto;
@@ -27,6 +30,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.meonghae.communityservice.exception.error.ErrorCode.*;
@@ -39,10 +43,11 @@ import static com.meonghae.communityservice.exception.error.ErrorCode.*;
 public class BoardService {
     private final BoardRepository boardRepository;
     private final BoardLikeRepository likeRepository;
-    private final CommentRepository commentRepository;
     private final RedisPort redisService;
     private final UserServicePort userService;
     private final S3ServicePort s3Service;
+    private final ImageOutboxPort imageOutbox;
+    private final ReactionBufferPort reactionBuffer;
 
     public Slice<BoardListDto> getBoardList(int typeKey, int page) {
         BoardType type = BoardType.findWithKey(typeKey);
@@ -50,15 +55,41 @@ public class BoardService {
                 Sort.by(Sort.Direction.DESC, "createdDate"));
         Slice<Board> list = boardRepository.findByType(type, request);
 
-        List<Long> boardIds = list.getContent().stream().map(Board::getId).collect(Collectors.toList());
+        return list.map(toListDto(list.getContent()));
+    }
+
+    // 무한 스크롤용 커서 조회 -> 페이지가 깊어져도 offset 만큼 스캔하지 않는다.
+    public CursorSlice<BoardListDto> getBoardList(int typeKey, String cursor) {
+        BoardType type = BoardType.findWithKey(typeKey);
+        CursorSlice<Board> list = boardRepository.findByType(type, decodeCursor(cursor), 20);
 
-        Map<Long, Long> commentCount = commentRepository.findCommentCountByBoardIds(boardIds);
+        return list.map(toListDto(list.getContent()));
+    }
+
+    private Function<Board, BoardListDto> toListDto(List<Board> boards) {
+        applyPendingLikes(boards);
+        Map<String, String> profileImages = redisService.getProfileImages(boards.stream()
+                .map(Board::getEmail).collect(Collectors.toSet()));
 
-        return list.map(board -> {
-            String url = redisService.getProfileImage(board.getEmail());
-            int commentSize = commentCount.getOrDefault(board.getId(), 0L).intValue();
-            return new BoardListDto(board, url, commentSize);
-        });
+        return board -> {
+            String url = profileImages.get(board.getEmail());
+            return new BoardListDto(board, url, board.getCommentCount());
+        };
+    }
+
+    // 쓰기 지연 모드에서 아직 DB 에 반영되지 않은 좋아요를 더한다.
+    private void applyPendingLikes(List<Board> boards) {
+        Map<Long, Integer> pending = reactionBuffer.getPendingBoardLikes(boards.stream()
+                .map(Board::getId).collect(Collectors.toList()));
+        boards.forEach(board -> board.applyPendingLikes(pending.getOrDefault(board.getId(), 0)));
+    }
+
+    private Cursor decodeCursor(String cursor) {
+        try {
+            return Cursor.decode(cursor, BoardRepository.LATEST_CURSOR, Cursor.KeyType.DATE);
+        } catch (IllegalArgumentException e) {
+            throw new BoardException(BAD_REQUEST, "잘못된 cursor 입니다.");
+        }
     }
 
     public BoardDetailDto getBoard(Long id, String token) {
@@ -66,13 +97,17 @@ public class BoardService {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new BoardException(BAD_REQUEST, "board is not exist"));
 
-        BoardLike like = likeRepository.findByEmailAndBoardEntity_Id(userEmail, id);
-        int commentCount = commentRepository.countByBoardId(board.getId());
+        applyPendingLikes(List.of(board));
 
-        boolean likeStatus = like != null ? like.getStatus() : false;
+        // DB 에 반영 전인 버퍼 상태가 있으면 그 값이 최신
+        Boolean likeStatus = reactionBuffer.findBoardLikeStatus(userEmail, id);
+        if (likeStatus == null) {
+            BoardLike like = likeRepository.findByEmailAndBoardEntity_Id(userEmail, id);
+            likeStatus = like != null ? like.getStatus() : false;
+        }
         boolean isWriter = Objects.equals(board.getEmail(), userEmail);
         String url = redisService.getProfileImage(board.getEmail());
-        BoardDetailDto detailDto = new BoardDetailDto(board, url, likeStatus, isWriter, commentCount);
+        BoardDetailDto detailDto = new BoardDetailDto(board, url, likeStatus, isWriter, board.getCommentCount());
 
         if (board.getHasImage()) {
             List<S3ResponseDto> images = s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"));
@@ -82,16 +117,22 @@ public class BoardService {
         return detailDto;
     }
 
+    // 캐시 한 번 조회로 응답 -> 좋아요/작성/삭제로 순위가 바뀔 때와 주기적 재계산 시에만 DB 조회
     public List<BoardMainDto> getMainBoard() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Board> boardList = boardRepository.findBoardListForMain(now);
-
-        Map<Long, Long> commentCount = commentRepository.findCommentCountByBoardIds(boardList.stream()
-                .map(Board::getId).collect(Collectors.toList()));
+        List<BoardMainDto> cached = redisService.getMainBoards();
+        if (cached != null) {
+            return cached;
+        }
+        return refreshMainBoard();
+    }
 
-        return boardList.stream().map(board -> new BoardMainDto(board,
-                        commentCount.getOrDefault(board.getId(), 0L).intValue()))
+    public List<BoardMainDto> refreshMainBoard() {
+        LocalDateTime now = LocalDateTime.now();
+        List<BoardMainDto> mainBoards = boardRepository.findBoardListForMain(now).stream()
+                .map(board -> new BoardMainDto(board, board.getCommentCount()))
                 .collect(Collectors.toList());
+        redisService.saveMainBoards(mainBoards);
+        return mainBoards;
     }
 
     @Transactional
@@ -101,10 +142,16 @@ public class BoardService {
 
         Board board = Board.create(requestDto, type, email);
         Board savedBoard = boardRepository.save(board);
+        MainBoardHighlights.evictIfAffected(redisService, savedBoard);
 
         List<MultipartFile> images = requestDto.getImages();
         if (!CollectionUtils.isEmpty(images)) {
             imageCheck(savedBoard, images);
+            if (imageOutbox.isEnabled()) {
+                // 비동기 업로드 -> 업로드 완료 시 hasImage 변경
+                imageOutbox.reserve("BOARD", savedBoard.getId(), images);
+                return savedBoard;
+            }
             S3RequestDto s3Dto = new S3RequestDto(savedBoard.getId(), "BOARD");
             s3Service.uploadImage(images, s3Dto);
             savedBoard.toggleHasImage();
@@ -130,6 +177,7 @@ public class BoardService {
             throw new BoardException(UNAUTHORIZED, "글 작성자만 수정 가능합니다.");
         }
         Board updateBoard = board.updateBoard(updateDto.getTitle(), updateDto.getContent());
+        MainBoardHighlights.evictIfHighlighted(redisService, board.getId());
 
         S3RequestDto requestDto = new S3RequestDto(board.getId(), "BOARD");
         List<MultipartFile> images = updateDto.getImages(); // 새롭게 저장할 이미지 데이터
@@ -137,6 +185,10 @@ public class BoardService {
         // 기존 이미지 없음 & 새로운 이미지 있음 -> 업로드 + 이미지 상태변경
         if (!updateBoard.getHasImage() && !CollectionUtils.isEmpty(images)) {
             imageCheck(updateBoard, images); // 새로운 이미지 검증
+            if (imageOutbox.isEnabled()) {
+                imageOutbox.reserve("BOARD", updateBoard.getId(), images);
+                return boardRepository.update(updateBoard);
+            }
             s3Service.uploadImage(images, requestDto);
             updateBoard.toggleHasImage();
             return boardRepository.update(updateBoard);
@@ -170,6 +222,7 @@ public class BoardService {
         S3RequestDto requestDto = new S3RequestDto(board.getId(), "BOARD");
         s3Service.deleteImage(requestDto);
         boardRepository.delete(id);
+        MainBoardHighlights.evictIfHighlighted(redisService, id);
     }
 
     private void imageCheck(Board savedBoard, List<MultipartFile> images) {
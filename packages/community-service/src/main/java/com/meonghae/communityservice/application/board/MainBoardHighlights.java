@@ -0,0 +1,57 @@
+package com.meonghae.communityservice.application.board;
+
+import com.meonghae.communityservice.application.port.RedisPort;
+import com.meonghae.communityservice.domain.board.Board;
+import com.meonghae.communityservice.dto.board.BoardMainDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 메인 페이지 인기게시글(타입별 전날 0시 이후 좋아요 1위, 동점이면 최신글) 캐시의 무효화 판단.
+ * 좋아요/작성/삭제마다 캐시를 지우면 가장 많이 호출되는 메인 화면이 매번 재계산되므로
+ * 순위를 바꿀 수 있는 변경일 때만 지운다.
+ */
+final class MainBoardHighlights {
+
+    private MainBoardHighlights() {
+    }
+
+    static void evictIfAffected(RedisPort redisService, Board board) {
+        if (isAffectedBy(redisService.getMainBoards(), board, LocalDateTime.now())) {
+            redisService.deleteMainBoards();
+        }
+    }
+
+    // 제목/이미지 여부만 바뀌는 경우 -> 현재 인기게시글일 때만 다시 계산
+    static void evictIfHighlighted(RedisPort redisService, Long boardId) {
+        List<BoardMainDto> highlights = redisService.getMainBoards();
+        if (highlights != null && highlights.stream().anyMatch(highlight -> Objects.equals(highlight.getId(), boardId))) {
+            redisService.deleteMainBoards();
+        }
+    }
+
+    static LocalDateTime windowStart(LocalDateTime now) {
+        return now.minusDays(1).toLocalDate().atStartOfDay();
+    }
+
+    static boolean isAffectedBy(List<BoardMainDto> highlights, Board board, LocalDateTime now) {
+        if (highlights == null) {
+            return false;
+        }
+        if (board.getCreatedDate() != null && board.getCreatedDate().isBefore(windowStart(now))) {
+            return false;
+        }
+
+        Optional<BoardMainDto> current = highlights.stream()
+                .filter(highlight -> highlight.getType() == board.getType())
+                .findAny();
+        if (current.isEmpty() || Objects.equals(current.get().getId(), board.getId())) {
+            return true;
+        }
+        // 동점이면 최신글이 우선이므로 같은 좋아요 수도 순위가 바뀔 수 있다.
+        return board.getLikes() >= current.get().getLikes();
+    }
+}
@@ -6,4 +6,6 @@ public interface BoardLikeRepository {
     BoardLike findByEmailAndBoardEntity_Id(String email, Long boardId);
 
     BoardLike save(BoardLike newLike);
+
+    boolean toggle(String email, Long boardId);
 }
@@ -2,6 +2,8 @@ package com.meonghae.communityservice.application.board.port;
 
 import com.meonghae.communityservice.domain.board.Board;
 import com.meonghae.communityservice.domain.board.BoardType;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -10,10 +12,18 @@ import java.util.List;
 import java.util.Optional;
 
 public interface BoardRepository {
+    // findByType 커서의 정렬 (createdDate, id 내림차순)
+    String LATEST_CURSOR = "LATEST";
+
     Optional<Board> findById(Long id);
     Slice<Board> findByType(BoardType type, Pageable pageable);
+    CursorSlice<Board> findByType(BoardType type, Cursor cursor, int size);
     List<Board> findBoardListForMain(LocalDateTime now);
     Board save(Board board);
     void delete(Long id);
     Board update(Board updateBoard);
+    void increaseLikes(Long boardId, int delta);
+    void increaseCommentCount(Long boardId, int delta);
+    int repairCommentCount(Long fromId, Long toId);
+    Long findMaxId();
 }
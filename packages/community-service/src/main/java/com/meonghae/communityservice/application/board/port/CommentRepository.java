@@ -1,27 +1,28 @@
 package com.meonghae.communityservice.application.board.port;
 
 import com.meonghae.communityservice.domain.board.BoardComment;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public interface CommentRepository {
+    // 부모 댓글 커서의 정렬 (id 내림차순)
+    String ID_CURSOR = "ID";
+
     Optional<BoardComment> findById(Long commentId);
 
     Slice<BoardComment> findByBoard_IdAndParentIsNull(Pageable pageable, Long boardId);
 
-    Slice<BoardComment> findByParent_Id(Pageable pageable, Long parentId);
+    CursorSlice<BoardComment> findByBoard_IdAndParentIsNull(Cursor cursor, int size, Long boardId);
 
-    Map<Long, Long> findCommentCountByBoardIds(List<Long> boardIds);
+    Slice<BoardComment> findByParent_Id(Pageable pageable, Long parentId);
 
     BoardComment save(BoardComment comment);
 
     BoardComment saveChild(BoardComment parent, BoardComment child);
 
     void delete(Long commentId);
-
-    int countByBoardId(Long boardId);
 }
@@ -0,0 +1,31 @@
+package com.meonghae.communityservice.application.port;
+
+import com.meonghae.communityservice.domain.upload.ImageOutbox;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageOutboxPort {
+    // 비동기 업로드 모드 여부
+    boolean isEnabled();
+
+    // 이미지를 업로드 작업과 함께 저장한다. (게시글 트랜잭션에 포함, 커밋 후 업로드)
+    ImageOutbox reserve(String entityType, Long entityId, List<MultipartFile> images);
+
+    // 대기 중이거나 처리 기한이 지난 작업을 PROCESSING 으로 선점한다.
+    // 다른 스레드나 인스턴스가 먼저 선점했으면 empty
+    Optional<ImageOutbox> claim(Long outboxId);
+
+    Optional<ImageOutbox> findById(Long outboxId);
+
+    // before 이전에 등록된 대기 작업과 처리 기한이 지난 작업
+    List<ImageOutbox> findRetryTargets(LocalDateTime before);
+
+    List<MultipartFile> loadImages(ImageOutbox outbox);
+
+    void update(ImageOutbox outbox);
+
+    void deleteImages(ImageOutbox outbox);
+}
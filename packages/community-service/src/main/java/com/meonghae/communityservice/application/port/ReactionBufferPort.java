@@ -0,0 +1,30 @@
+package com.meonghae.communityservice.application.port;
+
+import com.meonghae.communityservice.domain.review.RecommendStatus;
+import com.meonghae.communityservice.dto.review.PendingReaction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public interface ReactionBufferPort {
+    // 쓰기 지연(write-behind) 모드 여부 -> 꺼져 있으면 조회 메서드는 빈 값을 반환한다.
+    boolean isEnabled();
+
+    // 게시글 좋아요 상태를 반전하고 반전된 상태를 반환
+    // 버퍼에 해당 사용자의 상태가 없으면 currentStatus 로 DB 상태를 읽어 기준으로 삼는다.
+    boolean toggleBoardLike(String email, Long boardId, Supplier<Boolean> currentStatus);
+
+    // 리뷰 추천/비추천을 반영하고 반영 전 상태를 반환 (null: 없음, true: 추천, false: 비추천)
+    Boolean toggleReviewReaction(String email, Long reviewId, boolean isLike, Supplier<Boolean> currentStatus);
+
+    // 버퍼에 기록된 사용자 상태 (DB 반영 전이라도 버퍼 상태가 최신)
+    Boolean findBoardLikeStatus(String email, Long boardId);
+
+    Map<Long, RecommendStatus> findReviewReactions(String email, Collection<Long> reviewIds);
+
+    // 아직 DB 에 반영되지 않은 증감량
+    Map<Long, Integer> getPendingBoardLikes(Collection<Long> boardIds);
+
+    Map<Long, PendingReaction> getPendingReviewReactions(Collection<Long> reviewIds);
+}
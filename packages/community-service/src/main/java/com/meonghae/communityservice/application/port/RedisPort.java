@@ -1,14 +1,33 @@
 package com.meonghae.communityservice.application.port;
 
+import com.meonghae.communityservice.dto.board.BoardMainDto;
 import com.meonghae.communityservice.dto.s3.S3ResponseDto;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface RedisPort {
      String getNickname(String email);
 
+     Map<String, String> getNicknames(Collection<String> emails);
+
      String getProfileImage(String email);
 
+     Map<String, String> getProfileImages(Collection<String> emails);
+
      List<S3ResponseDto> getReviewImages(Long reviewId);
 
+     // 리뷰 목록용 썸네일
+     Map<Long, List<S3ResponseDto>> getReviewImages(Collection<Long> reviewIds);
+
      String getFcmToken(String email);
+
+     // 캐시가 없으면 null
+     List<BoardMainDto> getMainBoards();
+
+     void saveMainBoards(List<BoardMainDto> mainBoards);
+
+     // 트랜잭션 안에서 호출되면 커밋 이후에 삭제한다.
+     void deleteMainBoards();
 }
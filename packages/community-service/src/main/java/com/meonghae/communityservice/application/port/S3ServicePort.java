@@ -8,12 +8,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 public interface S3ServicePort {
     List<S3ResponseDto> getImages(S3RequestDto requestDto);
 
+    // 목록 화면용 썸네일 URL 을 엔티티 id 별로 조회
+    Map<Long, List<S3ResponseDto>> getImages(String entityType, List<Long> entityIds);
+
     UserImageDto getUserImage(String email);
 
+    List<UserImageDto> getUserImages(List<String> emails);
+
     ResponseEntity<String> uploadImage(List<MultipartFile> files, S3RequestDto data);
 
     ResponseEntity<String> updateImage(List<MultipartFile> files, List<S3UpdateDto> dataList);
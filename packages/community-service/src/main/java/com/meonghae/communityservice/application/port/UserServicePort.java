@@ -2,10 +2,15 @@ package com.meonghae.communityservice.application.port;
 
 import com.meonghae.communityservice.dto.fcm.FcmDto;
 
+import java.util.List;
+import java.util.Map;
+
 public interface UserServicePort {
     String getUserEmail(String token);
 
     String getNickname(String email);
 
+    Map<String, String> getNicknames(List<String> emails);
+
     FcmDto getFCMToken(String email);
 }
@@ -0,0 +1,39 @@
+package com.meonghae.communityservice.application.review;
+
+import com.meonghae.communityservice.application.review.port.ReactionRepository;
+import com.meonghae.communityservice.application.review.port.ReviewRepository;
+import com.meonghae.communityservice.domain.review.ReactionTransition;
+import com.meonghae.communityservice.exception.custom.ReviewException;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.meonghae.communityservice.exception.error.ErrorCode.NOT_FOUND;
+
+/**
+ * 리뷰 추천/비추천 토글을 DB 에서 바로 반영한다.
+ * 리뷰 행을 먼저 잠그고, 반응 행은 upsert 한 번으로 만들거나 반전한 뒤, 상태 전이에 따른 증감량만 review 에 update 한다.
+ * 리뷰/반응 엔티티를 다시 읽어 병합하지 않으므로 같은 리뷰에 동시 요청이 몰려도 카운터가 어긋나지 않는다.
+ * 잠금 순서는 항상 리뷰 행 -> 반응 행이라 요청끼리 교착되지 않는다.
+ */
+@Component
+@Builder
+@RequiredArgsConstructor
+public class ReviewReactionEngine {
+    private final ReactionRepository reactionRepository;
+    private final ReviewRepository reviewRepository;
+
+    @Transactional
+    public ReactionTransition toggle(String email, Long reviewId, boolean isLike) {
+        // 같은 리뷰의 요청은 리뷰 행 잠금으로 직렬화된다. (커밋 시 해제, 카운터 update 도 어차피 이 잠금을 잡는다)
+        if (!reviewRepository.lockForReaction(reviewId)) {
+            throw new ReviewException(NOT_FOUND, "review is not exist");
+        }
+        ReactionTransition transition = reactionRepository.toggle(email, reviewId, isLike)
+                .orElseThrow(() -> new ReviewException(NOT_FOUND, "review is not exist"));
+
+        reviewRepository.increaseReactions(reviewId, transition.getLikes(), transition.getDislikes());
+        return transition;
+    }
+}
@@ -1,10 +1,13 @@
 package com.meonghae.communityservice.application.review;
 
+import com.meonghae.communityservice.application.port.ReactionBufferPort;
 import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.application.review.port.ReactionRepository;
 import com.meonghae.communityservice.application.review.port.ReviewRepository;
+import com.meonghae.communityservice.domain.review.ReactionTransition;
 import com.meonghae.communityservice.domain.review.Review;
 import com.meonghae.communityservice.domain.review.ReviewReaction;
+import com.meonghae.communityservice.dto.review.PendingReaction;
 import com.meonghae.communityservice.dto.review.ReviewReactionType;
 import com.meonghae.communityservice.domain.review.RecommendStatus;
 import com.meonghae.communityservice.exception.custom.ReviewException;
@@ -17,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static com.meonghae.communityservice.domain.review.RecommendStatus.*;
 import static com.meonghae.communityservice.exception.error.ErrorCode.*;
@@ -30,37 +34,30 @@ public class ReviewReactionService {
     private final ReactionRepository reactionRepository;
     private final ReviewRepository reviewRepository;
     private final UserServicePort userService;
+    private final ReactionBufferPort reactionBuffer;
+    private final ReviewReactionEngine reactionEngine;
 
     @Transactional
     public String toggleRecommendedReview(Long reviewId, String token, ReviewReactionType typeDto) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new ReviewException(NOT_FOUND, "review is not exist"));
-
         String email = userService.getUserEmail(token);
-        ReviewReaction reaction = reactionRepository.findByEmailAndReviewEntity_Id(email, reviewId);
         Boolean isLikes = typeDto.getIsLike();
-        if (reaction == null) {
-            ReviewReaction newReaction = ReviewReaction.create(email, review, isLikes);
-            reactionRepository.save(newReaction);
-            reviewRepository.updateReaction(review);
-            if (isLikes) {
-                return "추천 완료";
-            } else {
-                return "비추 완료";
-            }
-        } else {
-            String res = getMessageForReactionChange(reaction, isLikes);
-            reaction.updateStatus(isLikes);
-            review = reaction.getReview();
-            reactionRepository.save(reaction);
-            reviewRepository.updateReaction(review);
-            return res;
+        if (reactionBuffer.isEnabled()) {
+            reviewRepository.findById(reviewId)
+                    .orElseThrow(() -> new ReviewException(NOT_FOUND, "review is not exist"));
+            // Redis 에 기록하고 바로 응답 -> DB 반영은 주기적으로 모아서 처리
+            Boolean oldStatus = reactionBuffer.toggleReviewReaction(email, reviewId, isLikes, () -> {
+                ReviewReaction saved = reactionRepository.findByEmailAndReviewEntity_Id(email, reviewId);
+                return saved != null ? saved.getRecommendStatus() : null;
+            });
+            return getMessageForReactionChange(oldStatus, isLikes);
         }
-    }
 
-    private String getMessageForReactionChange(ReviewReaction reaction, Boolean isLike) {
-        Boolean oldStatus = reaction.getRecommendStatus();
+        // 리뷰 존재 확인은 엔진의 upsert 가 함께 한다.
+        ReactionTransition transition = reactionEngine.toggle(email, reviewId, isLikes);
+        return getMessageForReactionChange(transition.getOldStatus(), isLikes);
+    }
 
+    private String getMessageForReactionChange(Boolean oldStatus, Boolean isLike) {
         if(isLike) {
             if(oldStatus == null || !oldStatus) {
                 return "추천 완료";
@@ -91,9 +88,23 @@ public class ReviewReactionService {
             }
             reviewReactions.put(reaction.getReview().getId(), status);
         }
+        // DB 에 반영 전인 버퍼 상태가 있으면 그 값이 최신
+        reviewReactions.putAll(reactionBuffer.findReviewReactions(email, reviewIds));
         return reviewReactions;
     }
 
+    // 쓰기 지연 모드에서 아직 DB 에 반영되지 않은 추천/비추천을 더한다.
+    public void applyPendingReactions(List<Review> reviews) {
+        Map<Long, PendingReaction> pending = reactionBuffer.getPendingReviewReactions(reviews.stream()
+                .map(Review::getId).collect(Collectors.toList()));
+        reviews.forEach(review -> {
+            PendingReaction reaction = pending.get(review.getId());
+            if (reaction != null) {
+                review.applyReaction(reaction.getLikes(), reaction.getDislikes());
+            }
+        });
+    }
+
 // 성능 문제 발생 => 쿼리 튜닝을 위한 로직 수정
 //    public RecommendStatus getReviewReaction(Review review, String token) {
 //        String email = userService.getUserEmail(token);
@@ -1,10 +1,13 @@
 package com.meonghae.communityservice.application.review;
 
+import com.meonghae.communityservice.application.port.ImageOutboxPort;
 import com.meonghae.communityservice.application.port.RedisPort;
 import com.meonghae.communityservice.application.port.S3ServicePort;
 import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.application.review.port.ReviewRepository;
 import com.meonghae.communityservice.domain.review.Review;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.dto.review.ReviewListDto;
 import com.meonghae.communityservice.dto.review.ReviewRequest;
 import com.meonghae.communityservice.dto.s3.S3RequestDto;
@@ -20,11 +23,15 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.meonghae.communityservice.exception.error.ErrorCode.*;
@@ -40,24 +47,60 @@ public class ReviewService {
     private final RedisPort redisService;
     private final UserServicePort userService;
     private final S3ServicePort s3Service;
+    private final ImageOutboxPort imageOutbox;
 
     public Slice<ReviewListDto> getReviewByType(int key, String token, int page,
                                                 String keyword, String sort, boolean photoOnly) {
         ReviewCatalog catalog = ReviewCatalog.findWithKey(key);
         if(catalog == null) throw new ReviewException(BAD_REQUEST, "잘못된 Catalog Type 입니다.");
-        ReviewSortType sortType = ReviewSortType.findType(sort);
+        keyword = normalizeKeyword(keyword);
+        ReviewSortType sortType = resolveSortType(sort, keyword);
         Slice<Review> reviews;
 
         reviews = photoOnly ?
                 getPagingReviewWithPhoto(page, catalog, keyword, sortType)
                 : getPagingReview(page, catalog, keyword, sortType);
 
-        List<Long> reviewIds = reviews.getContent().stream().map(Review::getId).collect(Collectors.toList());
+        return reviews.map(toListDto(reviews.getContent(), token));
+    }
+
+    // 무한 스크롤용 커서 조회 -> 페이지가 깊어져도 offset 만큼 스캔하지 않는다.
+    public CursorSlice<ReviewListDto> getReviewByType(int key, String token, String cursor,
+                                                      String keyword, String sort, boolean photoOnly) {
+        ReviewCatalog catalog = ReviewCatalog.findWithKey(key);
+        if(catalog == null) throw new ReviewException(BAD_REQUEST, "잘못된 Catalog Type 입니다.");
+        keyword = normalizeKeyword(keyword);
+        ReviewSortType sortType = resolveSortType(sort, keyword);
+
+        Cursor decoded;
+        try {
+            decoded = Cursor.decode(cursor, sortType.name(), sortType.getCursorKeyType());
+        } catch (IllegalArgumentException e) {
+            throw new ReviewException(BAD_REQUEST, "잘못된 cursor 입니다.");
+        }
+
+        CursorSlice<Review> reviews = reviewRepository.findByCatalogAndKeywordAndSortType(decoded, 15,
+                catalog, keyword, sortType, photoOnly);
+
+        return reviews.map(toListDto(reviews.getContent(), token));
+    }
+
+    private Function<Review, ReviewListDto> toListDto(List<Review> reviews, String token) {
+        reactionService.applyPendingReactions(reviews);
+        List<Long> reviewIds = reviews.stream().map(Review::getId).collect(Collectors.toList());
         Map<Long, RecommendStatus> reactions = reactionService.getReviewReactions(reviewIds, token);
 
         String email = userService.getUserEmail(token);
 
-        return reviews.map(r -> convertTypeAndAddImage(r, email, reactions.get(r.getId())));
+        Set<String> writers = reviews.stream().map(Review::getEmail).collect(Collectors.toSet());
+        Map<String, String> nicknames = redisService.getNicknames(writers);
+        Map<String, String> profileImages = redisService.getProfileImages(writers);
+        Map<Long, List<S3ResponseDto>> reviewImages = redisService.getReviewImages(reviews.stream()
+                .filter(Review::getHasImage).map(Review::getId).collect(Collectors.toList()));
+
+        return r -> convertTypeAndAddImage(r, email, reactions.get(r.getId()),
+                nicknames.get(r.getEmail()), profileImages.get(r.getEmail()),
+                reviewImages.getOrDefault(r.getId(), Collections.emptyList()));
     }
     private Slice<Review> getPagingReview(int page, ReviewCatalog catalog, String keyword, ReviewSortType sort) {
         PageRequest request;
@@ -74,6 +117,10 @@ public class ReviewService {
                 request = PageRequest.of(page - 1, 15, Sort.by(Sort.Direction.DESC, "likes")
                         .and(Sort.by(Sort.Direction.DESC, "createdDate")));
                 return reviewRepository.findByCatalogAndKeywordAndSortType(request, catalog, keyword);
+            case RELEVANCE:
+                request = PageRequest.of(page - 1, 15, Sort.by(Sort.Direction.DESC, ReviewSortType.RELEVANCE_PROPERTY)
+                        .and(Sort.by(Sort.Direction.DESC, "createdDate")));
+                return reviewRepository.findByCatalogAndKeywordAndSortType(request, catalog, keyword);
             case LATEST:
             default:
                 request = PageRequest.of(page - 1, 15,
@@ -96,6 +143,10 @@ public class ReviewService {
                 request = PageRequest.of(page - 1, 15, Sort.by(Sort.Direction.DESC, "likes")
                         .and(Sort.by(Sort.Direction.DESC, "createdDate")));
                 return reviewRepository.findByCatalogAndHasImageAndKeywordAndSortType(request, catalog, keyword);
+            case RELEVANCE:
+                request = PageRequest.of(page - 1, 15, Sort.by(Sort.Direction.DESC, ReviewSortType.RELEVANCE_PROPERTY)
+                        .and(Sort.by(Sort.Direction.DESC, "createdDate")));
+                return reviewRepository.findByCatalogAndHasImageAndKeywordAndSortType(request, catalog, keyword);
             case LATEST:
             default:
                 request = PageRequest.of(page - 1, 15,
@@ -104,6 +155,21 @@ public class ReviewService {
         }
     }
 
+    private String normalizeKeyword(String keyword) {
+        return StringUtils.hasText(keyword) ? keyword.trim() : null;
+    }
+
+    // 관련도 정렬은 FULLTEXT 로 찾을 수 있는 검색어가 있을 때만 의미가 있으므로 그 외에는 최신순으로 조회한다.
+    // 커서는 여기서 정한 정렬로 만들고 검증하므로 저장소에서 정렬을 바꾸지 않는다.
+    private ReviewSortType resolveSortType(String sort, String keyword) {
+        ReviewSortType sortType = ReviewSortType.findType(sort);
+        if (sortType == null || (sortType == ReviewSortType.RELEVANCE
+                && (keyword == null || keyword.length() < ReviewSortType.MIN_RELEVANCE_KEYWORD_LENGTH))) {
+            return ReviewSortType.LATEST;
+        }
+        return sortType;
+    }
+
     @Transactional
     public Review createReview(int key, ReviewRequest requestDto, String token) {
         ReviewCatalog catalog = ReviewCatalog.findWithKey(key);
@@ -116,6 +182,11 @@ public class ReviewService {
         List<MultipartFile> images = requestDto.getImages();
         if(images != null) {
             if(images.size() > 3) throw new ReviewException(BAD_REQUEST, "리뷰 사진은 3개까지 업로드 가능합니다.");
+            if (imageOutbox.isEnabled()) {
+                // 비동기 업로드 -> 업로드 완료 시 hasImage 변경
+                imageOutbox.reserve("REVIEW", savedReview.getId(), images);
+                return savedReview;
+            }
             S3RequestDto s3Dto = new S3RequestDto(savedReview.getId(), "REVIEW");
             s3Service.uploadImage(images, s3Dto);
             savedReview.setHasImage();
@@ -139,14 +210,12 @@ public class ReviewService {
         reviewRepository.delete(review);
     }
 
-    private ReviewListDto convertTypeAndAddImage(Review review, String email, RecommendStatus status) {
-        String nickname = redisService.getNickname(review.getEmail());
-        String url = redisService.getProfileImage(review.getEmail());
+    private ReviewListDto convertTypeAndAddImage(Review review, String email, RecommendStatus status,
+                                                 String nickname, String url, List<S3ResponseDto> images) {
         boolean isWriter = Objects.equals(review.getEmail(), email);
         ReviewListDto reviewDto = new ReviewListDto(review, nickname, url, status, isWriter);
         if (review.getHasImage()) {
-            List<S3ResponseDto> reviewImages = redisService.getReviewImages(review.getId());
-            reviewDto.setImages(reviewImages);
+            reviewDto.setImages(images);
         }
         return reviewDto;
     }
@@ -1,13 +1,30 @@
 package com.meonghae.communityservice.application.review;
 
+import com.meonghae.communityservice.dto.cursor.Cursor;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
 import java.util.Objects;
 
 @Getter
+@RequiredArgsConstructor
 public enum ReviewSortType {
-    RECOMMEND, RATING_ASC, RATING_DESC, LATEST;
+    RECOMMEND(Cursor.KeyType.INT),
+    RATING_ASC(Cursor.KeyType.INT),
+    RATING_DESC(Cursor.KeyType.INT),
+    LATEST(Cursor.KeyType.DATE),
+    // 관련도 점수는 바뀔 수 있으므로 정렬 키 대신 결과 안에서의 위치
+    RELEVANCE(Cursor.KeyType.INT);
+
+    // 커서에 담기는 정렬 키의 타입
+    private final Cursor.KeyType cursorKeyType;
+
+    // ngram 토큰(2자)보다 짧은 검색어는 FULLTEXT 로 찾을 수 없으므로 관련도 정렬을 할 수 없다.
+    public static final int MIN_RELEVANCE_KEYWORD_LENGTH = 2;
+
+    // 검색어 관련도 점수 정렬에 사용하는 가상 정렬 속성 (Sort.by(DESC, RELEVANCE_PROPERTY))
+    public static final String RELEVANCE_PROPERTY = "relevance";
 
     public static ReviewSortType findType(String sort) {
         return Arrays.stream(values()).filter(type -> Objects.equals(type.toString(), sort)).findAny().orElse(null);
@@ -1,11 +1,16 @@
 package com.meonghae.communityservice.application.review.port;
 
+import com.meonghae.communityservice.domain.review.ReactionTransition;
 import com.meonghae.communityservice.domain.review.ReviewReaction;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ReactionRepository {
     ReviewReaction findByEmailAndReviewEntity_Id(String email, Long reviewId);
     List<ReviewReaction> findByEmailAndReviewEntityIdIn(String email, List<Long> reviewIds);
     ReviewReaction save(ReviewReaction reaction);
+
+    // 반응 상태를 한 번의 upsert 로 토글하고 상태 전이를 반환 (리뷰가 없으면 empty)
+    Optional<ReactionTransition> toggle(String email, Long reviewId, boolean isLike);
 }
@@ -1,7 +1,10 @@
 package com.meonghae.communityservice.application.review.port;
 
+import com.meonghae.communityservice.application.review.ReviewSortType;
 import com.meonghae.communityservice.domain.review.Review;
 import com.meonghae.communityservice.domain.review.ReviewCatalog;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -11,10 +14,15 @@ public interface ReviewRepository {
     Optional<Review> findById(Long reviewId);
     Slice<Review> findByCatalogAndKeywordAndSortType(Pageable pageable, ReviewCatalog catalog, String keyword);
     Slice<Review> findByCatalogAndHasImageAndKeywordAndSortType(Pageable pageable, ReviewCatalog catalog, String keyword);
+    CursorSlice<Review> findByCatalogAndKeywordAndSortType(Cursor cursor, int size, ReviewCatalog catalog,
+                                                          String keyword, ReviewSortType sort, boolean photoOnly);
     Review save(Review review);
     Review update(Review review);
 
     void delete(Review review);
 
-    void updateReaction(Review review);
+    // 반응 토글 전에 리뷰 행을 배타 잠금 (리뷰가 없으면 false)
+    boolean lockForReaction(Long reviewId);
+
+    void increaseReactions(Long reviewId, int likes, int dislikes);
 }
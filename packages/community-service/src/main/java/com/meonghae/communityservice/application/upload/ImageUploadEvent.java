@@ -0,0 +1,10 @@
+package com.meonghae.communityservice.application.upload;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ImageUploadEvent {
+    private final Long outboxId;
+}
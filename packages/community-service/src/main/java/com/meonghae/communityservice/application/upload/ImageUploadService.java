@@ -0,0 +1,100 @@
+package com.meonghae.communityservice.application.upload;
+
+import com.meonghae.communityservice.application.board.port.BoardRepository;
+import com.meonghae.communityservice.application.port.ImageOutboxPort;
+import com.meonghae.communityservice.application.port.S3ServicePort;
+import com.meonghae.communityservice.application.review.port.ReviewRepository;
+import com.meonghae.communityservice.domain.board.Board;
+import com.meonghae.communityservice.domain.review.Review;
+import com.meonghae.communityservice.domain.upload.ImageOutbox;
+import com.meonghae.communityservice.dto.s3.S3RequestDto;
+import lombok.Builder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 임시 저장된 이미지를 s3-file-service 로 전송하고, 완료되면 게시글의 hasImage 를 변경한다.
+// S3 전송 중에는 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 동작한다.
+@Service
+@Slf4j
+@Builder
+@RequiredArgsConstructor
+public class ImageUploadService {
+    private final ImageOutboxPort imageOutbox;
+    private final S3ServicePort s3Service;
+    private final BoardRepository boardRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 선점에 성공한 작업만 업로드한다. -> 커밋 직후 처리와 재시도, 여러 인스턴스가 같은 작업을 중복 업로드하지 않는다.
+    public void process(Long outboxId) {
+        imageOutbox.claim(outboxId).ifPresent(this::upload);
+    }
+
+    // 커밋 직후 처리에 실패했거나 누락된 작업 재시도
+    public void retryPending(LocalDateTime before) {
+        imageOutbox.findRetryTargets(before).forEach(outbox -> process(outbox.getId()));
+    }
+
+    private void upload(ImageOutbox outbox) {
+        try {
+            if (!existsTarget(outbox)) {
+                // 업로드 전에 게시글이 삭제된 경우
+                outbox.complete();
+                imageOutbox.update(outbox);
+                imageOutbox.deleteImages(outbox);
+                return;
+            }
+
+            List<MultipartFile> images = imageOutbox.loadImages(outbox);
+            s3Service.uploadImage(images, S3RequestDto.builder()
+                    .entityId(outbox.getEntityId())
+                    .entityType(outbox.getEntityType())
+                    .uploadKey(outbox.getUploadKey())
+                    .build());
+
+            // 업로드가 끝났음을 먼저 기록한다.
+            // 이후 단계가 실패해 다시 시도하더라도 같은 멱등 키로 보내므로 이미지는 중복 저장되지 않는다.
+            outbox.complete();
+            imageOutbox.update(outbox);
+            markHasImage(outbox);
+            imageOutbox.deleteImages(outbox);
+        } catch (RuntimeException e) {
+            log.warn("image upload failed. outbox id: {}, attempts: {}", outbox.getId(), outbox.getAttempts() + 1, e);
+            outbox.fail();
+            imageOutbox.update(outbox);
+            if (outbox.isFailed()) {
+                // 더 이상 재시도하지 않으므로 임시 저장한 이미지를 지운다.
+                log.error("image upload gave up. outbox id: {}", outbox.getId());
+                imageOutbox.deleteImages(outbox);
+            }
+        }
+    }
+
+    private boolean existsTarget(ImageOutbox outbox) {
+        if ("BOARD".equals(outbox.getEntityType())) {
+            return boardRepository.findById(outbox.getEntityId()).isPresent();
+        }
+        return reviewRepository.findById(outbox.getEntityId()).isPresent();
+    }
+
+    private void markHasImage(ImageOutbox outbox) {
+        if ("BOARD".equals(outbox.getEntityType())) {
+            Optional<Board> board = boardRepository.findById(outbox.getEntityId());
+            board.filter(b -> !b.getHasImage()).ifPresent(b -> {
+                b.toggleHasImage();
+                boardRepository.update(b);
+            });
+            return;
+        }
+        Optional<Review> review = reviewRepository.findById(outbox.getEntityId());
+        review.filter(r -> !r.getHasImage()).ifPresent(r -> {
+            r.setHasImage();
+            reviewRepository.update(r);
+        });
+    }
+}
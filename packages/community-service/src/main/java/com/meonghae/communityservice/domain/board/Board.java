@@ -14,19 +14,21 @@ public class Board {
     private final String content;
     private final BoardType type;
     private int likes;
+    private final int commentCount;
     private Boolean hasImage;
     private final LocalDateTime createdDate;
     private final LocalDateTime modifiedDate;
 
     @Builder
-    public Board(Long id, String email, String title, String content, BoardType type, int likes, Boolean hasImage,
-                 LocalDateTime createdDate, LocalDateTime modifiedDate) {
+    public Board(Long id, String email, String title, String content, BoardType type, int likes, int commentCount,
+                 Boolean hasImage, LocalDateTime createdDate, LocalDateTime modifiedDate) {
         this.id = id;
         this.email = email;
         this.title = title;
         this.content = content;
         this.type = type;
         this.likes = likes;
+        this.commentCount = commentCount;
         this.hasImage = hasImage;
         this.createdDate = createdDate;
         this.modifiedDate = modifiedDate;
@@ -36,6 +38,7 @@ public class Board {
         return Board.builder()
                 .email(email)
                 .likes(0)
+                .commentCount(0)
                 .title(request.getTitle())
                 .content(request.getContent())
                 .type(type)
@@ -51,6 +54,11 @@ public class Board {
         this.likes -= 1;
     }
 
+    // 쓰기 지연 버퍼에 쌓여 아직 DB 에 반영되지 않은 좋아요
+    public void applyPendingLikes(int delta) {
+        this.likes += delta;
+    }
+
     public Board updateBoard(String title, String content) {
         return Board.builder()
                 .id(this.id)
@@ -59,6 +67,7 @@ public class Board {
                 .content(content)
                 .type(this.type)
                 .likes(this.likes)
+                .commentCount(this.commentCount)
                 .hasImage(this.hasImage)
                 .createdDate(this.createdDate)
                 .build();
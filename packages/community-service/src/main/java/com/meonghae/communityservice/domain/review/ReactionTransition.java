@@ -0,0 +1,44 @@
+package com.meonghae.communityservice.domain.review;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 리뷰 추천/비추천 상태 전이와 그에 따른 추천 수/비추천 수 증감량
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReactionTransition {
+    private final Boolean oldStatus;
+    private final Boolean status;
+    private final int likes;
+    private final int dislikes;
+
+    // 1. 좋아요 눌렀을 때 => boolean 값 판단
+    // 1-1. 좋아요 취소 (상태 true 인 경우)
+    // 1-2. 좋아요 반영 (상태 null 인 경우)
+    // 1-3. 좋아요 반영 및 싫어요 취소 (상태 false 인 경우)
+
+    // 2. 싫어요 눌렀을 때
+    // 2-1. 싫어요 취소 (상태 false 인 경우)
+    // 2-2. 싫어요 반영 (상태 null 인 경우)
+    // 2-3. 싫어요 반영 및 좋아요 취소 (상태 true 인 경우)
+    public static ReactionTransition of(Boolean oldStatus, boolean isLike) {
+        if (isLike) {
+            if (oldStatus == null) {
+                return new ReactionTransition(null, true, 1, 0);
+            } else if (oldStatus) {
+                return new ReactionTransition(true, null, -1, 0);
+            } else {
+                return new ReactionTransition(false, true, 1, -1);
+            }
+        } else {
+            if (oldStatus == null) {
+                return new ReactionTransition(null, false, 0, 1);
+            } else if (oldStatus) {
+                return new ReactionTransition(true, false, -1, 1);
+            } else {
+                return new ReactionTransition(false, null, 0, -1);
+            }
+        }
+    }
+}
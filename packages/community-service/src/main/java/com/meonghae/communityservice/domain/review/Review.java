@@ -75,6 +75,12 @@ public class Review {
         this.dislikes--;
     }
 
+    // 추천/비추천 증감 반영 (상태 전이 결과 또는 쓰기 지연 버퍼에 쌓인 증감량)
+    public void applyReaction(int likes, int dislikes) {
+        this.likes += likes;
+        this.dislikes += dislikes;
+    }
+
     public void setHasImage() {
         this.hasImage = true;
     }
@@ -33,38 +33,8 @@ public class ReviewReaction {
     }
 
     public void updateStatus(Boolean isLike) {
-        Boolean oldStatus = this.getRecommendStatus();
-        this.recommendStatus = isLike;
-
-        // 1. 좋아요 눌렀을 때 => boolean 값 판단
-        // 1-1. 좋아요 취소 (상태 true 인 경우)
-        // 1-2. 좋아요 반영 (상태 null 인 경우)
-        // 1-3. 좋아요 반영 및 싫어요 취소 (상태 false 인 경우)
-
-        // 2. 싫어요 눌렀을 때
-        // 2-1. 싫어요 취소 (상태 false 인 경우)
-        // 2-2. 싫어요 반영 (상태 null 인 경우)
-        // 2-3. 싫어요 반영 및 좋아요 취소 (상태 true 인 경우)
-        if(isLike) {
-            if(oldStatus == null) {
-                this.review.addLikes();
-            } else if (oldStatus) {
-                this.recommendStatus = null;
-                this.review.cancelLikes();
-            } else {
-                this.review.cancelDislikes();
-                this.review.addLikes();
-            }
-        } else {
-            if(oldStatus == null) {
-                this.review.addDislikes();
-            } else if (oldStatus) {
-                this.review.cancelLikes();
-                this.review.addDislikes();
-            } else {
-                this.recommendStatus = null;
-                this.review.cancelDislikes();
-            }
-        }
+        ReactionTransition transition = ReactionTransition.of(this.recommendStatus, isLike);
+        this.recommendStatus = transition.getStatus();
+        this.review.applyReaction(transition.getLikes(), transition.getDislikes());
     }
 }
@@ -0,0 +1,77 @@
+package com.meonghae.communityservice.domain.upload;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class ImageOutbox {
+    // 최대 업로드 시도 횟수
+    public static final int MAX_ATTEMPTS = 5;
+
+    private final Long id;
+    private final String entityType;
+    private final Long entityId;
+    private OutboxStatus status;
+    private int attempts;
+    // PROCESSING 상태의 처리 기한, 지나면 다른 작업자가 다시 선점할 수 있다.
+    private LocalDateTime leaseUntil;
+    private final LocalDateTime createdDate;
+
+    @Builder
+    public ImageOutbox(Long id, String entityType, Long entityId, OutboxStatus status, int attempts,
+                       LocalDateTime leaseUntil, LocalDateTime createdDate) {
+        this.id = id;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.status = status;
+        this.attempts = attempts;
+        this.leaseUntil = leaseUntil;
+        this.createdDate = createdDate;
+    }
+
+    public static ImageOutbox create(String entityType, Long entityId) {
+        return ImageOutbox.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .build();
+    }
+
+    // s3-file-service 에 보내는 업로드 멱등 키 -> 재시도해도 같은 이미지가 두 번 저장되지 않는다.
+    public String getUploadKey() {
+        return "image-outbox:" + this.id;
+    }
+
+    public boolean isFailed() {
+        return this.status == OutboxStatus.FAILED;
+    }
+
+    public boolean isPending() {
+        return this.status == OutboxStatus.PENDING;
+    }
+
+    // 대기 중이거나, 처리 중이던 작업자가 기한 안에 끝내지 못한 작업
+    public boolean isClaimable(LocalDateTime now) {
+        return isPending() || (this.status == OutboxStatus.PROCESSING && this.leaseUntil.isBefore(now));
+    }
+
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = OutboxStatus.PROCESSING;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void complete() {
+        this.status = OutboxStatus.COMPLETED;
+        this.leaseUntil = null;
+    }
+
+    // 실패 시 다시 대기 상태로 돌려 재시도, 최대 시도 횟수를 넘기면 FAILED 로 종료
+    public void fail() {
+        this.attempts++;
+        this.status = this.attempts >= MAX_ATTEMPTS ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+        this.leaseUntil = null;
+    }
+}
@@ -0,0 +1,5 @@
+package com.meonghae.communityservice.domain.upload;
+
+public enum OutboxStatus {
+    PENDING, PROCESSING, COMPLETED, FAILED
+}
@@ -6,9 +6,11 @@ import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
+
 @Getter
 @NoArgsConstructor
-public class BoardMainDto {
+public class BoardMainDto implements Serializable {
     @ApiModelProperty("게시글 id")
     private Long id;
     @ApiModelProperty("게시글 제목")
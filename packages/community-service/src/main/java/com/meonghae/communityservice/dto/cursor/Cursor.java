@@ -0,0 +1,78 @@
+package com.meonghae.communityservice.dto.cursor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 마지막으로 조회한 항목의 (정렬 종류, 정렬 키, id) 를 담은 keyset 페이지네이션 커서.
+ * 클라이언트에는 Base64 로 인코딩한 불투명한 문자열로 전달한다.
+ */
+@Getter
+public class Cursor {
+    private static final String DELIMITER = "|";
+
+    // 정렬 키의 타입, 디코딩할 때 미리 파싱해 본다.
+    @RequiredArgsConstructor
+    public enum KeyType {
+        INT(Integer::parseInt),
+        DATE(LocalDateTime::parse);
+
+        private final Function<String, Object> parser;
+    }
+
+    private final String sort;
+    private final String key;
+    private final Long id;
+
+    private Cursor(String sort, String key, Long id) {
+        this.sort = sort;
+        this.key = key;
+        this.id = id;
+    }
+
+    public static Cursor of(String sort, Object key, Long id) {
+        return new Cursor(sort, String.valueOf(key), id);
+    }
+
+    // 커서가 없으면 첫 페이지(null)
+    // 형식이 잘못되었거나, 정렬 키를 keyType 으로 읽을 수 없거나, 다른 정렬로 만든 커서면 IllegalArgumentException
+    public static Cursor decode(String value, String sort, KeyType keyType) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        int first = decoded.indexOf(DELIMITER);
+        int last = decoded.lastIndexOf(DELIMITER);
+        if (first < 0 || first == last) {
+            throw new IllegalArgumentException("invalid cursor: " + value);
+        }
+        if (!decoded.substring(0, first).equals(sort)) {
+            throw new IllegalArgumentException("cursor of another sort: " + value);
+        }
+        try {
+            String key = decoded.substring(first + 1, last);
+            keyType.parser.apply(key);
+            return new Cursor(sort, key, Long.parseLong(decoded.substring(last + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor: " + value, e);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sort + DELIMITER + key + DELIMITER + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int intKey() {
+        return Integer.parseInt(key);
+    }
+
+    public LocalDateTime dateKey() {
+        return LocalDateTime.parse(key);
+    }
+}
@@ -0,0 +1,37 @@
+package com.meonghae.communityservice.dto.cursor;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class CursorSlice<T> {
+    @ApiModelProperty("조회 결과")
+    private final List<T> content;
+    @ApiModelProperty("다음 페이지 커서 (마지막 페이지면 null)")
+    private final String nextCursor;
+    @ApiModelProperty("다음 페이지 존재 여부")
+    private final boolean hasNext;
+
+    public CursorSlice(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    // size + 1 개를 조회한 결과로 다음 페이지 여부를 판단하고 마지막 항목으로 커서를 만든다.
+    public static <T> CursorSlice<T> of(List<T> fetched, int size, Function<T, Cursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorSlice<>(fetched, null);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new CursorSlice<>(content, cursorOf.apply(content.get(size - 1)).encode());
+    }
+
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> converter) {
+        return new CursorSlice<>(content.stream().map(converter).collect(Collectors.toList()), nextCursor);
+    }
+}
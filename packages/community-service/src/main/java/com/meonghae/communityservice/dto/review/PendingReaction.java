@@ -0,0 +1,12 @@
+package com.meonghae.communityservice.dto.review;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 아직 DB 에 반영되지 않은 리뷰 추천/비추천 증감량
+@Getter
+@AllArgsConstructor
+public class PendingReaction {
+    private final int likes;
+    private final int dislikes;
+}
@@ -10,4 +10,16 @@ import lombok.Data;
 public class S3RequestDto {
     private Long entityId;
     private String entityType;
+    // 조회할 이미지 크기 (THUMBNAIL, MEDIUM), 없으면 원본
+    private String variant;
+    // 업로드 멱등 키, 같은 키로 다시 업로드하면 s3-file-service 가 저장하지 않는다.
+    private String uploadKey;
+
+    public S3RequestDto(Long entityId, String entityType) {
+        this(entityId, entityType, null, null);
+    }
+
+    public S3RequestDto(Long entityId, String entityType, String variant) {
+        this(entityId, entityType, variant, null);
+    }
 }
@@ -12,7 +12,9 @@ import javax.persistence.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "board")
+@Table(name = "board", indexes = {
+        @Index(name = "idx_board_type_created_date", columnList = "type, createdDate, id")
+})
 public class BoardEntity extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,7 +28,11 @@ public class BoardEntity extends BaseTimeEntity {
     @Column
     @Enumerated(value = EnumType.STRING)
     private BoardType type;
+    // 좋아요 수/댓글 수는 원자적 update 쿼리로만 변경 -> 엔티티 병합(save)으로 덮어쓰지 않도록 updatable = false
+    @Column(updatable = false)
     private int likes;
+    @Column(nullable = false, updatable = false)
+    private int commentCount;
     @Column(columnDefinition = "TINYINT(1)")
     private Boolean hasImage;
 
@@ -38,6 +44,7 @@ public class BoardEntity extends BaseTimeEntity {
                 .content(board.getContent())
                 .type(board.getType())
                 .likes(board.getLikes())
+                .commentCount(board.getCommentCount())
                 .hasImage(board.getHasImage())
                 .build();
     }
@@ -50,6 +57,7 @@ public class BoardEntity extends BaseTimeEntity {
                 .title(this.getTitle())
                 .type(this.getType())
                 .likes(this.getLikes())
+                .commentCount(this.getCommentCount())
                 .hasImage(this.getHasImage())
                 .createdDate(this.getCreatedDate())
                 .modifiedDate(this.getModifiedDate())
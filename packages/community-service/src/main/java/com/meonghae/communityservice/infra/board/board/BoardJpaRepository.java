@@ -4,8 +4,32 @@ import com.meonghae.communityservice.domain.board.BoardType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BoardJpaRepository extends JpaRepository<BoardEntity, Long> {
     Slice<BoardEntity> findByType(BoardType type, Pageable pageable);
     void deleteAllByEmail(String email);
+
+    @Transactional
+    @Modifying
+    @Query("update BoardEntity b set b.likes = b.likes + :delta where b.id = :id")
+    int addLikes(@Param("id") Long id, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query("update BoardEntity b set b.commentCount = b.commentCount + :delta where b.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query("update BoardEntity b set b.commentCount = " +
+            "(select count(c) from CommentEntity c where c.board.id = b.id) " +
+            "where b.id between :fromId and :toId")
+    int syncCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select coalesce(max(b.id), 0) from BoardEntity b")
+    Long findMaxId();
 }
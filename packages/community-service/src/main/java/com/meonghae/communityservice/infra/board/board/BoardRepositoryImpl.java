@@ -3,6 +3,9 @@ package com.meonghae.communityservice.infra.board.board;
 import com.meonghae.communityservice.application.board.port.BoardRepository;
 import com.meonghae.communityservice.domain.board.Board;
 import com.meonghae.communityservice.domain.board.BoardType;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -33,6 +36,29 @@ public class BoardRepositoryImpl implements BoardRepository {
         return boardJpaRepository.findByType(type, pageable).map(BoardEntity::toModel);
     }
 
+    // (createdDate, id) keyset 조회 -> idx_board_type_created_date 인덱스만 타고 offset 만큼 건너뛰지 않는다.
+    @Override
+    public CursorSlice<Board> findByType(BoardType type, Cursor cursor, int size) {
+        QBoardEntity qBoard = QBoardEntity.boardEntity;
+        BooleanBuilder condition = new BooleanBuilder(qBoard.type.eq(type));
+        if (cursor != null) {
+            LocalDateTime createdDate = cursor.dateKey();
+            condition.and(qBoard.createdDate.lt(createdDate)
+                    .or(qBoard.createdDate.eq(createdDate).and(qBoard.id.lt(cursor.getId()))));
+        }
+
+        List<Board> boards = jpaQueryFactory.selectFrom(qBoard)
+                .where(condition)
+                .orderBy(qBoard.createdDate.desc(), qBoard.id.desc())
+                .limit(size + 1)
+                .fetch()
+                .stream()
+                .map(BoardEntity::toModel)
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(boards, size, board -> Cursor.of(LATEST_CURSOR, board.getCreatedDate(), board.getId()));
+    }
+
     @Override
     public List<Board> findBoardListForMain(LocalDateTime now) {
         QBoardEntity qBoard = QBoardEntity.boardEntity;
@@ -65,4 +91,24 @@ public class BoardRepositoryImpl implements BoardRepository {
 
         return boardJpaRepository.save(entity).toModel();
     }
+
+    @Override
+    public void increaseLikes(Long boardId, int delta) {
+        boardJpaRepository.addLikes(boardId, delta);
+    }
+
+    @Override
+    public void increaseCommentCount(Long boardId, int delta) {
+        boardJpaRepository.addCommentCount(boardId, delta);
+    }
+
+    @Override
+    public int repairCommentCount(Long fromId, Long toId) {
+        return boardJpaRepository.syncCommentCount(fromId, toId);
+    }
+
+    @Override
+    public Long findMaxId() {
+        return boardJpaRepository.findMaxId();
+    }
 }
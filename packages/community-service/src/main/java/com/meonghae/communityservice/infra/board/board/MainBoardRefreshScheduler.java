@@ -0,0 +1,30 @@
+package com.meonghae.communityservice.infra.board.board;
+
+import com.meonghae.communityservice.application.board.BoardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MainBoardRefreshScheduler {
+    private final BoardService boardService;
+
+    // 댓글 수 변경 등 무효화 대상이 아닌 변경을 주기적으로 반영
+    @Scheduled(fixedDelayString = "${main-board.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            boardService.refreshMainBoard();
+        } catch (RuntimeException e) {
+            log.warn("failed to refresh main board highlights", e);
+        }
+    }
+
+    // 집계 구간(전날 0시 ~ 현재)이 바뀌는 자정 직후 바로 재계산
+    @Scheduled(cron = "5 0 0 * * *")
+    public void refreshAtMidnight() {
+        refresh();
+    }
+}
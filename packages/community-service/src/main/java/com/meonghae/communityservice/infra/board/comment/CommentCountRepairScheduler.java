@@ -0,0 +1,41 @@
+package com.meonghae.communityservice.infra.board.comment;
+
+import com.meonghae.communityservice.application.board.BoardCommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountRepairScheduler {
+    private final BoardCommentService commentService;
+
+    @Value("${comment-count.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${comment-count.backfill-on-startup:false}")
+    private boolean backfillOnStartup;
+
+    // comment_count 컬럼 추가 후 기존 게시글 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (backfillOnStartup) {
+            repair();
+        }
+    }
+
+    @Scheduled(cron = "${comment-count.repair-cron:0 30 4 * * *}")
+    public void repair() {
+        try {
+            int updated = commentService.repairCommentCounts(chunkSize);
+            log.info("repaired comment count of {} boards", updated);
+        } catch (RuntimeException e) {
+            log.warn("failed to repair board comment counts", e);
+        }
+    }
+}
@@ -8,6 +8,4 @@ public interface CommentJpaRepository extends JpaRepository<CommentEntity, Long>
     Slice<CommentEntity> findByBoard_IdAndParentIsNull(Pageable pageable, Long boardId);
 
     Slice<CommentEntity> findByParent_Id(Pageable pageable, Long parentId);
-
-    int countByBoard_Id(Long boardId);
 }
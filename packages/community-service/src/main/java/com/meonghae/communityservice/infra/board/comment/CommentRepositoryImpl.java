@@ -2,6 +2,9 @@ package com.meonghae.communityservice.infra.board.comment;
 
 import com.meonghae.communityservice.application.board.port.CommentRepository;
 import com.meonghae.communityservice.domain.board.BoardComment;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
@@ -9,7 +12,6 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -32,24 +34,32 @@ public class CommentRepositoryImpl implements CommentRepository {
                 .map(CommentEntity::toModel);
     }
 
+    // 부모 댓글은 id 순으로만 정렬하므로 id 자체가 커서 (board_id FK 인덱스에 PK 가 포함된다)
     @Override
-    public Slice<BoardComment> findByParent_Id(Pageable pageable, Long parentId) {
-        return commentJpaRepository.findByParent_Id(pageable, parentId)
-                .map(CommentEntity::toModel);
+    public CursorSlice<BoardComment> findByBoard_IdAndParentIsNull(Cursor cursor, int size, Long boardId) {
+        QCommentEntity qComment = QCommentEntity.commentEntity;
+        BooleanBuilder condition = new BooleanBuilder(qComment.board.id.eq(boardId))
+                .and(qComment.parent.isNull());
+        if (cursor != null) {
+            condition.and(qComment.id.lt(cursor.getId()));
+        }
+
+        List<BoardComment> comments = jpaQueryFactory.selectFrom(qComment)
+                .where(condition)
+                .orderBy(qComment.id.desc())
+                .limit(size + 1)
+                .fetch()
+                .stream()
+                .map(CommentEntity::toModel)
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(comments, size, comment -> Cursor.of(ID_CURSOR, comment.getId(), comment.getId()));
     }
 
     @Override
-    public Map<Long, Long> findCommentCountByBoardIds(List<Long> boardIds) {
-        return jpaQueryFactory.select(QCommentEntity.commentEntity.board.id, QCommentEntity.commentEntity.count())
-                .from(QCommentEntity.commentEntity)
-                .where(QCommentEntity.commentEntity.board.id.in(boardIds))
-                .groupBy(QCommentEntity.commentEntity.board.id)
-                .fetch()
-                .stream()
-                .collect(Collectors.toMap(
-                        tuple -> tuple.get(QCommentEntity.commentEntity.board.id),
-                        tuple -> Optional.ofNullable(tuple.get(QCommentEntity.commentEntity.count())).orElse(0L)
-                ));
+    public Slice<BoardComment> findByParent_Id(Pageable pageable, Long parentId) {
+        return commentJpaRepository.findByParent_Id(pageable, parentId)
+                .map(CommentEntity::toModel);
     }
 
     @Override
@@ -74,9 +84,4 @@ public class CommentRepositoryImpl implements CommentRepository {
     public void delete(Long id) {
         commentJpaRepository.deleteById(id);
     }
-
-    @Override
-    public int countByBoardId(Long boardId) {
-        return commentJpaRepository.countByBoard_Id(boardId);
-    }
 }
@@ -14,7 +14,9 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "board_like")
+@Table(name = "board_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_board_like_email_board", columnNames = {"email", "board_id"})
+})
 public class BoardLikeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,8 +1,21 @@
 package com.meonghae.communityservice.infra.board.like;
 
-import com.meonghae.communityservice.infra.board.board.BoardEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BoardLikeJpaRepository extends JpaRepository<BoardLikeEntity, Long> {
     BoardLikeEntity findByEmailAndBoardEntity_Id(String email, Long boardId);
+
+    // uk_board_like_email_board 기준 upsert -> 처음이면 추천 상태로 생성, 이미 있으면 상태 반전
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO board_like (email, board_id, status) VALUES (:email, :boardId, true) " +
+            "ON DUPLICATE KEY UPDATE status = NOT status", nativeQuery = true)
+    int upsertToggle(@Param("email") String email, @Param("boardId") Long boardId);
+
+    @Query("select l.status from BoardLikeEntity l where l.email = :email and l.boardEntity.id = :boardId")
+    Boolean findStatus(@Param("email") String email, @Param("boardId") Long boardId);
 }
@@ -21,4 +21,11 @@ public class BoardLikeRepositoryImpl implements BoardLikeRepository {
     public BoardLike save(BoardLike like) {
         return likeJpaRepository.save(BoardLikeEntity.fromModel(like)).toModel();
     }
+
+    // upsert 로 잠근 행을 같은 트랜잭션에서 다시 읽으므로 반전된 상태가 보장된다.
+    @Override
+    public boolean toggle(String email, Long boardId) {
+        likeJpaRepository.upsertToggle(email, boardId);
+        return Boolean.TRUE.equals(likeJpaRepository.findStatus(email, boardId));
+    }
 }
@@ -10,7 +10,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -23,11 +27,24 @@ public class S3FeignImpl implements S3ServicePort {
         return serviceClient.getImages(requestDto);
     }
 
+    @Override
+    public Map<Long, List<S3ResponseDto>> getImages(String entityType, List<Long> entityIds) {
+        List<S3RequestDto> requestList = entityIds.stream()
+                .map(id -> new S3RequestDto(id, entityType, "THUMBNAIL"))
+                .collect(Collectors.toList());
+        return serviceClient.getImages(requestList).getOrDefault(entityType, new HashMap<>());
+    }
+
     @Override
     public UserImageDto getUserImage(String email) {
         return serviceClient.getUserImage(email);
     }
 
+    @Override
+    public List<UserImageDto> getUserImages(List<String> emails) {
+        return new ArrayList<>(serviceClient.getUserImages(emails).values());
+    }
+
     @Override
     public ResponseEntity<String> uploadImage(List<MultipartFile> files, S3RequestDto data) {
         return serviceClient.uploadImage(files, data);
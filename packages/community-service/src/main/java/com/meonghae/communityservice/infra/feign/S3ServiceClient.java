@@ -14,15 +14,22 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "s3-file-service", configuration = {FeignHeaderConfig.class, FeignUploadConfig.class})
 public interface S3ServiceClient {
     @GetMapping("/files")
     List<S3ResponseDto> getImages(@SpringQueryMap S3RequestDto requestDto);
 
+    @PostMapping("/files/bulk")
+    Map<String, Map<Long, List<S3ResponseDto>>> getImages(@RequestBody List<S3RequestDto> requestList);
+
     @GetMapping("/files/users")
     UserImageDto getUserImage(@RequestParam String email);
 
+    @PostMapping("/files/users/bulk")
+    Map<String, UserImageDto> getUserImages(@RequestBody List<String> emails);
+
     @PostMapping(value = "/files", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     ResponseEntity<String> uploadImage(@RequestPart(value = "files", name = "files") List<MultipartFile> files,
                                        @RequestPart(value = "data", name = "data") S3RequestDto data);
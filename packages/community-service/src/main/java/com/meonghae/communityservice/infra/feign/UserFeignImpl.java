@@ -1,19 +1,26 @@
 package com.meonghae.communityservice.infra.feign;
 
+import com.meonghae.auth.GatewayUserResolver;
 import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.dto.fcm.FcmDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class UserFeignImpl implements UserServicePort {
 
     private final UserServiceClient serviceClient;
+    private final GatewayUserResolver gatewayUserResolver;
 
+    // 게이트웨이가 서명해 전달한 회원 정보가 있으면 user-service 호출을 생략한다.
     @Override
     public String getUserEmail(String token) {
-        return serviceClient.getUserEmail(token);
+        return gatewayUserResolver.resolveEmail(token)
+                .orElseGet(() -> serviceClient.getUserEmail(token));
     }
 
     @Override
@@ -21,6 +28,11 @@ public class UserFeignImpl implements UserServicePort {
         return serviceClient.getNickname(email);
     }
 
+    @Override
+    public Map<String, String> getNicknames(List<String> emails) {
+        return serviceClient.getNicknames(emails);
+    }
+
     @Override
     public FcmDto getFCMToken(String email) {
         return serviceClient.getFCMToken(email);
@@ -3,10 +3,10 @@ package com.meonghae.communityservice.infra.feign;
 import com.meonghae.communityservice.infra.feign.config.FeignHeaderConfig;
 import com.meonghae.communityservice.dto.fcm.FcmDto;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestHeader;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "user-service", configuration = {FeignHeaderConfig.class})
 public interface UserServiceClient {
@@ -16,6 +16,9 @@ public interface UserServiceClient {
     @GetMapping("/send/{email}")
     String getNickname(@PathVariable(value = "email") String email);
 
+    @PostMapping("/send/nicknames")
+    Map<String, String> getNicknames(@RequestBody List<String> emails);
+
     @GetMapping("/send/token")
     FcmDto getFCMToken(@RequestParam String email);
 }
@@ -0,0 +1,208 @@
+package com.meonghae.communityservice.infra.redis;
+
+import com.meonghae.communityservice.application.port.ReactionBufferPort;
+import com.meonghae.communityservice.domain.review.RecommendStatus;
+import com.meonghae.communityservice.dto.review.PendingReaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 좋아요/추천을 Redis 에 먼저 기록하고 바로 응답한다. DB 반영은 ReactionBufferFlusher 가 주기적으로 모아서 처리한다.
+@Component
+public class ReactionBufferAdapter implements ReactionBufferPort {
+    // 사용자별 최신 상태 (hash: email -> 1 / 0, 리뷰는 1 / -1 / 0)
+    static final String BOARD_STATE = "reaction:board:state:";
+    static final String REVIEW_STATE = "reaction:review:state:";
+    // DB 에 반영되지 않은 증감량 (hash: id -> 증감량)
+    static final String BOARD_LIKES = "reaction:board:likes";
+    static final String REVIEW_LIKES = "reaction:review:likes";
+    static final String REVIEW_DISLIKES = "reaction:review:dislikes";
+    // DB 에 다시 써야 할 반응 행 (set: id:email)
+    static final String BOARD_DIRTY = "reaction:board:dirty";
+    static final String REVIEW_DIRTY = "reaction:review:dirty";
+    // flush 중인 배치는 이 접미사를 붙인 키로 옮겨 새 증감과 분리한다.
+    static final String FLUSHING = ":flushing";
+    // DB 트랜잭션 중인 배치, 조회에 더하지 않는다. -> 커밋 직후 DB 값과 이중으로 집계되지 않는다.
+    static final String APPLYING = ":applying";
+    // flush 중인 배치 id (string), 반영된 배치는 reaction_flush_batch 에 기록된다.
+    static final String BOARD_BATCH = "reaction:board:batch";
+    static final String REVIEW_BATCH = "reaction:review:batch";
+
+    static final String LIKE = "1";
+    static final String DISLIKE = "-1";
+    static final String NONE = "0";
+
+    // flush 이후에도 상태를 잠시 남겨 반복 토글 시 DB 를 다시 읽지 않는다.
+    private static final String STATE_TTL_SECONDS = String.valueOf(Duration.ofDays(1).getSeconds());
+
+    // KEYS: 상태, 좋아요 증감, dirty / ARGV: email, boardId, DB 상태, ttl
+    private static final RedisScript<String> BOARD_TOGGLE = new DefaultRedisScript<>(
+            "local old = redis.call('HGET', KEYS[1], ARGV[1]) or ARGV[3]\n" +
+            "local new, delta = '1', 1\n" +
+            "if old == '1' then new, delta = '0', -1 end\n" +
+            "redis.call('HSET', KEYS[1], ARGV[1], new)\n" +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4])\n" +
+            "redis.call('HINCRBY', KEYS[2], ARGV[2], delta)\n" +
+            "redis.call('SADD', KEYS[3], ARGV[2] .. ':' .. ARGV[1])\n" +
+            "return new", String.class);
+
+    // KEYS: 상태, 추천 증감, 비추천 증감, dirty / ARGV: email, reviewId, DB 상태, ttl, 추천 여부
+    // 상태 전이는 ReactionTransition 과 동일하다.
+    private static final RedisScript<String> REVIEW_TOGGLE = new DefaultRedisScript<>(
+            "local old = redis.call('HGET', KEYS[1], ARGV[1]) or ARGV[3]\n" +
+            "local new, likes, dislikes\n" +
+            "if ARGV[5] == '1' then\n" +
+            "  if old == '1' then new, likes, dislikes = '0', -1, 0\n" +
+            "  elseif old == '-1' then new, likes, dislikes = '1', 1, -1\n" +
+            "  else new, likes, dislikes = '1', 1, 0 end\n" +
+            "else\n" +
+            "  if old == '-1' then new, likes, dislikes = '0', 0, -1\n" +
+            "  elseif old == '1' then new, likes, dislikes = '-1', -1, 1\n" +
+            "  else new, likes, dislikes = '-1', 0, 1 end\n" +
+            "end\n" +
+            "redis.call('HSET', KEYS[1], ARGV[1], new)\n" +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4])\n" +
+            "if likes ~= 0 then redis.call('HINCRBY', KEYS[2], ARGV[2], likes) end\n" +
+            "if dislikes ~= 0 then redis.call('HINCRBY', KEYS[3], ARGV[2], dislikes) end\n" +
+            "redis.call('SADD', KEYS[4], ARGV[2] .. ':' .. ARGV[1])\n" +
+            "return old", String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+
+    public ReactionBufferAdapter(StringRedisTemplate redisTemplate,
+                                 @Value("${reaction-buffer.enabled:false}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean toggleBoardLike(String email, Long boardId, Supplier<Boolean> currentStatus) {
+        String stateKey = BOARD_STATE + boardId;
+        String seed = seed(stateKey, email, () -> Boolean.TRUE.equals(currentStatus.get()) ? LIKE : NONE);
+        String liked = redisTemplate.execute(BOARD_TOGGLE, List.of(stateKey, BOARD_LIKES, BOARD_DIRTY),
+                email, String.valueOf(boardId), seed, STATE_TTL_SECONDS);
+        return LIKE.equals(liked);
+    }
+
+    @Override
+    public Boolean toggleReviewReaction(String email, Long reviewId, boolean isLike, Supplier<Boolean> currentStatus) {
+        String stateKey = REVIEW_STATE + reviewId;
+        String seed = seed(stateKey, email, () -> encode(currentStatus.get()));
+        String old = redisTemplate.execute(REVIEW_TOGGLE,
+                List.of(stateKey, REVIEW_LIKES, REVIEW_DISLIKES, REVIEW_DIRTY),
+                email, String.valueOf(reviewId), seed, STATE_TTL_SECONDS, isLike ? LIKE : NONE);
+        return decode(old);
+    }
+
+    @Override
+    public Boolean findBoardLikeStatus(String email, Long boardId) {
+        if (!enabled) {
+            return null;
+        }
+        Object state = redisTemplate.opsForHash().get(BOARD_STATE + boardId, email);
+        return state == null ? null : LIKE.equals(state);
+    }
+
+    @Override
+    public Map<Long, RecommendStatus> findReviewReactions(String email, Collection<Long> reviewIds) {
+        Map<Long, RecommendStatus> result = new HashMap<>();
+        List<Long> ids = distinct(reviewIds);
+        if (!enabled || ids.isEmpty()) {
+            return result;
+        }
+        byte[] field = email.getBytes(StandardCharsets.UTF_8);
+        List<Object> states = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(id -> connection.hGet((REVIEW_STATE + id).getBytes(StandardCharsets.UTF_8), field));
+            return null;
+        });
+        for (int i = 0; i < ids.size(); i++) {
+            Object state = states.get(i);
+            if (state != null) {
+                Boolean status = decode((String) state);
+                result.put(ids.get(i), status == null ? RecommendStatus.NONE :
+                        status ? RecommendStatus.TRUE : RecommendStatus.FALSE);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Integer> getPendingBoardLikes(Collection<Long> boardIds) {
+        List<Long> ids = distinct(boardIds);
+        if (!enabled || ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return sumPending(BOARD_LIKES, ids);
+    }
+
+    @Override
+    public Map<Long, PendingReaction> getPendingReviewReactions(Collection<Long> reviewIds) {
+        Map<Long, PendingReaction> result = new HashMap<>();
+        List<Long> ids = distinct(reviewIds);
+        if (!enabled || ids.isEmpty()) {
+            return result;
+        }
+        Map<Long, Integer> likes = sumPending(REVIEW_LIKES, ids);
+        Map<Long, Integer> dislikes = sumPending(REVIEW_DISLIKES, ids);
+        ids.stream()
+                .filter(id -> likes.containsKey(id) || dislikes.containsKey(id))
+                .forEach(id -> result.put(id, new PendingReaction(likes.getOrDefault(id, 0),
+                        dislikes.getOrDefault(id, 0))));
+        return result;
+    }
+
+    static String encode(Boolean status) {
+        return status == null ? NONE : status ? LIKE : DISLIKE;
+    }
+
+    static Boolean decode(String state) {
+        if (LIKE.equals(state)) {
+            return true;
+        }
+        return DISLIKE.equals(state) ? false : null;
+    }
+
+    // 버퍼에 상태가 있으면 DB 를 읽지 않는다. (스크립트는 버퍼 상태를 우선 사용)
+    private String seed(String stateKey, String email, Supplier<String> loader) {
+        return Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(stateKey, email)) ? "" : loader.get();
+    }
+
+    // 대기 중인 증감 + flush 중인 증감
+    private Map<Long, Integer> sumPending(String key, List<Long> ids) {
+        List<Object> fields = ids.stream().map(String::valueOf).collect(Collectors.toList());
+        List<Object> pending = redisTemplate.opsForHash().multiGet(key, fields);
+        List<Object> flushing = redisTemplate.opsForHash().multiGet(key + FLUSHING, fields);
+
+        Map<Long, Integer> result = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            int delta = toInt(pending.get(i)) + toInt(flushing.get(i));
+            if (delta != 0) {
+                result.put(ids.get(i), delta);
+            }
+        }
+        return result;
+    }
+
+    private int toInt(Object value) {
+        return value == null ? 0 : Integer.parseInt((String) value);
+    }
+
+    private List<Long> distinct(Collection<Long> ids) {
+        return ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,227 @@
+package com.meonghae.communityservice.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static com.meonghae.communityservice.infra.redis.ReactionBufferAdapter.*;
+
+/**
+ * Redis 에 쌓인 좋아요/추천을 주기적으로 DB 에 반영한다.
+ * 게시글/리뷰별 증감량은 한 번의 UPDATE 로 합쳐지고, 반응 행은 사용자별 최신 상태만 upsert 한다.
+ * 배치마다 id 를 붙여 reaction_flush_batch 에 기록하므로, 커밋 후 키를 지우기 전에 중단돼도 다음 주기에 다시 반영하지 않는다.
+ * 반영 도중 실패하면 flushing 키가 남아 다음 주기에 같은 배치를 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionBufferFlusher {
+    private static final String LOCK_KEY = "reaction:flush:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // 반영 기록은 재시도될 수 있는 기간보다 충분히 길게 보관한다.
+    private static final long PRUNE_INTERVAL_MS = 60 * 60 * 1000L;
+    private static final Duration BATCH_RETENTION = Duration.ofDays(1);
+
+    private static final String INSERT_BATCH =
+            "INSERT IGNORE INTO reaction_flush_batch (batch_id, applied_at) VALUES (?, ?)";
+    private static final String DELETE_BATCHES = "DELETE FROM reaction_flush_batch WHERE applied_at < ?";
+
+    private static final String UPSERT_BOARD_LIKE = "INSERT INTO board_like (email, board_id, status) " +
+            "SELECT ?, id, ? FROM board WHERE id = ? ON DUPLICATE KEY UPDATE status = VALUES(status)";
+    private static final String UPDATE_BOARD_LIKES = "UPDATE board SET likes = likes + ? WHERE id = ?";
+    private static final String UPSERT_REVIEW_REACTION = "INSERT INTO review_reaction " +
+            "(email, review_id, recommend_status) SELECT ?, id, ? FROM review WHERE id = ? " +
+            "ON DUPLICATE KEY UPDATE recommend_status = VALUES(recommend_status)";
+    private static final String UPDATE_REVIEW_REACTIONS =
+            "UPDATE review SET likes = likes + ?, dislikes = dislikes + ? WHERE id = ?";
+
+    // 자신이 잡은 잠금일 때만 해제한다. (TTL 이 지나 다른 인스턴스가 잡은 잠금은 지우지 않는다)
+    private static final RedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end\n" +
+            "return 0", Long.class);
+
+    // KEYS: 배치 id, (대기, flushing, applying) 키 묶음 / ARGV: 새 배치 id
+    // 이전 배치가 남아 있으면 applying 키를 flushing 으로 되돌려 그 배치를 다시 반영하고,
+    // 없으면 대기 중인 키를 flushing 키로 옮기고 새 배치 id 를 기록한다.
+    private static final RedisScript<String> TAKE = new DefaultRedisScript<>(
+            "local batch = redis.call('GET', KEYS[1])\n" +
+            "if batch then\n" +
+            "  for i = 2, #KEYS, 3 do\n" +
+            "    if redis.call('EXISTS', KEYS[i + 2]) == 1 then redis.call('RENAME', KEYS[i + 2], KEYS[i + 1]) end\n" +
+            "  end\n" +
+            "  return batch\n" +
+            "end\n" +
+            "local found = false\n" +
+            "for i = 2, #KEYS, 3 do\n" +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then\n" +
+            "    redis.call('RENAME', KEYS[i], KEYS[i + 1])\n" +
+            "    found = true\n" +
+            "  end\n" +
+            "end\n" +
+            "if not found then return false end\n" +
+            "redis.call('SET', KEYS[1], ARGV[1])\n" +
+            "return ARGV[1]", String.class);
+
+    // KEYS: (원본, 대상) 키 쌍 -> 있는 키만 한 번에 옮긴다.
+    private static final RedisScript<Long> MOVE = new DefaultRedisScript<>(
+            "for i = 1, #KEYS, 2 do\n" +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then redis.call('RENAME', KEYS[i], KEYS[i + 1]) end\n" +
+            "end\n" +
+            "return 0", Long.class);
+
+    private static final List<String> BOARD_KEYS = List.of(BOARD_DIRTY, BOARD_LIKES);
+    private static final List<String> REVIEW_KEYS = List.of(REVIEW_DIRTY, REVIEW_LIKES, REVIEW_DISLIKES);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${reaction-buffer.flush-ms:1000}")
+    public void flush() {
+        // 여러 인스턴스가 동시에 flush 하지 않도록 잠금 (TTL 이 지나 겹치더라도 배치 id 로 한 번만 반영된다)
+        String token = UUID.randomUUID().toString();
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            flushBoardLikes();
+            flushReviewReactions();
+        } catch (RuntimeException e) {
+            log.warn("failed to flush reaction buffer", e);
+        } finally {
+            redisTemplate.execute(RELEASE_LOCK, List.of(LOCK_KEY), token);
+        }
+    }
+
+    @Scheduled(fixedDelay = PRUNE_INTERVAL_MS)
+    public void pruneAppliedBatches() {
+        jdbcTemplate.update(DELETE_BATCHES, LocalDateTime.now().minus(BATCH_RETENTION));
+    }
+
+    private void flushBoardLikes() {
+        String batchId = take(BOARD_BATCH, BOARD_KEYS);
+        if (batchId == null) {
+            return;
+        }
+        List<Object[]> rows = readRows(BOARD_DIRTY + FLUSHING, BOARD_STATE, (email, id, state) ->
+                new Object[]{email, LIKE.equals(state), id});
+        Map<Long, Integer> likes = readDeltas(BOARD_LIKES + FLUSHING);
+        List<Object[]> deltas = likes.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+
+        apply(batchId, BOARD_BATCH, BOARD_KEYS, () -> {
+            batchUpdate(UPSERT_BOARD_LIKE, rows);
+            batchUpdate(UPDATE_BOARD_LIKES, deltas);
+        });
+        log.debug("flushed {} board likes, {} boards", rows.size(), deltas.size());
+    }
+
+    private void flushReviewReactions() {
+        String batchId = take(REVIEW_BATCH, REVIEW_KEYS);
+        if (batchId == null) {
+            return;
+        }
+        List<Object[]> rows = readRows(REVIEW_DIRTY + FLUSHING, REVIEW_STATE, (email, id, state) ->
+                new Object[]{email, decode(state), id});
+        Map<Long, Integer> likes = readDeltas(REVIEW_LIKES + FLUSHING);
+        Map<Long, Integer> dislikes = readDeltas(REVIEW_DISLIKES + FLUSHING);
+        Set<Long> reviewIds = new TreeSet<>(likes.keySet());
+        reviewIds.addAll(dislikes.keySet());
+        List<Object[]> deltas = reviewIds.stream()
+                .map(id -> new Object[]{likes.getOrDefault(id, 0), dislikes.getOrDefault(id, 0), id})
+                .collect(Collectors.toList());
+
+        apply(batchId, REVIEW_BATCH, REVIEW_KEYS, () -> {
+            batchUpdate(UPSERT_REVIEW_REACTION, rows);
+            batchUpdate(UPDATE_REVIEW_REACTIONS, deltas);
+        });
+        log.debug("flushed {} review reactions, {} reviews", rows.size(), deltas.size());
+    }
+
+    // 반영할 배치의 id 를 반환한다. 이전 주기에 끝내지 못한 배치가 있으면 그것부터, 없으면 대기 중인 키로 새 배치를 만든다.
+    private String take(String batchKey, List<String> keys) {
+        List<String> scriptKeys = new ArrayList<>();
+        scriptKeys.add(batchKey);
+        for (String key : keys) {
+            scriptKeys.addAll(List.of(key, key + FLUSHING, key + APPLYING));
+        }
+        return redisTemplate.execute(TAKE, scriptKeys, UUID.randomUUID().toString());
+    }
+
+    // 트랜잭션 동안은 배치를 applying 키로 옮겨 조회에서 빼 둔다. -> 커밋 후 키를 지우기 전까지 증감이 두 번 더해지지 않는다.
+    // 배치 id 가 이미 기록돼 있으면 반영된 배치이므로 DB 는 건드리지 않고 키만 정리한다.
+    private void apply(String batchId, String batchKey, List<String> keys, Runnable writer) {
+        move(keys, FLUSHING, APPLYING);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (jdbcTemplate.update(INSERT_BATCH, batchId, LocalDateTime.now()) > 0) {
+                    writer.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            // 반영하지 못한 배치는 다시 조회에 더하고 다음 주기에 재시도한다.
+            move(keys, APPLYING, FLUSHING);
+            throw e;
+        }
+        List<String> done = keys.stream().map(key -> key + APPLYING).collect(Collectors.toList());
+        done.add(batchKey);
+        redisTemplate.delete(done);
+    }
+
+    private void move(List<String> keys, String from, String to) {
+        List<String> scriptKeys = new ArrayList<>();
+        for (String key : keys) {
+            scriptKeys.addAll(List.of(key + from, key + to));
+        }
+        redisTemplate.execute(MOVE, scriptKeys);
+    }
+
+    // dirty 멤버(id:email)마다 현재 버퍼 상태를 읽는다. 상태가 만료된 경우는 건너뛴다.
+    private List<Object[]> readRows(String dirtyKey, String statePrefix, RowMapper mapper) {
+        Set<String> members = Optional.ofNullable(redisTemplate.opsForSet().members(dirtyKey))
+                .orElse(Collections.emptySet());
+        List<Object[]> rows = new ArrayList<>();
+        for (String member : new TreeSet<>(members)) {
+            int delimiter = member.indexOf(':');
+            Long id = Long.valueOf(member.substring(0, delimiter));
+            String email = member.substring(delimiter + 1);
+            Object state = redisTemplate.opsForHash().get(statePrefix + id, email);
+            if (state != null) {
+                rows.add(mapper.map(email, id, (String) state));
+            }
+        }
+        return rows;
+    }
+
+    // id 순으로 정렬해 동시에 반영되는 다른 트랜잭션과 잠금 순서를 맞춘다.
+    private Map<Long, Integer> readDeltas(String key) {
+        return redisTemplate.opsForHash().entries(key).entrySet().stream()
+                .filter(entry -> Integer.parseInt((String) entry.getValue()) != 0)
+                .collect(Collectors.toMap(entry -> Long.valueOf((String) entry.getKey()),
+                        entry -> Integer.parseInt((String) entry.getValue()), (a, b) -> a, TreeMap::new));
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+
+    private interface RowMapper {
+        Object[] map(String email, Long id, String state);
+    }
+}
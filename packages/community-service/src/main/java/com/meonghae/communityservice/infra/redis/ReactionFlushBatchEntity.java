@@ -0,0 +1,22 @@
+package com.meonghae.communityservice.infra.redis;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+// DB 에 반영을 마친 좋아요/추천 flush 배치, 같은 배치를 다시 반영하지 않도록 기록한다. (ReactionBufferFlusher)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "reaction_flush_batch", indexes = @Index(name = "idx_reaction_flush_batch_applied", columnList = "appliedAt"))
+public class ReactionFlushBatchEntity {
+    @Id
+    @Column(length = 36)
+    private String batchId;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -3,6 +3,7 @@ package com.meonghae.communityservice.infra.redis;
 import com.meonghae.communityservice.application.port.RedisPort;
 import com.meonghae.communityservice.application.port.S3ServicePort;
 import com.meonghae.communityservice.application.port.UserServicePort;
+import com.meonghae.communityservice.dto.board.BoardMainDto;
 import com.meonghae.communityservice.dto.fcm.FcmDto;
 import com.meonghae.communityservice.dto.s3.S3RequestDto;
 import com.meonghae.communityservice.dto.s3.S3ResponseDto;
@@ -11,11 +12,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.transaction.Transactional;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -23,6 +35,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RedisService implements RedisPort {
     private final RedisCacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
     private final UserServicePort userService;
     private final S3ServicePort s3Service;
 
@@ -35,9 +48,17 @@ public class RedisService implements RedisPort {
     @Value("${cacheName.getImages}")
     private String getImages;
 
+    @Value("${cacheName.getThumbnails}")
+    private String getThumbnails;
+
     @Value("${cacheName.getFCM}")
     private String getFCM;
 
+    @Value("${cacheName.getMainBoard}")
+    private String getMainBoard;
+
+    private static final String MAIN_BOARD_KEY = "main";
+
     public String getNickname(String email) {
         String nickname = cacheManager.getCache(byEmail).get(email, String.class);
         if(nickname == null) {
@@ -51,6 +72,19 @@ public class RedisService implements RedisPort {
         return nickname;
     }
 
+    public Map<String, String> getNicknames(Collection<String> emails) {
+        Map<String, String> nicknames = multiGet(byEmail, emails);
+        List<String> misses = findMisses(emails, nicknames);
+        if (!misses.isEmpty()) {
+            log.info("=========== User Feign 호출 ===========");
+            Map<String, String> fetched = userService.getNicknames(misses);
+            multiPut(byEmail, fetched);
+            nicknames.putAll(fetched);
+            misses.forEach(email -> nicknames.putIfAbsent(email, "탈퇴한 회원"));
+        }
+        return nicknames;
+    }
+
     public String getProfileImage(String email) {
         String url = cacheManager.getCache(getProfile).get(email, String.class);
         if(url == null) {
@@ -65,6 +99,20 @@ public class RedisService implements RedisPort {
         return url;
     }
 
+    public Map<String, String> getProfileImages(Collection<String> emails) {
+        Map<String, String> urls = multiGet(getProfile, emails);
+        List<String> misses = findMisses(emails, urls);
+        if (!misses.isEmpty()) {
+            log.info("=========== S3 Feign 호출 ===========");
+            Map<String, String> fetched = s3Service.getUserImages(misses).stream()
+                    .filter(dto -> dto.getFileUrl() != null)
+                    .collect(Collectors.toMap(UserImageDto::getEmail, UserImageDto::getFileUrl, (a, b) -> a));
+            multiPut(getProfile, fetched);
+            urls.putAll(fetched);
+        }
+        return urls;
+    }
+
     public List<S3ResponseDto> getReviewImages(Long reviewId) {
         List<S3ResponseDto> dtos;
         Cache.ValueWrapper value = cacheManager.getCache(getImages).get(reviewId);
@@ -79,6 +127,19 @@ public class RedisService implements RedisPort {
         return dtos;
     }
 
+    public Map<Long, List<S3ResponseDto>> getReviewImages(Collection<Long> reviewIds) {
+        Map<Long, List<S3ResponseDto>> images = multiGet(getThumbnails, reviewIds);
+        List<Long> misses = findMisses(reviewIds, images);
+        if (!misses.isEmpty()) {
+            log.info("=========== S3 Feign 호출 ===========");
+            Map<Long, List<S3ResponseDto>> fetched = new HashMap<>(s3Service.getImages("REVIEW", misses));
+            misses.forEach(id -> fetched.putIfAbsent(id, new ArrayList<>()));
+            multiPut(getThumbnails, fetched);
+            images.putAll(fetched);
+        }
+        return images;
+    }
+
     public String getFcmToken(String email) {
         String fcm = cacheManager.getCache(getFCM).get(email, String.class);
         if(fcm == null) {
@@ -92,4 +153,87 @@ public class RedisService implements RedisPort {
         }
         return fcm;
     }
+
+    @SuppressWarnings("unchecked")
+    public List<BoardMainDto> getMainBoards() {
+        Cache.ValueWrapper value = cacheManager.getCache(getMainBoard).get(MAIN_BOARD_KEY);
+        return value != null ? (List<BoardMainDto>) value.get() : null;
+    }
+
+    public void saveMainBoards(List<BoardMainDto> mainBoards) {
+        cacheManager.getCache(getMainBoard).put(MAIN_BOARD_KEY, new ArrayList<>(mainBoards));
+    }
+
+    public void deleteMainBoards() {
+        // 커밋 전에 지우면 다른 요청이 이전 데이터로 다시 캐시를 채울 수 있다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheManager.getCache(getMainBoard).evict(MAIN_BOARD_KEY);
+                }
+            });
+            return;
+        }
+        cacheManager.getCache(getMainBoard).evict(MAIN_BOARD_KEY);
+    }
+
+    // 캐시 키 전체를 MGET 한 번으로 조회 (RedisCache 와 동일한 키 prefix / 직렬화 사용)
+    @SuppressWarnings("unchecked")
+    private <K, V> Map<K, V> multiGet(String cacheName, Collection<K> keys) {
+        Map<K, V> result = new HashMap<>();
+        List<K> distinctKeys = keys.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (distinctKeys.isEmpty()) {
+            return result;
+        }
+        RedisCacheConfiguration config = getCacheConfiguration(cacheName);
+        byte[][] rawKeys = distinctKeys.stream()
+                .map(key -> serializeKey(config, cacheName, key))
+                .toArray(byte[][]::new);
+
+        List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.mGet(rawKeys));
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < distinctKeys.size(); i++) {
+            byte[] value = values.get(i);
+            if (value != null) {
+                result.put(distinctKeys.get(i), (V) config.getValueSerializationPair().read(ByteBuffer.wrap(value)));
+            }
+        }
+        return result;
+    }
+
+    // 캐시 미스 값들을 파이프라인 한 번으로 저장
+    private <K, V> void multiPut(String cacheName, Map<K, V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        RedisCacheConfiguration config = getCacheConfiguration(cacheName);
+        Expiration expiration = Expiration.from(config.getTtl());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> connection.set(
+                    serializeKey(config, cacheName, key),
+                    ByteUtils.getBytes(config.getValueSerializationPair().write(value)),
+                    expiration,
+                    RedisStringCommands.SetOption.upsert()));
+            return null;
+        });
+    }
+
+    private <K> List<K> findMisses(Collection<K> keys, Map<K, ?> hits) {
+        return keys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(key -> !hits.containsKey(key))
+                .collect(Collectors.toList());
+    }
+
+    private RedisCacheConfiguration getCacheConfiguration(String cacheName) {
+        return ((RedisCache) Objects.requireNonNull(cacheManager.getCache(cacheName))).getCacheConfiguration();
+    }
+
+    private byte[] serializeKey(RedisCacheConfiguration config, String cacheName, Object key) {
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(config.getKeyPrefixFor(cacheName) + key));
+    }
 }
@@ -13,7 +13,9 @@ import javax.persistence.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "review_reaction")
+@Table(name = "review_reaction", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_review_reaction_email_review", columnNames = {"email", "review_id"})
+})
 public class ReactionEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,6 +32,10 @@ public class ReactionEntity {
     @Column
     private Boolean recommendStatus;
 
+    // 마지막 토글 직전의 상태, ReactionJpaRepository.toggleStatus 가 증감량 계산용으로 남긴다.
+    @Column
+    private Boolean previousStatus;
+
     public static ReactionEntity fromModel(ReviewReaction reaction) {
         ReactionEntity entity = new ReactionEntity();
         entity.id = reaction.getId();
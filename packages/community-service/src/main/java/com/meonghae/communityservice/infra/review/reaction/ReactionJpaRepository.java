@@ -2,10 +2,33 @@ package com.meonghae.communityservice.infra.review.reaction;
 
 import com.meonghae.communityservice.infra.review.review.ReviewEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface ReactionJpaRepository extends JpaRepository<ReactionEntity, Long> {
     ReactionEntity findByEmailAndReviewEntity_Id(String email, Long reviewId);
     List<ReactionEntity> findByEmailAndReviewEntityIdIn(String email, List<Long> reviewIds);
+
+    // uk_review_reaction_email_review 기준 upsert 한 번으로 반응을 토글한다. -> 행이 없으면 만들고, 있으면 행 잠금을 잡고 상태를 반전
+    // 반전 전 상태는 previous_status 에 남긴다. (할당은 왼쪽부터 평가되므로 recommend_status 를 바꾸기 전에 복사된다)
+    // 리뷰가 없으면 아무 행도 만들지 않고 0 을 반환한다.
+    // SELECT 가 review 행에 공유 잠금을 걸므로 호출 전에 ReviewJpaRepository.lockById 로 배타 잠금을 먼저 잡아야 한다.
+    // (공유 잠금끼리 잡은 뒤 카운터 update 에서 배타 잠금으로 올리면 트랜잭션끼리 교착된다)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO review_reaction (email, review_id, recommend_status, previous_status) " +
+            "SELECT :email, id, :status, NULL FROM review WHERE id = :reviewId " +
+            "ON DUPLICATE KEY UPDATE previous_status = recommend_status, " +
+            "recommend_status = IF(recommend_status <=> :status, NULL, :status)", nativeQuery = true)
+    int toggleStatus(@Param("email") String email, @Param("reviewId") Long reviewId,
+                     @Param("status") boolean status);
+
+    // 같은 트랜잭션에서 방금 토글한 행을 읽는다. (잠금을 잡고 있으므로 다른 요청이 바꿀 수 없다)
+    @Query(value = "SELECT previous_status FROM review_reaction WHERE email = :email AND review_id = :reviewId",
+            nativeQuery = true)
+    Boolean findPreviousStatus(@Param("email") String email, @Param("reviewId") Long reviewId);
 }
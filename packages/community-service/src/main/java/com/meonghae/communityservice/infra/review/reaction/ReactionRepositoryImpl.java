@@ -1,11 +1,13 @@
 package com.meonghae.communityservice.infra.review.reaction;
 
 import com.meonghae.communityservice.application.review.port.ReactionRepository;
+import com.meonghae.communityservice.domain.review.ReactionTransition;
 import com.meonghae.communityservice.domain.review.ReviewReaction;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Repository
@@ -32,4 +34,12 @@ public class ReactionRepositoryImpl implements ReactionRepository {
     public ReviewReaction save(ReviewReaction reaction) {
         return reactionJpaRepository.save(ReactionEntity.fromModel(reaction)).toModel();
     }
+
+    @Override
+    public Optional<ReactionTransition> toggle(String email, Long reviewId, boolean isLike) {
+        if (reactionJpaRepository.toggleStatus(email, reviewId, isLike) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ReactionTransition.of(reactionJpaRepository.findPreviousStatus(email, reviewId), isLike));
+    }
 }
@@ -12,7 +12,11 @@ import javax.persistence.*;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_catalog_created_date", columnList = "catalog, createdDate, id"),
+        @Index(name = "idx_review_catalog_rating", columnList = "catalog, rating, id"),
+        @Index(name = "idx_review_catalog_likes", columnList = "catalog, likes, id")
+})
 public class ReviewEntity extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,10 +41,11 @@ public class ReviewEntity extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private ReviewCatalog catalog;
 
-    @Column(name = "likes", nullable = false, columnDefinition = "int")
+    // 추천/비추천 수는 원자적 update 쿼리로만 변경 -> 엔티티 병합(save)으로 덮어쓰지 않도록 updatable = false
+    @Column(name = "likes", nullable = false, updatable = false, columnDefinition = "int")
     private int likes;
 
-    @Column(nullable = false, columnDefinition = "int")
+    @Column(nullable = false, updatable = false, columnDefinition = "int")
     private int dislikes;
 
     public static ReviewEntity fromModel(Review review) {
@@ -73,11 +78,6 @@ public class ReviewEntity extends BaseTimeEntity {
                 .build();
     }
 
-    public void updateReaction(Review review) {
-        this.likes = review.getLikes();
-        this.dislikes = review.getDislikes();
-    }
-
     public void hasImage() {
         this.hasImage = true;
     }
@@ -4,15 +4,25 @@ import com.meonghae.communityservice.domain.review.ReviewCatalog;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+// 검색어가 있는 조회는 FULLTEXT 인덱스를 사용하도록 ReviewRepositoryImpl 에서 QueryDSL 로 처리한다.
 public interface ReviewJpaRepository extends JpaRepository<ReviewEntity, Long> {
 
-    @Query("SELECT r FROM ReviewEntity r WHERE r.catalog = :catalog AND " +
-            "(:keyword is null OR r.title LIKE %:keyword%) ")
-    Slice<ReviewEntity> findByCatalogAndKeywordAndSortType(Pageable pageable, ReviewCatalog catalog, String keyword);
+    Slice<ReviewEntity> findByCatalog(ReviewCatalog catalog, Pageable pageable);
 
-    @Query("SELECT r FROM ReviewEntity r WHERE r.catalog = :catalog AND " +
-            "r.hasImage = true AND (:keyword is null OR r.title LIKE %:keyword%) ")
-    Slice<ReviewEntity> findByCatalogAndHasImageAndKeywordAndSortType(Pageable pageable, ReviewCatalog catalog, String keyword);
+    Slice<ReviewEntity> findByCatalogAndHasImageTrue(ReviewCatalog catalog, Pageable pageable);
+
+    // 반응 토글 트랜잭션이 가장 먼저 잡는 잠금 -> 리뷰 행 잠금 후 반응 행 잠금 순서를 지킨다.
+    @Query(value = "SELECT id FROM review WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Long lockById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update ReviewEntity r set r.likes = r.likes + :likes, r.dislikes = r.dislikes + :dislikes " +
+            "where r.id = :id")
+    int addReactions(@Param("id") Long id, @Param("likes") int likes, @Param("dislikes") int dislikes);
 }
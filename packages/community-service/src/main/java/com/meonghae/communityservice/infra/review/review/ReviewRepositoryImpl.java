@@ -1,20 +1,44 @@
 package com.meonghae.communityservice.infra.review.review;
 
+import com.meonghae.communityservice.application.review.ReviewSortType;
 import com.meonghae.communityservice.application.review.port.ReviewRepository;
 import com.meonghae.communityservice.domain.review.Review;
 import com.meonghae.communityservice.domain.review.ReviewCatalog;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
+import com.meonghae.communityservice.infra.review.search.FullTextMySQLDialect;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class ReviewRepositoryImpl implements ReviewRepository {
 
+    private static final int MIN_FULLTEXT_LENGTH = ReviewSortType.MIN_RELEVANCE_KEYWORD_LENGTH;
+
+    // 관련도 정렬 커서로 넘겨볼 수 있는 최대 결과 수
+    private static final int MAX_RELEVANCE_RESULTS = 300;
+
     private final ReviewJpaRepository reviewJpaRepository;
+    private final JPAQueryFactory jpaQueryFactory;
 
     @Override
     public Optional<Review> findById(Long reviewId) {
@@ -23,14 +47,191 @@ public class ReviewRepositoryImpl implements ReviewRepository {
 
     @Override
     public Slice<Review> findByCatalogAndKeywordAndSortType(Pageable pageable, ReviewCatalog catalog, String keyword) {
-        return reviewJpaRepository.findByCatalogAndKeywordAndSortType(pageable, catalog, keyword)
-                .map(ReviewEntity::toModel);
+        if (keyword == null) {
+            return reviewJpaRepository.findByCatalog(catalog, pageable).map(ReviewEntity::toModel);
+        }
+        return search(pageable, catalog, keyword, false);
     }
 
     @Override
     public Slice<Review> findByCatalogAndHasImageAndKeywordAndSortType(Pageable pageable, ReviewCatalog catalog, String keyword) {
-        return reviewJpaRepository.findByCatalogAndHasImageAndKeywordAndSortType(pageable, catalog, keyword)
-                .map(ReviewEntity::toModel);
+        if (keyword == null) {
+            return reviewJpaRepository.findByCatalogAndHasImageTrue(catalog, pageable).map(ReviewEntity::toModel);
+        }
+        return search(pageable, catalog, keyword, true);
+    }
+
+    // 검색어 offset 조회 -> FULLTEXT 로 거른 뒤 Pageable 의 정렬(관련도 포함)을 그대로 적용한다.
+    private Slice<Review> search(Pageable pageable, ReviewCatalog catalog, String keyword, boolean photoOnly) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        BooleanBuilder condition = new BooleanBuilder(qReview.catalog.eq(catalog))
+                .and(matches(keyword));
+        if (photoOnly) {
+            condition.and(qReview.hasImage.isTrue());
+        }
+
+        List<ReviewEntity> fetched = jpaQueryFactory.selectFrom(qReview)
+                .where(condition)
+                .orderBy(toOrderSpecifiers(pageable.getSort(), keyword))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = fetched.size() > pageable.getPageSize();
+        List<Review> content = fetched.stream()
+                .limit(pageable.getPageSize())
+                .map(ReviewEntity::toModel)
+                .collect(Collectors.toList());
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort, String keyword) {
+        PathBuilder<ReviewEntity> entityPath = new PathBuilder<>(ReviewEntity.class, QReviewEntity.reviewEntity.getMetadata());
+        return sort.stream()
+                .filter(order -> !ReviewSortType.RELEVANCE_PROPERTY.equals(order.getProperty()) || isFullText(keyword))
+                .map(order -> {
+                    Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+                    if (ReviewSortType.RELEVANCE_PROPERTY.equals(order.getProperty())) {
+                        return new OrderSpecifier<>(direction, relevance(keyword));
+                    }
+                    return new OrderSpecifier(direction, entityPath.getComparable(order.getProperty(), Comparable.class));
+                })
+                .toArray(OrderSpecifier[]::new);
+    }
+
+    // ngram 토큰(2자)보다 짧은 검색어는 FULLTEXT 로 찾을 수 없으므로 LIKE 로 대체한다.
+    private boolean isFullText(String keyword) {
+        return keyword.length() >= MIN_FULLTEXT_LENGTH;
+    }
+
+    private BooleanExpression matches(String keyword) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        if (!isFullText(keyword)) {
+            return qReview.title.contains(keyword).or(qReview.content.contains(keyword));
+        }
+        return relevance(keyword).gt(0.0);
+    }
+
+    private NumberExpression<Double> relevance(String keyword) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        return Expressions.numberTemplate(Double.class,
+                "function('" + FullTextMySQLDialect.MATCH_AGAINST + "', {0}, {1}, {2})",
+                qReview.title, qReview.content, keyword);
+    }
+
+    // 정렬 키 + id keyset 조회 -> 정렬 종류별 (catalog, 정렬 키, id) 인덱스를 사용한다.
+    // 동점은 정렬 키와 같은 방향의 id 로 정렬해 인덱스를 한 방향으로만 읽는다. (오름차순이면 id 오름차순)
+    @Override
+    public CursorSlice<Review> findByCatalogAndKeywordAndSortType(Cursor cursor, int size, ReviewCatalog catalog,
+                                                                 String keyword, ReviewSortType sort, boolean photoOnly) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        BooleanBuilder condition = new BooleanBuilder(qReview.catalog.eq(catalog));
+        if (photoOnly) {
+            condition.and(qReview.hasImage.isTrue());
+        }
+        if (keyword != null) {
+            condition.and(matches(keyword));
+        }
+        if (sort == ReviewSortType.RELEVANCE && (keyword == null || !isFullText(keyword))) {
+            sort = ReviewSortType.LATEST;
+        }
+        if (sort == ReviewSortType.RELEVANCE) {
+            return searchByRelevance(cursor, size, condition, keyword);
+        }
+        if (cursor != null) {
+            condition.and(after(sort, cursor));
+        }
+
+        ReviewSortType sortType = sort;
+        List<Review> reviews = jpaQueryFactory.selectFrom(qReview)
+                .where(condition)
+                .orderBy(orderOf(sort), sort == ReviewSortType.RATING_ASC ? qReview.id.asc() : qReview.id.desc())
+                .limit(size + 1)
+                .fetch()
+                .stream()
+                .map(ReviewEntity::toModel)
+                .collect(Collectors.toList());
+
+        return CursorSlice.of(reviews, size, review -> Cursor.of(sortType.name(), keyOf(sortType, review), review.getId()));
+    }
+
+    // MATCH 점수는 double 이고 행이 바뀌면 달라지므로 점수로 seek 하지 않는다.
+    // 대신 상위 MAX_RELEVANCE_RESULTS 건 안에서 다음에 읽을 위치를 커서의 정렬 키로 사용한다.
+    private CursorSlice<Review> searchByRelevance(Cursor cursor, int size, BooleanBuilder condition, String keyword) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        int offset = cursor == null ? 0 : Math.max(0, cursor.intKey());
+        int limit = Math.min(size, MAX_RELEVANCE_RESULTS - offset);
+        if (limit <= 0) {
+            return new CursorSlice<>(List.of(), null);
+        }
+        // 마지막 페이지가 아닐 때만 다음 페이지 여부 확인용으로 1건 더 조회한다.
+        boolean hasMore = offset + limit < MAX_RELEVANCE_RESULTS;
+
+        List<Review> reviews = jpaQueryFactory.selectFrom(qReview)
+                .where(condition)
+                .orderBy(relevance(keyword).desc(), qReview.id.desc())
+                .offset(offset)
+                .limit(hasMore ? limit + 1 : limit)
+                .fetch()
+                .stream()
+                .map(ReviewEntity::toModel)
+                .collect(Collectors.toList());
+
+        int next = offset + limit;
+        return CursorSlice.of(reviews, limit,
+                review -> Cursor.of(ReviewSortType.RELEVANCE.name(), next, review.getId()));
+    }
+
+    private BooleanExpression after(ReviewSortType sort, Cursor cursor) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        switch (sort) {
+            case RATING_ASC:
+                return qReview.rating.gt(cursor.intKey())
+                        .or(qReview.rating.eq(cursor.intKey()).and(qReview.id.gt(cursor.getId())));
+            case RATING_DESC:
+                return descendingAfter(qReview.rating, cursor);
+            case RECOMMEND:
+                return descendingAfter(qReview.likes, cursor);
+            case LATEST:
+            default:
+                LocalDateTime createdDate = cursor.dateKey();
+                return qReview.createdDate.lt(createdDate)
+                        .or(qReview.createdDate.eq(createdDate).and(qReview.id.lt(cursor.getId())));
+        }
+    }
+
+    private BooleanExpression descendingAfter(NumberPath<Integer> path, Cursor cursor) {
+        return path.lt(cursor.intKey())
+                .or(path.eq(cursor.intKey()).and(QReviewEntity.reviewEntity.id.lt(cursor.getId())));
+    }
+
+    private OrderSpecifier<?> orderOf(ReviewSortType sort) {
+        QReviewEntity qReview = QReviewEntity.reviewEntity;
+        switch (sort) {
+            case RATING_ASC:
+                return qReview.rating.asc();
+            case RATING_DESC:
+                return qReview.rating.desc();
+            case RECOMMEND:
+                return qReview.likes.desc();
+            case LATEST:
+            default:
+                return qReview.createdDate.desc();
+        }
+    }
+
+    private Object keyOf(ReviewSortType sort, Review review) {
+        switch (sort) {
+            case RATING_ASC:
+            case RATING_DESC:
+                return review.getRating();
+            case RECOMMEND:
+                return review.getLikes();
+            case LATEST:
+            default:
+                return review.getCreatedDate();
+        }
     }
 
     @Override
@@ -52,8 +253,12 @@ public class ReviewRepositoryImpl implements ReviewRepository {
     }
 
     @Override
-    public void updateReaction(Review review) {
-        ReviewEntity entity = reviewJpaRepository.findById(review.getId()).get();
-        entity.updateReaction(review);
+    public boolean lockForReaction(Long reviewId) {
+        return reviewJpaRepository.lockById(reviewId) != null;
+    }
+
+    @Override
+    public void increaseReactions(Long reviewId, int likes, int dislikes) {
+        reviewJpaRepository.addReactions(reviewId, likes, dislikes);
     }
 }
@@ -0,0 +1,19 @@
+package com.meonghae.communityservice.infra.review.search;
+
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * MySQL FULLTEXT 검색을 JPQL / QueryDSL 에서 사용할 수 있도록 MATCH ... AGAINST 를 함수로 등록한다.
+ * function('match_against', r.title, r.content, :keyword) -> 관련도 점수 (0 이면 일치하지 않음)
+ */
+public class FullTextMySQLDialect extends MySQL8Dialect {
+    public static final String MATCH_AGAINST = "match_against";
+
+    public FullTextMySQLDialect() {
+        super();
+        registerFunction(MATCH_AGAINST, new SQLFunctionTemplate(StandardBasicTypes.DOUBLE,
+                "match (?1, ?2) against (?3 in natural language mode)"));
+    }
+}
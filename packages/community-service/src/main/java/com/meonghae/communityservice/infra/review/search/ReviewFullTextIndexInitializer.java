@@ -0,0 +1,42 @@
+package com.meonghae.communityservice.infra.review.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ddl-auto 로는 FULLTEXT 인덱스를 만들 수 없으므로 기동 시 review(title, content) 에 ngram 인덱스가 없으면 생성한다.
+ * 한글은 띄어쓰기 단위로 자르면 조사 때문에 검색이 안 되므로 ngram parser (기본 토큰 크기 2) 를 사용한다.
+ * 인덱스가 없으면 RELEVANCE 검색의 MATCH 쿼리가 실패하므로 기본으로 켜 두고, 이미 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "review-search.create-index", havingValue = "true", matchIfMissing = true)
+public class ReviewFullTextIndexInitializer {
+    public static final String INDEX_NAME = "ft_review_title_content";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexIfAbsent() {
+        try {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = 'review' AND index_name = ?",
+                    Integer.class, INDEX_NAME);
+            if (count != null && count > 0) {
+                return;
+            }
+            log.info("creating fulltext index {} on review(title, content)", INDEX_NAME);
+            jdbcTemplate.execute("ALTER TABLE review ADD FULLTEXT INDEX " + INDEX_NAME +
+                    " (title, content) WITH PARSER ngram");
+        } catch (RuntimeException e) {
+            // 인덱스가 없으면 MATCH 쿼리가 실패하므로 원인을 남기고 기동은 계속한다.
+            log.error("failed to create fulltext index {}", INDEX_NAME, e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.meonghae.communityservice.infra.upload;
+
+import com.meonghae.communityservice.application.port.ImageOutboxPort;
+import com.meonghae.communityservice.application.upload.ImageUploadEvent;
+import com.meonghae.communityservice.domain.upload.ImageOutbox;
+import com.meonghae.communityservice.domain.upload.OutboxStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// 업로드 이미지를 outbox 작업과 함께 DB 에 저장한다.
+// 로컬 디스크가 아니므로 어느 인스턴스에서든 재시도할 수 있고, 게시글과 같은 트랜잭션으로 커밋된다.
+@Component
+public class ImageOutboxAdapter implements ImageOutboxPort {
+    private static final int RETRY_BATCH_SIZE = 50;
+
+    private final ImageOutboxJpaRepository outboxJpaRepository;
+    private final ImageOutboxFileJpaRepository fileJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration lease;
+
+    public ImageOutboxAdapter(ImageOutboxJpaRepository outboxJpaRepository,
+                              ImageOutboxFileJpaRepository fileJpaRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              @Value("${image-upload.async:true}") boolean enabled,
+                              @Value("${image-upload.lease-ms:300000}") long leaseMs) {
+        this.outboxJpaRepository = outboxJpaRepository;
+        this.fileJpaRepository = fileJpaRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.lease = Duration.ofMillis(leaseMs);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    @Transactional
+    public ImageOutbox reserve(String entityType, Long entityId, List<MultipartFile> images) {
+        ImageOutbox outbox = outboxJpaRepository
+                .save(ImageOutboxEntity.fromModel(ImageOutbox.create(entityType, entityId)))
+                .toModel();
+        for (int i = 0; i < images.size(); i++) {
+            MultipartFile image = images.get(i);
+            fileJpaRepository.save(ImageOutboxFileEntity.builder()
+                    .outboxId(outbox.getId())
+                    .seq(i)
+                    .originalFilename(image.getOriginalFilename())
+                    .contentType(image.getContentType())
+                    .data(read(image))
+                    .build());
+        }
+
+        // 게시글 트랜잭션이 커밋된 뒤 업로드 (ImageUploadListener)
+        eventPublisher.publishEvent(new ImageUploadEvent(outbox.getId()));
+        return outbox;
+    }
+
+    @Override
+    @Transactional
+    public Optional<ImageOutbox> claim(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = outboxJpaRepository.claim(outboxId, OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                now, now.plus(lease));
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+        return outboxJpaRepository.findById(outboxId).map(ImageOutboxEntity::toModel);
+    }
+
+    @Override
+    public Optional<ImageOutbox> findById(Long outboxId) {
+        return outboxJpaRepository.findById(outboxId).map(ImageOutboxEntity::toModel);
+    }
+
+    @Override
+    public List<ImageOutbox> findRetryTargets(LocalDateTime before) {
+        return outboxJpaRepository.findRetryTargets(OutboxStatus.PENDING, OutboxStatus.PROCESSING,
+                        before, LocalDateTime.now(), PageRequest.of(0, RETRY_BATCH_SIZE))
+                .stream().map(ImageOutboxEntity::toModel).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MultipartFile> loadImages(ImageOutbox outbox) {
+        return fileJpaRepository.findByOutboxIdOrderBySeqAsc(outbox.getId()).stream()
+                .map(file -> new StagedMultipartFile(file.getData(), file.getOriginalFilename(), file.getContentType()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public void update(ImageOutbox outbox) {
+        outboxJpaRepository.findById(outbox.getId())
+                .ifPresent(entity -> entity.updateEntity(outbox));
+    }
+
+    @Override
+    @Transactional
+    public void deleteImages(ImageOutbox outbox) {
+        fileJpaRepository.deleteByOutboxId(outbox.getId());
+    }
+
+    private byte[] read(MultipartFile image) {
+        try {
+            return image.getBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
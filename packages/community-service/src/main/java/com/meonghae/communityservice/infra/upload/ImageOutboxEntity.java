@@ -0,0 +1,65 @@
+package com.meonghae.communityservice.infra.upload;
+
+import com.meonghae.communityservice.domain.upload.ImageOutbox;
+import com.meonghae.communityservice.domain.upload.OutboxStatus;
+import com.meonghae.communityservice.infra.BaseTimeEntity;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "image_outbox", indexes = @Index(name = "idx_image_outbox_status", columnList = "status, createdDate"))
+public class ImageOutboxEntity extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatus status;
+
+    @Column(nullable = false, columnDefinition = "int")
+    private int attempts;
+
+    private LocalDateTime leaseUntil;
+
+    public static ImageOutboxEntity fromModel(ImageOutbox outbox) {
+        return ImageOutboxEntity.builder()
+                .id(outbox.getId())
+                .entityType(outbox.getEntityType())
+                .entityId(outbox.getEntityId())
+                .status(outbox.getStatus())
+                .attempts(outbox.getAttempts())
+                .leaseUntil(outbox.getLeaseUntil())
+                .build();
+    }
+
+    public ImageOutbox toModel() {
+        return ImageOutbox.builder()
+                .id(this.id)
+                .entityType(this.entityType)
+                .entityId(this.entityId)
+                .status(this.status)
+                .attempts(this.attempts)
+                .leaseUntil(this.leaseUntil)
+                .createdDate(this.getCreatedDate())
+                .build();
+    }
+
+    public void updateEntity(ImageOutbox outbox) {
+        this.status = outbox.getStatus();
+        this.attempts = outbox.getAttempts();
+        this.leaseUntil = outbox.getLeaseUntil();
+    }
+}
@@ -0,0 +1,32 @@
+package com.meonghae.communityservice.infra.upload;
+
+import lombok.*;
+
+import javax.persistence.*;
+
+// 업로드 대기 중인 이미지 원본, 어느 인스턴스에서든 재시도할 수 있도록 outbox 와 함께 DB 에 저장한다.
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "image_outbox_file", indexes = @Index(name = "idx_image_outbox_file_outbox", columnList = "outboxId, seq"))
+public class ImageOutboxFileEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long outboxId;
+
+    @Column(nullable = false, columnDefinition = "int")
+    private int seq;
+
+    private String originalFilename;
+
+    private String contentType;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] data;
+}
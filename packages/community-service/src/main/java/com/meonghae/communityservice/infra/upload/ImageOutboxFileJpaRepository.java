@@ -0,0 +1,16 @@
+package com.meonghae.communityservice.infra.upload;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ImageOutboxFileJpaRepository extends JpaRepository<ImageOutboxFileEntity, Long> {
+    List<ImageOutboxFileEntity> findByOutboxIdOrderBySeqAsc(Long outboxId);
+
+    @Modifying
+    @Query("delete from ImageOutboxFileEntity f where f.outboxId = :outboxId")
+    int deleteByOutboxId(@Param("outboxId") Long outboxId);
+}
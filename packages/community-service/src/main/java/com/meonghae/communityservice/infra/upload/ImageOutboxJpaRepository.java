@@ -0,0 +1,34 @@
+package com.meonghae.communityservice.infra.upload;
+
+import com.meonghae.communityservice.domain.upload.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageOutboxJpaRepository extends JpaRepository<ImageOutboxEntity, Long> {
+
+    // 조건부 UPDATE 로 선점한다. -> 동시에 시도해도 한 곳만 1 을 돌려받는다.
+    @Modifying(clearAutomatically = true)
+    @Query("update ImageOutboxEntity o set o.status = :processing, o.leaseUntil = :leaseUntil " +
+            "where o.id = :id and (o.status = :pending or (o.status = :processing and o.leaseUntil < :now))")
+    int claim(@Param("id") Long id,
+              @Param("pending") OutboxStatus pending,
+              @Param("processing") OutboxStatus processing,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("select o from ImageOutboxEntity o " +
+            "where (o.status = :pending and o.createdDate < :before) " +
+            "or (o.status = :processing and o.leaseUntil < :now) " +
+            "order by o.id asc")
+    List<ImageOutboxEntity> findRetryTargets(@Param("pending") OutboxStatus pending,
+                                             @Param("processing") OutboxStatus processing,
+                                             @Param("before") LocalDateTime before,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+}
@@ -0,0 +1,44 @@
+package com.meonghae.communityservice.infra.upload;
+
+import com.meonghae.communityservice.application.upload.ImageUploadEvent;
+import com.meonghae.communityservice.application.upload.ImageUploadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+public class ImageUploadListener {
+    private final ImageUploadService imageUploadService;
+    private final Executor uploadExecutor;
+
+    public ImageUploadListener(ImageUploadService imageUploadService,
+                               @Qualifier(ImageUploadConfig.UPLOAD_EXECUTOR) Executor uploadExecutor) {
+        this.imageUploadService = imageUploadService;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    // 게시글 커밋 직후 별도 스레드에서 업로드
+    // 대기열이 가득 차면 작업은 PENDING 으로 남겨 두고 재시도에 맡긴다. (이미 커밋된 게시글 요청을 실패시키지 않는다)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(ImageUploadEvent event) {
+        try {
+            uploadExecutor.execute(() -> imageUploadService.process(event.getOutboxId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("image upload queue is full, outbox id {} is left for retry", event.getOutboxId());
+        }
+    }
+
+    // 서버 재시작 등으로 처리되지 못한 작업, 처리 기한이 지난 작업 재시도
+    @Scheduled(fixedDelayString = "${image-upload.retry-delay-ms:60000}")
+    public void retryPending() {
+        imageUploadService.retryPending(LocalDateTime.now().minusMinutes(1));
+    }
+}
@@ -0,0 +1,62 @@
+package com.meonghae.communityservice.infra.upload;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+// outbox 에 저장된 이미지를 Feign 업로드에 그대로 넘기기 위한 MultipartFile 구현
+public class StagedMultipartFile implements MultipartFile {
+    private final byte[] data;
+    private final String originalFilename;
+    private final String contentType;
+
+    public StagedMultipartFile(byte[] data, String originalFilename, String contentType) {
+        this.data = data;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+    }
+
+    @Override
+    public String getName() {
+        return "files";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.length == 0;
+    }
+
+    @Override
+    public long getSize() {
+        return data.length;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        return data;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+        Files.write(dest.toPath(), data);
+    }
+}
@@ -1,6 +1,7 @@
 package com.meonghae.communityservice.web.board.board;
 
 import com.meonghae.communityservice.dto.board.*;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.application.board.BoardLikeService;
 import com.meonghae.communityservice.application.board.BoardService;
 import io.swagger.annotations.Api;
@@ -32,6 +33,15 @@ public class BoardController {
         return ResponseEntity.ok(listDto);
     }
 
+    @Operation(summary = "게시글 리스트 커서 조회 API (무한 스크롤)")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSlice<BoardListDto>> getBoardListByCursor(
+            @RequestParam(required = false, defaultValue = "1", value = "type") int type,
+            @RequestParam(required = false, value = "cursor") String cursor) {
+        CursorSlice<BoardListDto> listDto = boardService.getBoardList(type, cursor);
+        return ResponseEntity.ok(listDto);
+    }
+
     @Operation(summary = "특정 게시글 호출 API")
     @GetMapping("/{id}")
     public ResponseEntity<BoardDetailDto> getBoard(@PathVariable(name = "id") Long id,
@@ -3,6 +3,7 @@ package com.meonghae.communityservice.web.board.comment;
 import com.meonghae.communityservice.dto.comment.CommentChildDto;
 import com.meonghae.communityservice.dto.comment.CommentParentDto;
 import com.meonghae.communityservice.dto.comment.CommentRequest;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.application.board.BoardCommentService;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +28,14 @@ public class BoardCommentController {
         return commentService.getParentComments(page, id);
     }
 
+    @Operation(summary = "부모 댓글 커서 조회 API (무한 스크롤)")
+    @GetMapping("/{boardId}/cursor")
+    public CursorSlice<CommentParentDto> getParentCommentsByCursor(@PathVariable(name = "boardId") Long id,
+                                                                   @RequestParam(required = false,
+                                                                          value = "cursor") String cursor) {
+        return commentService.getParentComments(cursor, id);
+    }
+
     @Operation(summary = "자식 댓글 조회 API")
     @GetMapping("/{parentId}/reply")
     public Slice<CommentChildDto> getChildComments(@PathVariable(name = "parentId") Long parentId,
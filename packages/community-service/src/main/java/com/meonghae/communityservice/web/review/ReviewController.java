@@ -1,5 +1,6 @@
 package com.meonghae.communityservice.web.review;
 
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.dto.review.ReviewListDto;
 import com.meonghae.communityservice.dto.review.ReviewReactionType;
 import com.meonghae.communityservice.dto.review.ReviewRequest;
@@ -46,6 +47,24 @@ public class ReviewController {
         return ResponseEntity.ok(listDto);
     }
 
+    @Operation(summary = "타입별 리뷰 커서 조회 API (무한 스크롤)")
+    @GetMapping("/{type}/cursor")
+    public ResponseEntity<CursorSlice<ReviewListDto>> getReviewListByCursor(@PathVariable(name = "type") int type,
+                                                                            @RequestHeader("Authorization") String token,
+                                                                            @RequestParam(value = "cursor",
+                                                                                    required = false) String cursor,
+                                                                            @RequestParam(value = "keyword",
+                                                                                    required = false) String keyword,
+                                                                            @RequestParam(value = "sort",
+                                                                                    defaultValue = "LATEST",
+                                                                                    required = false) String sort,
+                                                                            @RequestParam(value = "photo",
+                                                                                    defaultValue = "false",
+                                                                                    required = false) boolean photoOnly) {
+        CursorSlice<ReviewListDto> listDto = reviewService.getReviewByType(type, token, cursor, keyword, sort, photoOnly);
+        return ResponseEntity.ok(listDto);
+    }
+
     @Operation(summary = "리뷰 생성 API")
     @PostMapping("")
     public ResponseEntity<String> addReview(@RequestParam(value = "type") int type,
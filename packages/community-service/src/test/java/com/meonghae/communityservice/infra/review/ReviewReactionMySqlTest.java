@@ -0,0 +1,175 @@
+package com.meonghae.communityservice.infra.review;
+
+import com.meonghae.communityservice.application.review.ReviewReactionEngine;
+import com.meonghae.communityservice.domain.review.ReviewCatalog;
+import com.meonghae.communityservice.infra.review.reaction.ReactionEntity;
+import com.meonghae.communityservice.infra.review.reaction.ReactionJpaRepository;
+import com.meonghae.communityservice.infra.review.reaction.ReactionRepositoryImpl;
+import com.meonghae.communityservice.infra.review.review.ReviewEntity;
+import com.meonghae.communityservice.infra.review.review.ReviewJpaRepository;
+import com.meonghae.communityservice.infra.review.review.ReviewRepositoryImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReviewReactionEngine 을 실제 MySQL 에서 돌려 toggleStatus upsert 와 addReactions 카운터 update 를 검증한다.
+ * (ON DUPLICATE KEY UPDATE 의 할당 순서, 행 잠금 순서는 fake 로 확인할 수 없다)
+ * Docker 가 필요하므로 기본 test 에서는 빠지고 ./gradlew mysqlTest 로 실행한다.
+ */
+@Tag("mysql")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewReactionMySqlTest {
+
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.32");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+    }
+
+    @Configuration
+    @EnableJpaAuditing
+    @EntityScan(basePackageClasses = {ReviewEntity.class, ReactionEntity.class})
+    @EnableJpaRepositories(basePackageClasses = {ReviewJpaRepository.class, ReactionJpaRepository.class})
+    @Import({ReviewReactionEngine.class, ReviewRepositoryImpl.class, ReactionRepositoryImpl.class})
+    static class Config {
+        @PersistenceContext
+        private EntityManager entityManager;
+
+        @Bean
+        public JPAQueryFactory jpaQueryFactory() {
+            return new JPAQueryFactory(entityManager);
+        }
+    }
+
+    @Autowired
+    private ReviewReactionEngine reactionEngine;
+
+    @Autowired
+    private ReviewJpaRepository reviewJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM review_reaction");
+        jdbcTemplate.update("DELETE FROM review");
+    }
+
+    @Test
+    public void 같은_리뷰에_동시에_추천이_몰려도_추천_수가_반응_상태와_일치한다() throws Exception {
+        //given
+        Long reviewId = saveReview();
+        int users = 100;
+        int requests = 4000;
+
+        //when
+        runConcurrently(requests, i -> reactionEngine.toggle("user" + (i % users), reviewId, (i / users) % 3 != 1));
+
+        //then
+        Integer reactions = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM review_reaction WHERE review_id = ?", Integer.class, reviewId);
+        Integer likes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM review_reaction WHERE review_id = ? AND recommend_status = TRUE",
+                Integer.class, reviewId);
+        Integer dislikes = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM review_reaction WHERE review_id = ? AND recommend_status = FALSE",
+                Integer.class, reviewId);
+        Map<String, Object> review = jdbcTemplate.queryForMap(
+                "SELECT likes, dislikes FROM review WHERE id = ?", reviewId);
+
+        assertThat(reactions).isEqualTo(users);
+        assertThat(((Number) review.get("likes")).intValue()).isEqualTo(likes);
+        assertThat(((Number) review.get("dislikes")).intValue()).isEqualTo(dislikes);
+    }
+
+    @Test
+    public void 한_사용자가_동시에_여러_번_추천해도_반응은_한_행만_남는다() throws Exception {
+        //given
+        Long reviewId = saveReview();
+
+        //when
+        runConcurrently(51, i -> reactionEngine.toggle("tester", reviewId, true));
+
+        //then
+        List<Boolean> statuses = jdbcTemplate.queryForList(
+                "SELECT recommend_status FROM review_reaction WHERE review_id = ?", Boolean.class, reviewId);
+        Map<String, Object> review = jdbcTemplate.queryForMap(
+                "SELECT likes, dislikes FROM review WHERE id = ?", reviewId);
+
+        assertThat(statuses).containsExactly(true);
+        assertThat(((Number) review.get("likes")).intValue()).isEqualTo(1);
+        assertThat(((Number) review.get("dislikes")).intValue()).isZero();
+    }
+
+    private Long saveReview() {
+        return reviewJpaRepository.save(ReviewEntity.builder()
+                .title("test title")
+                .content("test content")
+                .email("creator")
+                .hasImage(false)
+                .rating(10)
+                .catalog(ReviewCatalog.findWithKey(1))
+                .build()).getId();
+    }
+
+    // 요청 중 하나라도 교착/예외로 실패하면 future.get 에서 테스트가 실패한다.
+    private void runConcurrently(int requests, IntConsumer request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> request.accept(index)));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -42,4 +42,15 @@ public class FakeBoardLikeRepo implements BoardLikeRepository {
             return newLike;
         }
     }
+
+    @Override
+    public boolean toggle(String email, Long boardId) {
+        BoardLike like = findByEmailAndBoardEntity_Id(email, boardId);
+        if (like == null) {
+            save(BoardLike.create(email, Board.builder().id(boardId).build()));
+            return true;
+        }
+        like.toggleLike();
+        return like.getStatus();
+    }
 }
@@ -3,6 +3,8 @@ package com.meonghae.communityservice.mock;
 import com.meonghae.communityservice.application.board.port.BoardRepository;
 import com.meonghae.communityservice.domain.board.Board;
 import com.meonghae.communityservice.domain.board.BoardType;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.infra.board.board.BoardEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -29,6 +31,11 @@ public class FakeBoardRepo implements BoardRepository {
         return null;
     }
 
+    @Override
+    public CursorSlice<Board> findByType(BoardType type, Cursor cursor, int size) {
+        return null;
+    }
+
     @Override
     public List<Board> findBoardListForMain(LocalDateTime now) {
         return null;
@@ -82,4 +89,41 @@ public class FakeBoardRepo implements BoardRepository {
             return updateBoard;
         }
     }
+
+    @Override
+    public void increaseLikes(Long boardId, int delta) {
+        increase(boardId, delta, 0);
+    }
+
+    @Override
+    public void increaseCommentCount(Long boardId, int delta) {
+        increase(boardId, 0, delta);
+    }
+
+    @Override
+    public int repairCommentCount(Long fromId, Long toId) {
+        return 0;
+    }
+
+    @Override
+    public Long findMaxId() {
+        return autoGeneratedId.get();
+    }
+
+    private void increase(Long boardId, int likesDelta, int commentDelta) {
+        data.stream().filter(item -> Objects.equals(item.getId(), boardId)).findAny().ifPresent(entity -> {
+            Board board = entity.toModel();
+            data.remove(entity);
+            data.add(BoardEntity.fromModel(Board.builder()
+                    .id(board.getId())
+                    .email(board.getEmail())
+                    .title(board.getTitle())
+                    .content(board.getContent())
+                    .type(board.getType())
+                    .likes(board.getLikes() + likesDelta)
+                    .commentCount(board.getCommentCount() + commentDelta)
+                    .hasImage(board.getHasImage())
+                    .build()));
+        });
+    }
 }
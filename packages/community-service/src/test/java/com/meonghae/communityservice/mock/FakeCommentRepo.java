@@ -2,6 +2,8 @@ package com.meonghae.communityservice.mock;
 
 import com.meonghae.communityservice.application.board.port.CommentRepository;
 import com.meonghae.communityservice.domain.board.BoardComment;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -24,12 +26,12 @@ public class FakeCommentRepo implements CommentRepository {
     }
 
     @Override
-    public Slice<BoardComment> findByParent_Id(Pageable pageable, Long parentId) {
+    public CursorSlice<BoardComment> findByBoard_IdAndParentIsNull(Cursor cursor, int size, Long boardId) {
         return null;
     }
 
     @Override
-    public Map<Long, Long> findCommentCountByBoardIds(List<Long> boardIds) {
+    public Slice<BoardComment> findByParent_Id(Pageable pageable, Long parentId) {
         return null;
     }
 
@@ -84,9 +86,4 @@ public class FakeCommentRepo implements CommentRepository {
     public void delete(Long commentId) {
 
     }
-
-    @Override
-    public int countByBoardId(Long boardId) {
-        return 0;
-    }
 }
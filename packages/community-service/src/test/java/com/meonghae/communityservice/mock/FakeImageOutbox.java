@@ -0,0 +1,92 @@
+package com.meonghae.communityservice.mock;
+
+import com.meonghae.communityservice.application.port.ImageOutboxPort;
+import com.meonghae.communityservice.domain.upload.ImageOutbox;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class FakeImageOutbox implements ImageOutboxPort {
+
+    private final boolean enabled;
+    private final List<ImageOutbox> outboxes = new ArrayList<>();
+    private final Map<Long, List<MultipartFile>> images = new HashMap<>();
+    private Long id = 0L;
+
+    public FakeImageOutbox() {
+        this(false);
+    }
+
+    public FakeImageOutbox(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public ImageOutbox reserve(String entityType, Long entityId, List<MultipartFile> files) {
+        ImageOutbox created = ImageOutbox.create(entityType, entityId);
+        ImageOutbox outbox = ImageOutbox.builder()
+                .id(++id)
+                .entityType(created.getEntityType())
+                .entityId(created.getEntityId())
+                .status(created.getStatus())
+                .attempts(created.getAttempts())
+                .createdDate(LocalDateTime.now())
+                .build();
+        outboxes.add(outbox);
+        images.put(outbox.getId(), new ArrayList<>(files));
+        return outbox;
+    }
+
+    @Override
+    public Optional<ImageOutbox> claim(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<ImageOutbox> claimable = findById(outboxId).filter(outbox -> outbox.isClaimable(now));
+        claimable.ifPresent(outbox -> outbox.claim(now.plusMinutes(5)));
+        return claimable;
+    }
+
+    @Override
+    public Optional<ImageOutbox> findById(Long outboxId) {
+        return outboxes.stream().filter(outbox -> outbox.getId().equals(outboxId)).findAny();
+    }
+
+    @Override
+    public List<ImageOutbox> findRetryTargets(LocalDateTime before) {
+        return outboxes.stream()
+                .filter(outbox -> (outbox.isPending() && outbox.getCreatedDate().isBefore(before))
+                        || (!outbox.isPending() && outbox.isClaimable(LocalDateTime.now())))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<MultipartFile> loadImages(ImageOutbox outbox) {
+        return images.getOrDefault(outbox.getId(), Collections.emptyList());
+    }
+
+    @Override
+    public void update(ImageOutbox outbox) {
+        outboxes.removeIf(item -> item.getId().equals(outbox.getId()));
+        outboxes.add(outbox);
+    }
+
+    @Override
+    public void deleteImages(ImageOutbox outbox) {
+        images.remove(outbox.getId());
+    }
+
+    // 처리 중이던 작업자가 기한 안에 끝내지 못한 상황
+    public void expireLease(Long outboxId) {
+        findById(outboxId).ifPresent(outbox -> outbox.claim(LocalDateTime.now().minusSeconds(1)));
+    }
+
+    public List<ImageOutbox> getOutboxes() {
+        return outboxes;
+    }
+}
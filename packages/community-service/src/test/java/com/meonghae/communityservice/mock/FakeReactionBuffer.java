@@ -0,0 +1,93 @@
+package com.meonghae.communityservice.mock;
+
+import com.meonghae.communityservice.application.port.ReactionBufferPort;
+import com.meonghae.communityservice.domain.review.RecommendStatus;
+import com.meonghae.communityservice.dto.review.PendingReaction;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+public class FakeReactionBuffer implements ReactionBufferPort {
+
+    private final boolean enabled;
+    private final Map<String, Boolean> boardStates = new HashMap<>();
+    private final Map<String, Boolean> reviewStates = new HashMap<>();
+    private final Map<Long, Integer> boardLikes = new HashMap<>();
+    private final Map<Long, int[]> reviewDeltas = new HashMap<>();
+
+    public FakeReactionBuffer() {
+        this(false);
+    }
+
+    public FakeReactionBuffer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public boolean toggleBoardLike(String email, Long boardId, Supplier<Boolean> currentStatus) {
+        String key = boardId + ":" + email;
+        boolean liked = !boardStates.computeIfAbsent(key, k -> Boolean.TRUE.equals(currentStatus.get()));
+        boardStates.put(key, liked);
+        boardLikes.merge(boardId, liked ? 1 : -1, Integer::sum);
+        return liked;
+    }
+
+    @Override
+    public Boolean toggleReviewReaction(String email, Long reviewId, boolean isLike, Supplier<Boolean> currentStatus) {
+        String key = reviewId + ":" + email;
+        Boolean old = reviewStates.containsKey(key) ? reviewStates.get(key) : currentStatus.get();
+        int[] delta = reviewDeltas.computeIfAbsent(reviewId, id -> new int[2]);
+        if (Boolean.TRUE.equals(old)) {
+            delta[0]--;
+        } else if (Boolean.FALSE.equals(old)) {
+            delta[1]--;
+        }
+        Boolean status = Objects.equals(old, isLike) ? null : isLike;
+        if (Boolean.TRUE.equals(status)) {
+            delta[0]++;
+        } else if (Boolean.FALSE.equals(status)) {
+            delta[1]++;
+        }
+        reviewStates.put(key, status);
+        return old;
+    }
+
+    @Override
+    public Boolean findBoardLikeStatus(String email, Long boardId) {
+        return boardStates.get(boardId + ":" + email);
+    }
+
+    @Override
+    public Map<Long, RecommendStatus> findReviewReactions(String email, Collection<Long> reviewIds) {
+        Map<Long, RecommendStatus> result = new HashMap<>();
+        for (Long reviewId : reviewIds) {
+            String key = reviewId + ":" + email;
+            if (reviewStates.containsKey(key)) {
+                Boolean status = reviewStates.get(key);
+                result.put(reviewId, status == null ? RecommendStatus.NONE :
+                        status ? RecommendStatus.TRUE : RecommendStatus.FALSE);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<Long, Integer> getPendingBoardLikes(Collection<Long> boardIds) {
+        Map<Long, Integer> result = new HashMap<>();
+        boardIds.stream().filter(boardLikes::containsKey).forEach(id -> result.put(id, boardLikes.get(id)));
+        return result;
+    }
+
+    @Override
+    public Map<Long, PendingReaction> getPendingReviewReactions(Collection<Long> reviewIds) {
+        Map<Long, PendingReaction> result = new HashMap<>();
+        reviewIds.stream().filter(reviewDeltas::containsKey).forEach(id ->
+                result.put(id, new PendingReaction(reviewDeltas.get(id)[0], reviewDeltas.get(id)[1])));
+        return result;
+    }
+}
@@ -1,11 +1,15 @@
 package com.meonghae.communityservice.mock;
 
 import com.meonghae.communityservice.application.review.port.ReactionRepository;
+import com.meonghae.communityservice.application.review.port.ReviewRepository;
+import com.meonghae.communityservice.domain.review.ReactionTransition;
+import com.meonghae.communityservice.domain.review.Review;
 import com.meonghae.communityservice.domain.review.ReviewReaction;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -13,6 +17,11 @@ public class FakeReactionRepo implements ReactionRepository {
 
     private final AtomicLong autoGeneratedId = new AtomicLong(0L);
     private final List<ReviewReaction> data = new ArrayList<>();
+    private final ReviewRepository reviewRepository;
+
+    public FakeReactionRepo(ReviewRepository reviewRepository) {
+        this.reviewRepository = reviewRepository;
+    }
 
     @Override
     public ReviewReaction findByEmailAndReviewEntity_Id(String email, Long reviewId) {
@@ -46,4 +55,22 @@ public class FakeReactionRepo implements ReactionRepository {
             return reaction;
         }
     }
+
+    @Override
+    public Optional<ReactionTransition> toggle(String email, Long reviewId, boolean isLike) {
+        Optional<Review> review = reviewRepository.findById(reviewId);
+        if (review.isEmpty()) {
+            return Optional.empty();
+        }
+        ReviewReaction reaction = findByEmailAndReviewEntity_Id(email, reviewId);
+        ReactionTransition transition = ReactionTransition.of(
+                reaction != null ? reaction.getRecommendStatus() : null, isLike);
+        save(ReviewReaction.builder()
+                .id(reaction != null ? reaction.getId() : null)
+                .email(email)
+                .review(review.get())
+                .recommendStatus(transition.getStatus())
+                .build());
+        return Optional.of(transition);
+    }
 }
@@ -1,28 +1,64 @@
 package com.meonghae.communityservice.mock;
 
 import com.meonghae.communityservice.application.port.RedisPort;
+import com.meonghae.communityservice.dto.board.BoardMainDto;
 import com.meonghae.communityservice.dto.s3.S3ResponseDto;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class FakeRedis implements RedisPort {
+    private List<BoardMainDto> mainBoards;
+
     @Override
     public String getNickname(String email) {
         return null;
     }
 
+    @Override
+    public Map<String, String> getNicknames(Collection<String> emails) {
+        return new HashMap<>();
+    }
+
     @Override
     public String getProfileImage(String email) {
         return null;
     }
 
+    @Override
+    public Map<String, String> getProfileImages(Collection<String> emails) {
+        return new HashMap<>();
+    }
+
     @Override
     public List<S3ResponseDto> getReviewImages(Long reviewId) {
         return null;
     }
 
+    @Override
+    public Map<Long, List<S3ResponseDto>> getReviewImages(Collection<Long> reviewIds) {
+        return new HashMap<>();
+    }
+
     @Override
     public String getFcmToken(String email) {
         return null;
     }
+
+    @Override
+    public List<BoardMainDto> getMainBoards() {
+        return mainBoards;
+    }
+
+    @Override
+    public void saveMainBoards(List<BoardMainDto> mainBoards) {
+        this.mainBoards = mainBoards;
+    }
+
+    @Override
+    public void deleteMainBoards() {
+        this.mainBoards = null;
+    }
 }
@@ -3,6 +3,9 @@ package com.meonghae.communityservice.mock;
 import com.meonghae.communityservice.application.review.port.ReviewRepository;
 import com.meonghae.communityservice.domain.review.Review;
 import com.meonghae.communityservice.domain.review.ReviewCatalog;
+import com.meonghae.communityservice.application.review.ReviewSortType;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -34,6 +37,12 @@ public class FakeReviewRepo implements ReviewRepository {
         return null;
     }
 
+    @Override
+    public CursorSlice<Review> findByCatalogAndKeywordAndSortType(Cursor cursor, int size, ReviewCatalog catalog,
+                                                                 String keyword, ReviewSortType sort, boolean photoOnly) {
+        return null;
+    }
+
     @Override
     public Review save(Review review) {
         LocalDateTime now = LocalDateTime.now();
@@ -94,7 +103,12 @@ public class FakeReviewRepo implements ReviewRepository {
     }
 
     @Override
-    public void updateReaction(Review review) {
+    public boolean lockForReaction(Long reviewId) {
+        return findById(reviewId).isPresent();
+    }
 
+    @Override
+    public void increaseReactions(Long reviewId, int likes, int dislikes) {
+        findById(reviewId).ifPresent(review -> review.applyReaction(likes, dislikes));
     }
 }
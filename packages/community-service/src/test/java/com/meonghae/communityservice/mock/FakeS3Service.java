@@ -9,12 +9,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class FakeS3Service implements S3ServicePort {
 
     private final List<S3ResponseDto> list = new ArrayList<>();
+    private final Set<String> uploadKeys = new HashSet<>();
 
     @Override
     public List<S3ResponseDto> getImages(S3RequestDto requestDto) {
@@ -22,13 +26,28 @@ public class FakeS3Service implements S3ServicePort {
                 item.getTypeId().equals(requestDto.getEntityId())).collect(Collectors.toList());
     }
 
+    @Override
+    public Map<Long, List<S3ResponseDto>> getImages(String entityType, List<Long> entityIds) {
+        return list.stream()
+                .filter(item -> item.getEntityType().equals(entityType) && entityIds.contains(item.getTypeId()))
+                .collect(Collectors.groupingBy(S3ResponseDto::getTypeId));
+    }
+
     @Override
     public UserImageDto getUserImage(String email) {
         return null;
     }
 
+    @Override
+    public List<UserImageDto> getUserImages(List<String> emails) {
+        return new ArrayList<>();
+    }
+
     @Override
     public ResponseEntity<String> uploadImage(List<MultipartFile> files, S3RequestDto data) {
+        if (data.getUploadKey() != null && !uploadKeys.add(data.getUploadKey())) {
+            return ResponseEntity.ok("ok");
+        }
         for (MultipartFile file : files) {
             S3ResponseDto response = S3ResponseDto.builder()
                     .fileName(file.getOriginalFilename())
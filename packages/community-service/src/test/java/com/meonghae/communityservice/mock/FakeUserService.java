@@ -3,8 +3,11 @@ package com.meonghae.communityservice.mock;
 import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.dto.fcm.FcmDto;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 public class FakeUserService implements UserServicePort {
     private final AtomicLong autoGeneratedId = new AtomicLong(0L);
@@ -23,6 +26,11 @@ public class FakeUserService implements UserServicePort {
         return "tester";
     }
 
+    @Override
+    public Map<String, String> getNicknames(List<String> emails) {
+        return emails.stream().collect(Collectors.toMap(email -> email, this::getNickname));
+    }
+
     @Override
     public FcmDto getFCMToken(String email) {
         return null;
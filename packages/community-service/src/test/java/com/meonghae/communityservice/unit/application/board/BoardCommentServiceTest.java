@@ -17,10 +17,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class BoardCommentServiceTest {
     private BoardCommentService commentService;
     private BoardService boardService;
+    private FakeBoardRepo boardRepository;
 
     @BeforeEach
     void init() {
         FakeBoardRepo fakeBoardRepo = new FakeBoardRepo();
+        this.boardRepository = fakeBoardRepo;
         FakeRedis fakeRedis = new FakeRedis();
         FakeUserService fakeUserService = new FakeUserService();
 
@@ -37,6 +39,8 @@ class BoardCommentServiceTest {
                 .boardRepository(fakeBoardRepo)
                 .likeRepository(new FakeBoardLikeRepo())
                 .redisService(fakeRedis)
+                .imageOutbox(new FakeImageOutbox())
+                .reactionBuffer(new FakeReactionBuffer())
                 .build();
     }
 
@@ -114,6 +118,32 @@ class BoardCommentServiceTest {
                 .hasFieldOrPropertyWithValue("errorMessage", "해당 댓글에는 대댓글을 달 수 없습니다.");
     }
 
+    @Test
+    public void 댓글을_추가하고_삭제하면_게시글의_댓글_수가_함께_변경된다() throws Exception {
+        //given
+        Board board = createBoard();
+        String token = "tester";
+
+        CommentRequest req1 = CommentRequest.builder()
+                .comment("test parent comment")
+                .build();
+
+        CommentRequest req2 = CommentRequest.builder()
+                .comment("test child comment")
+                .build();
+
+        BoardComment parentComment = commentService.addParentComment(board.getId(), req1, token);
+        commentService.addChildComment(parentComment.getId(), req2, "child");
+        assertThat(boardRepository.findById(board.getId()).get().getCommentCount()).isEqualTo(2);
+
+        //when
+        commentService.deleteComment(parentComment.getId(), token);
+
+        //then
+        // 부모 댓글과 함께 대댓글도 삭제된다.
+        assertThat(boardRepository.findById(board.getId()).get().getCommentCount()).isZero();
+    }
+
     @Test
     public void 댓글을_업데이트_할_수_있다() throws Exception {
         //given
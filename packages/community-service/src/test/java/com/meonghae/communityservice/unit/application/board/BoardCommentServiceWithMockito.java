@@ -21,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -65,8 +66,8 @@ public class BoardCommentServiceWithMockito {
         when(commentRepository.findByBoard_IdAndParentIsNull(any(PageRequest.class), anyLong()))
                 .thenReturn(mockSlice);
 
-        when(redisPort.getProfileImage(anyString()))
-                .thenReturn("testImage.jpg");
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of("tester@test.com", "testImage.jpg"));
 
         //when
         Slice<CommentParentDto> parentComments = commentService.getParentComments(1, 1L);
@@ -103,8 +104,8 @@ public class BoardCommentServiceWithMockito {
         when(commentRepository.findByParent_Id(any(PageRequest.class), anyLong()))
                 .thenReturn(childComments);
 
-        when(redisPort.getProfileImage(anyString()))
-                .thenReturn("child.jpg");
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of("child@test.com", "child.jpg"));
 
         //when
         Slice<CommentChildDto> childSlice = commentService.getChildComments(1, 1L);
@@ -2,9 +2,9 @@ package com.meonghae.communityservice.unit.application.board;
 
 import com.meonghae.communityservice.application.board.BoardLikeService;
 import com.meonghae.communityservice.application.board.BoardService;
-import com.meonghae.communityservice.application.board.port.CommentRepository;
 import com.meonghae.communityservice.domain.board.Board;
 import com.meonghae.communityservice.dto.board.BoardDetailDto;
+import com.meonghae.communityservice.dto.board.BoardMainDto;
 import com.meonghae.communityservice.dto.board.BoardRequest;
 import com.meonghae.communityservice.exception.custom.BoardException;
 import com.meonghae.communityservice.exception.error.ErrorCode;
@@ -12,33 +12,39 @@ import com.meonghae.communityservice.mock.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class BoardLikeServiceTest {
     private BoardService boardService;
     private BoardLikeService likeService;
+    private FakeRedis fakeRedis;
     
     @BeforeEach
     void init() {
         FakeUserService fakeUserService = new FakeUserService();
         FakeBoardRepo fakeBoardRepo = new FakeBoardRepo();
         FakeBoardLikeRepo fakeLikeRepo = new FakeBoardLikeRepo();
-        CommentRepository commentRepository = new FakeCommentRepo();
+        this.fakeRedis = new FakeRedis();
 
         this.boardService = BoardService.builder()
                 .userService(fakeUserService)
                 .s3Service(new FakeS3Service())
                 .boardRepository(fakeBoardRepo)
-                .commentRepository(commentRepository)
                 .likeRepository(fakeLikeRepo)
-                .redisService(new FakeRedis())
+                .redisService(fakeRedis)
+                .imageOutbox(new FakeImageOutbox())
+                .reactionBuffer(new FakeReactionBuffer())
                 .build();
 
         this.likeService = BoardLikeService.builder()
                 .boardRepository(fakeBoardRepo)
                 .likeRepository(fakeLikeRepo)
                 .userService(fakeUserService)
+                .redisService(fakeRedis)
+                .reactionBuffer(new FakeReactionBuffer())
                 .build();
     }
 
@@ -112,6 +118,80 @@ class BoardLikeServiceTest {
         assertThat(board2.getLikes()).isEqualTo(1);
     }
     
+    @Test
+    public void 인기게시글_순위를_바꿀_수_있는_좋아요만_메인_캐시를_무효화한다() throws Exception {
+        //given
+        Board highlight = createBoard();
+        Board other = createBoard();
+        for (String token : List.of("a", "b", "c")) {
+            likeService.toggleLike(highlight.getId(), token);
+        }
+        List<BoardMainDto> cached = List.of(new BoardMainDto(Board.builder()
+                .id(highlight.getId())
+                .title(highlight.getTitle())
+                .type(highlight.getType())
+                .likes(3)
+                .hasImage(false)
+                .build(), 0));
+        fakeRedis.saveMainBoards(cached);
+
+        //when
+        likeService.toggleLike(other.getId(), "d");
+
+        //then
+        assertThat(fakeRedis.getMainBoards()).isSameAs(cached);
+
+        //when
+        likeService.toggleLike(highlight.getId(), "a");
+
+        //then
+        assertThat(fakeRedis.getMainBoards()).isNull();
+    }
+
+    @Test
+    public void 쓰기_지연_모드에서는_좋아요가_버퍼에_쌓이고_조회_시_합산된다() throws Exception {
+        //given
+        FakeUserService fakeUserService = new FakeUserService();
+        FakeBoardRepo fakeBoardRepo = new FakeBoardRepo();
+        FakeBoardLikeRepo fakeLikeRepo = new FakeBoardLikeRepo();
+        FakeReactionBuffer reactionBuffer = new FakeReactionBuffer(true);
+        BoardService boardService = BoardService.builder()
+                .userService(fakeUserService)
+                .s3Service(new FakeS3Service())
+                .boardRepository(fakeBoardRepo)
+                .likeRepository(fakeLikeRepo)
+                .redisService(fakeRedis)
+                .imageOutbox(new FakeImageOutbox())
+                .reactionBuffer(reactionBuffer)
+                .build();
+        BoardLikeService likeService = BoardLikeService.builder()
+                .boardRepository(fakeBoardRepo)
+                .likeRepository(fakeLikeRepo)
+                .userService(fakeUserService)
+                .redisService(fakeRedis)
+                .reactionBuffer(reactionBuffer)
+                .build();
+        Board board = boardService.createBoard(1, BoardRequest.builder()
+                .title("test title")
+                .content("test content")
+                .build(), "test token");
+
+        //when
+        String res1 = likeService.toggleLike(board.getId(), "a");
+        String res2 = likeService.toggleLike(board.getId(), "b");
+        String res3 = likeService.toggleLike(board.getId(), "b");
+
+        //then
+        assertThat(List.of(res1, res2, res3)).containsExactly("추천 완료", "추천 완료", "추천 취소");
+        // DB 에는 아직 반영되지 않음
+        assertThat(fakeBoardRepo.findById(board.getId()).get().getLikes()).isZero();
+        assertThat(fakeLikeRepo.findByEmailAndBoardEntity_Id("a@test.com", board.getId())).isNull();
+
+        BoardDetailDto detail = boardService.getBoard(board.getId(), "a");
+        assertThat(detail.getLikes()).isEqualTo(1);
+        assertThat(detail.isLikeStatus()).isTrue();
+    }
+
     public Board createBoard() {
         int typeKey = 1;
         BoardRequest request = BoardRequest.builder()
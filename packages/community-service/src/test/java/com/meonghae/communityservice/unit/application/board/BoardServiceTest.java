@@ -46,6 +46,8 @@ class BoardServiceTest {
                 .boardRepository(new FakeBoardRepo())
                 .likeRepository(new FakeBoardLikeRepo())
                 .redisService(new FakeRedis())
+                .imageOutbox(new FakeImageOutbox())
+                .reactionBuffer(new FakeReactionBuffer())
                 .build();
     }
 
@@ -3,7 +3,6 @@ package com.meonghae.communityservice.unit.application.board;
 import com.meonghae.communityservice.application.board.BoardService;
 import com.meonghae.communityservice.application.board.port.BoardLikeRepository;
 import com.meonghae.communityservice.application.board.port.BoardRepository;
-import com.meonghae.communityservice.application.board.port.CommentRepository;
 import com.meonghae.communityservice.application.port.RedisPort;
 import com.meonghae.communityservice.application.port.S3ServicePort;
 import com.meonghae.communityservice.application.port.UserServicePort;
@@ -13,19 +12,24 @@ import com.meonghae.communityservice.dto.board.BoardDetailDto;
 import com.meonghae.communityservice.dto.board.BoardListDto;
 import com.meonghae.communityservice.dto.board.BoardMainDto;
 import com.meonghae.communityservice.dto.board.BoardRequest;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
+import com.meonghae.communityservice.exception.custom.BoardException;
 import com.meonghae.communityservice.mock.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class BoardServiceTestWithMockito {
 
@@ -33,8 +37,6 @@ public class BoardServiceTestWithMockito {
 
     private BoardRepository boardRepository = mock(FakeBoardRepo.class);
 
-    private CommentRepository commentRepository = mock(FakeCommentRepo.class);
-
     private RedisPort redisPort = mock(FakeRedis.class);
 
     private S3ServicePort s3Service = mock(FakeS3Service.class);
@@ -43,20 +45,17 @@ public class BoardServiceTestWithMockito {
 
     private BoardLikeRepository likeRepository = mock(FakeBoardLikeRepo.class);
 
-    private final HashMap<Long, Long> map = new HashMap<>();
-
     @BeforeEach
     void init() {
         this.boardService = BoardService.builder()
-                .commentRepository(commentRepository)
                 .userService(userService)
                 .s3Service(s3Service)
                 .boardRepository(boardRepository)
                 .likeRepository(likeRepository)
                 .redisService(redisPort)
+                .imageOutbox(mock(FakeImageOutbox.class))
+                .reactionBuffer(mock(FakeReactionBuffer.class))
                 .build();
-
-        map.clear();
     }
 
     @Test
@@ -75,12 +74,8 @@ public class BoardServiceTestWithMockito {
         when(boardRepository.findByType(any(), any(PageRequest.class)))
                 .thenReturn(mockSlice);
 
-        map.put(1L, 0L);
-        when(commentRepository.findCommentCountByBoardIds(anyList()))
-                .thenReturn(map);
-
-        when(redisPort.getProfileImage(anyString()))
-                .thenReturn("testImage.jpg");
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of(token, "testImage.jpg"));
 
         //when
         Slice<BoardListDto> result = boardService.getBoardList(1, 1);
@@ -91,6 +86,75 @@ public class BoardServiceTestWithMockito {
         assertThat(result.getContent().get(0).getContent()).isEqualTo("test content");
         assertThat(result.getContent().get(0).getProfileUrl()).isEqualTo("testImage.jpg");
         assertThat(result.getContent().get(0).isHasImage()).isTrue();
+        verify(redisPort, times(1)).getProfileImages(anyCollection());
+        verify(redisPort, never()).getProfileImage(anyString());
+    }
+
+    @Test
+    public void 커서_이후의_게시글_리스트를_가져올_수_있다() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 0);
+        List<Board> boards = new ArrayList<>();
+        for (long id = 9L; id >= 7L; id--) {
+            boards.add(Board.builder()
+                    .id(id)
+                    .email("tester")
+                    .title("title" + id)
+                    .content("content")
+                    .type(BoardType.SHOW)
+                    .hasImage(false)
+                    .createdDate(now.minusMinutes(10 - id))
+                    .build());
+        }
+        // size + 1 개 조회 -> 마지막 항목은 다음 페이지 여부 판단용
+        CursorSlice<Board> slice = CursorSlice.of(boards, 2, board -> Cursor.of(BoardRepository.LATEST_CURSOR, board.getCreatedDate(), board.getId()));
+        when(boardRepository.findByType(eq(BoardType.SHOW), any(Cursor.class), eq(20)))
+                .thenReturn(slice);
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of("tester", "testImage.jpg"));
+
+        String cursor = Cursor.of(BoardRepository.LATEST_CURSOR, now, 10L).encode();
+
+        //when
+        CursorSlice<BoardListDto> result = boardService.getBoardList(1, cursor);
+
+        //then
+        ArgumentCaptor<Cursor> captor = ArgumentCaptor.forClass(Cursor.class);
+        verify(boardRepository).findByType(eq(BoardType.SHOW), captor.capture(), eq(20));
+        assertThat(captor.getValue().getId()).isEqualTo(10L);
+        assertThat(captor.getValue().dateKey()).isEqualTo(now);
+
+        assertThat(result.getContent()).extracting(BoardListDto::getId).containsExactly(9L, 8L);
+        assertThat(result.isHasNext()).isTrue();
+        Cursor next = Cursor.decode(result.getNextCursor(), BoardRepository.LATEST_CURSOR, Cursor.KeyType.DATE);
+        assertThat(next.getId()).isEqualTo(8L);
+        assertThat(next.dateKey()).isEqualTo(now.minusMinutes(2));
+    }
+
+    @Test
+    public void 잘못된_커서로_게시글_리스트를_조회하면_예외가_던져진다() throws Exception {
+        //given
+        String cursor = Base64.getUrlEncoder().encodeToString("no-delimiter".getBytes());
+
+        //when
+        //then
+        assertThatThrownBy(() -> boardService.getBoardList(1, cursor))
+                .isInstanceOf(BoardException.class)
+                .hasFieldOrPropertyWithValue("errorMessage", "잘못된 cursor 입니다.");
+        verify(boardRepository, never()).findByType(any(), any(Cursor.class), anyInt());
+    }
+
+    @Test
+    public void 정렬_키를_읽을_수_없는_커서로_게시글_리스트를_조회하면_예외가_던져진다() throws Exception {
+        //given
+        String cursor = Cursor.of(BoardRepository.LATEST_CURSOR, "not-a-date", 10L).encode();
+
+        //when
+        //then
+        assertThatThrownBy(() -> boardService.getBoardList(1, cursor))
+                .isInstanceOf(BoardException.class)
+                .hasFieldOrPropertyWithValue("errorMessage", "잘못된 cursor 입니다.");
+        verify(boardRepository, never()).findByType(any(), any(Cursor.class), anyInt());
     }
 
     @Test
@@ -111,9 +175,6 @@ public class BoardServiceTestWithMockito {
         when(boardRepository.findById(any()))
                 .thenReturn(Optional.of(board));
 
-        when(commentRepository.countByBoardId(anyLong()))
-                .thenReturn(0);
-
         when(likeRepository.findByEmailAndBoardEntity_Id(anyString(), any()))
                 .thenReturn(null);
 
@@ -151,11 +212,8 @@ public class BoardServiceTestWithMockito {
         when(boardRepository.findBoardListForMain(any()))
                 .thenReturn((List.of(board1, board2, board3)));
 
-        map.put(1L, 0L);
-        map.put(2L, 0L);
-        map.put(3L, 1L);
-        when(commentRepository.findCommentCountByBoardIds(anyList()))
-                .thenReturn(map);
+        when(redisPort.getMainBoards())
+                .thenReturn(null);
 
         //when
         List<BoardMainDto> mainBoard = boardService.getMainBoard();
@@ -163,6 +221,26 @@ public class BoardServiceTestWithMockito {
         //then
 
         assertThat(mainBoard).hasSize(3);
+        verify(redisPort, times(1)).saveMainBoards(mainBoard);
+    }
+
+    @Test
+    public void 메인페이지_인기게시글은_캐시가_있으면_DB_를_조회하지_않는다() throws Exception {
+        //given
+        BoardRequest request = BoardRequest.builder()
+                .title("test title")
+                .content("test content")
+                .build();
+        Board board = createBoard(1L, request, BoardType.SHOW, "test token");
+        when(redisPort.getMainBoards())
+                .thenReturn(List.of(new BoardMainDto(board, 2)));
+
+        //when
+        List<BoardMainDto> mainBoard = boardService.getMainBoard();
+
+        //then
+        assertThat(mainBoard).extracting(BoardMainDto::getId).containsExactly(1L);
+        verify(boardRepository, never()).findBoardListForMain(any());
     }
 
     private Board createBoard(Long id, BoardRequest request, BoardType type, String email) {
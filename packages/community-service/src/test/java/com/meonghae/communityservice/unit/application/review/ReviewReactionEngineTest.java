@@ -0,0 +1,86 @@
+package com.meonghae.communityservice.unit.application.review;
+
+import com.meonghae.communityservice.application.review.ReviewReactionEngine;
+import com.meonghae.communityservice.domain.review.ReactionTransition;
+import com.meonghae.communityservice.domain.review.Review;
+import com.meonghae.communityservice.domain.review.ReviewCatalog;
+import com.meonghae.communityservice.exception.custom.ReviewException;
+import com.meonghae.communityservice.exception.error.ErrorCode;
+import com.meonghae.communityservice.mock.FakeReactionRepo;
+import com.meonghae.communityservice.mock.FakeReviewRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReviewReactionEngineTest {
+    private ReviewReactionEngine reactionEngine;
+    private FakeReviewRepo fakeReviewRepo;
+    private FakeReactionRepo fakeReactionRepo;
+
+    @BeforeEach
+    void init() {
+        this.fakeReviewRepo = new FakeReviewRepo();
+        this.fakeReactionRepo = new FakeReactionRepo(fakeReviewRepo);
+        this.reactionEngine = ReviewReactionEngine.builder()
+                .reactionRepository(fakeReactionRepo)
+                .reviewRepository(fakeReviewRepo)
+                .build();
+    }
+
+    @Test
+    public void 반응이_없던_사용자의_추천은_새_반응으로_기록된다() throws Exception {
+        //given
+        Review review = fakeReviewRepo.save(Review.builder()
+                .title("test title")
+                .content("test content")
+                .email("creator")
+                .hasImage(false)
+                .rating(10)
+                .catalog(ReviewCatalog.findWithKey(1))
+                .build());
+
+        //when
+        reactionEngine.toggle("tester", review.getId(), false);
+
+        //then
+        assertThat(fakeReactionRepo.findByEmailAndReviewEntity_Id("tester", review.getId()).getRecommendStatus())
+                .isFalse();
+        assertThat(review.getLikes()).isZero();
+        assertThat(review.getDislikes()).isEqualTo(1);
+    }
+
+    @Test
+    public void 추천한_리뷰에_비추천하면_추천이_빠지고_비추천이_더해진다() throws Exception {
+        //given
+        Review review = fakeReviewRepo.save(Review.builder()
+                .title("test title")
+                .content("test content")
+                .email("creator")
+                .hasImage(false)
+                .rating(10)
+                .catalog(ReviewCatalog.findWithKey(1))
+                .build());
+        reactionEngine.toggle("tester", review.getId(), true);
+
+        //when
+        ReactionTransition transition = reactionEngine.toggle("tester", review.getId(), false);
+
+        //then
+        assertThat(transition.getOldStatus()).isTrue();
+        assertThat(transition.getStatus()).isFalse();
+        assertThat(review.getLikes()).isZero();
+        assertThat(review.getDislikes()).isEqualTo(1);
+    }
+
+    @Test
+    public void 존재하지_않는_리뷰에는_반응할_수_없다() throws Exception {
+        //when //then
+        assertThatThrownBy(() -> reactionEngine.toggle("tester", 999L, true))
+                .isInstanceOf(ReviewException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND)
+                .hasFieldOrPropertyWithValue("errorMessage", "review is not exist");
+        assertThat(fakeReactionRepo.findByEmailAndReviewEntity_Id("tester", 999L)).isNull();
+    }
+}
@@ -1,5 +1,6 @@
 package com.meonghae.communityservice.unit.application.review;
 
+import com.meonghae.communityservice.application.review.ReviewReactionEngine;
 import com.meonghae.communityservice.application.review.ReviewReactionService;
 import com.meonghae.communityservice.application.review.ReviewService;
 import com.meonghae.communityservice.domain.review.RecommendStatus;
@@ -19,16 +20,23 @@ class ReviewReactionServiceTest {
 
     private ReviewService reviewService;
     private ReviewReactionService reactionService;
+    private FakeReviewRepo fakeReviewRepo;
 
     @BeforeEach
     void init() {
         FakeUserService fakeUserService = new FakeUserService();
-        FakeReviewRepo fakeReviewRepo = new FakeReviewRepo();
+        this.fakeReviewRepo = new FakeReviewRepo();
+        FakeReactionRepo fakeReactionRepo = new FakeReactionRepo(fakeReviewRepo);
 
         this.reactionService = ReviewReactionService.builder()
                 .userService(fakeUserService)
                 .reviewRepository(fakeReviewRepo)
-                .reactionRepository(new FakeReactionRepo())
+                .reactionRepository(fakeReactionRepo)
+                .reactionBuffer(new FakeReactionBuffer())
+                .reactionEngine(ReviewReactionEngine.builder()
+                        .reactionRepository(fakeReactionRepo)
+                        .reviewRepository(fakeReviewRepo)
+                        .build())
                 .build();
 
         this.reviewService = ReviewService.builder()
@@ -37,6 +45,7 @@ class ReviewReactionServiceTest {
                 .s3Service(new FakeS3Service())
                 .reactionService(reactionService)
                 .redisService(new FakeRedis())
+                .imageOutbox(new FakeImageOutbox())
                 .build();
     }
 
@@ -200,6 +209,40 @@ class ReviewReactionServiceTest {
         assertThat(reactions.get(review_3.getId())).isEqualByComparingTo(RecommendStatus.NONE);
     }
 
+    @Test
+    public void 쓰기_지연_모드에서는_추천이_버퍼에_쌓이고_조회_시_합산된다() throws Exception {
+        //given
+        Review review = createReview();
+        ReviewReactionService bufferedService = ReviewReactionService.builder()
+                .userService(new FakeUserService())
+                .reviewRepository(fakeReviewRepo)
+                .reactionRepository(new FakeReactionRepo(fakeReviewRepo))
+                .reactionBuffer(new FakeReactionBuffer(true))
+                .build();
+
+        //when
+        String res1 = bufferedService.toggleRecommendedReview(review.getId(), "tester", ReviewReactionType.builder()
+                .isLike(true)
+                .build());
+        String res2 = bufferedService.toggleRecommendedReview(review.getId(), "tester", ReviewReactionType.builder()
+                .isLike(false)
+                .build());
+
+        //then
+        assertThat(res1).isEqualTo("추천 완료");
+        assertThat(res2).isEqualTo("비추 완료");
+        // DB 에는 아직 반영되지 않음
+        assertThat(review.getLikes()).isZero();
+        assertThat(review.getDislikes()).isZero();
+
+        Map<Long, RecommendStatus> reactions = bufferedService.getReviewReactions(List.of(review.getId()), "tester");
+        assertThat(reactions.get(review.getId())).isEqualByComparingTo(RecommendStatus.FALSE);
+
+        bufferedService.applyPendingReactions(List.of(review));
+        assertThat(review.getLikes()).isZero();
+        assertThat(review.getDislikes()).isEqualTo(1);
+    }
+
     Review createReview() {
         String token = "creator";
         ReviewRequest request = ReviewRequest.builder()
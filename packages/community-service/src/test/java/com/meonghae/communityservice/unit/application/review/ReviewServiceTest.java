@@ -1,5 +1,6 @@
 package com.meonghae.communityservice.unit.application.review;
 
+import com.meonghae.communityservice.application.review.ReviewReactionEngine;
 import com.meonghae.communityservice.application.review.ReviewReactionService;
 import com.meonghae.communityservice.application.review.ReviewService;
 import com.meonghae.communityservice.domain.review.Review;
@@ -32,11 +33,17 @@ class ReviewServiceTest {
     void init() {
         FakeUserService fakeUserService = new FakeUserService();
         FakeReviewRepo fakeReviewRepo = new FakeReviewRepo();
+        FakeReactionRepo fakeReactionRepo = new FakeReactionRepo(fakeReviewRepo);
 
         ReviewReactionService reactionService = ReviewReactionService.builder()
                 .userService(fakeUserService)
                 .reviewRepository(fakeReviewRepo)
-                .reactionRepository(new FakeReactionRepo())
+                .reactionRepository(fakeReactionRepo)
+                .reactionBuffer(new FakeReactionBuffer())
+                .reactionEngine(ReviewReactionEngine.builder()
+                        .reactionRepository(fakeReactionRepo)
+                        .reviewRepository(fakeReviewRepo)
+                        .build())
                 .build();
 
         this.reviewService = ReviewService.builder()
@@ -45,6 +52,7 @@ class ReviewServiceTest {
                 .s3Service(new FakeS3Service())
                 .reactionService(reactionService)
                 .redisService(new FakeRedis())
+                .imageOutbox(new FakeImageOutbox())
                 .build();
     }
 
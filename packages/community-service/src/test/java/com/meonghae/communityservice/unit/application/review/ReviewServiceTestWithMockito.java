@@ -5,9 +5,12 @@ import com.meonghae.communityservice.application.port.S3ServicePort;
 import com.meonghae.communityservice.application.port.UserServicePort;
 import com.meonghae.communityservice.application.review.ReviewReactionService;
 import com.meonghae.communityservice.application.review.ReviewService;
+import com.meonghae.communityservice.application.review.ReviewSortType;
 import com.meonghae.communityservice.application.review.port.ReviewRepository;
 import com.meonghae.communityservice.domain.review.Review;
 import com.meonghae.communityservice.domain.review.ReviewCatalog;
+import com.meonghae.communityservice.dto.cursor.Cursor;
+import com.meonghae.communityservice.dto.cursor.CursorSlice;
 import com.meonghae.communityservice.dto.review.ReviewListDto;
 import com.meonghae.communityservice.dto.review.ReviewRequest;
 import com.meonghae.communityservice.exception.custom.ReviewException;
@@ -15,20 +18,26 @@ import com.meonghae.communityservice.exception.error.ErrorCode;
 import com.meonghae.communityservice.mock.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ReviewServiceTestWithMockito {
@@ -60,6 +69,7 @@ public class ReviewServiceTestWithMockito {
                 .s3Service(s3Service)
                 .reactionService(reactionService)
                 .userService(userService)
+                .imageOutbox(mock(FakeImageOutbox.class))
                 .build();
     }
 
@@ -81,11 +91,11 @@ public class ReviewServiceTestWithMockito {
         when(userService.getUserEmail(token))
                 .thenReturn("tester");
 
-        when(redisPort.getNickname("tester"))
-                .thenReturn("testNickname");
+        when(redisPort.getNicknames(anyCollection()))
+                .thenReturn(Map.of("tester", "testNickname"));
 
-        when(redisPort.getProfileImage("tester"))
-                .thenReturn("test.jpg");
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of("tester", "test.jpg"));
 
         //when
         Slice<ReviewListDto> reviewList = reviewService
@@ -117,11 +127,11 @@ public class ReviewServiceTestWithMockito {
         when(userService.getUserEmail(token))
                 .thenReturn("tester");
 
-        when(redisPort.getNickname("tester"))
-                .thenReturn("testNickname");
+        when(redisPort.getNicknames(anyCollection()))
+                .thenReturn(Map.of("tester", "testNickname"));
 
-        when(redisPort.getProfileImage("tester"))
-                .thenReturn("test.jpg");
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of("tester", "test.jpg"));
 
         //when
         Slice<ReviewListDto> reviewList = reviewService.getReviewByType(1, token, 1, null, "LATEST", true);
@@ -132,6 +142,77 @@ public class ReviewServiceTestWithMockito {
         assertThat(reviewList.getContent().get(0).getContent()).isEqualTo("content2");
     }
 
+    @Test
+    public void 커서로_리뷰_리스트를_조회하면_정렬_조건을_함께_넘긴다() throws Exception {
+        //given
+        String token = "token";
+        Review review = createReviewWithPhoto("title1", "content1");
+        String next = Cursor.of(ReviewSortType.RATING_DESC.name(), 10, 5L).encode();
+
+        when(reviewRepository.findByCatalogAndKeywordAndSortType(nullable(Cursor.class), eq(15),
+                any(ReviewCatalog.class), nullable(String.class), any(ReviewSortType.class), eq(true)))
+                .thenReturn(new CursorSlice<>(List.of(review), next));
+        when(reactionService.getReviewReactions(anyList(), eq(token)))
+                .thenReturn(new HashMap<>());
+        when(userService.getUserEmail(token))
+                .thenReturn("tester");
+        when(redisPort.getNicknames(anyCollection()))
+                .thenReturn(Map.of("tester", "testNickname"));
+        when(redisPort.getProfileImages(anyCollection()))
+                .thenReturn(Map.of("tester", "test.jpg"));
+
+        //when
+        CursorSlice<ReviewListDto> reviewList = reviewService.getReviewByType(1, token, null, null, "RATING_DESC", true);
+
+        //then
+        verify(reviewRepository).findByCatalogAndKeywordAndSortType(null, 15, ReviewCatalog.findWithKey(1),
+                null, ReviewSortType.RATING_DESC, true);
+        assertThat(reviewList.getContent()).hasSize(1);
+        assertThat(reviewList.getContent().get(0).getNickname()).isEqualTo("testNickname");
+        assertThat(reviewList.getNextCursor()).isEqualTo(next);
+        assertThat(reviewList.isHasNext()).isTrue();
+    }
+
+    @Test
+    public void 다른_정렬로_만든_커서로_리뷰_리스트를_조회하면_예외가_던져진다() throws Exception {
+        //given
+        String cursor = Cursor.of(ReviewSortType.LATEST.name(), LocalDateTime.now(), 5L).encode();
+
+        //when
+        //then
+        assertThatThrownBy(() -> reviewService.getReviewByType(1, "token", cursor, null, "RATING_DESC", false))
+                .isInstanceOf(ReviewException.class)
+                .hasFieldOrPropertyWithValue("errorMessage", "잘못된 cursor 입니다.");
+    }
+
+    @Test
+    public void 관련도_정렬은_검색어가_있을_때만_관련도_점수로_정렬한다() throws Exception {
+        //given
+        String token = "token";
+        when(reviewRepository.findByCatalogAndKeywordAndSortType(any(PageRequest.class), any(ReviewCatalog.class),
+                nullable(String.class))).thenReturn(new PageImpl<>(List.of()));
+        when(reactionService.getReviewReactions(anyList(), eq(token)))
+                .thenReturn(new HashMap<>());
+
+        //when
+        reviewService.getReviewByType(1, token, 1, "  산책 ", "RELEVANCE", false);
+        reviewService.getReviewByType(1, token, 1, " ", "RELEVANCE", false);
+
+        //then
+        ArgumentCaptor<PageRequest> pageCaptor = ArgumentCaptor.forClass(PageRequest.class);
+        ArgumentCaptor<String> keywordCaptor = ArgumentCaptor.forClass(String.class);
+        verify(reviewRepository, times(2)).findByCatalogAndKeywordAndSortType(
+                pageCaptor.capture(), any(ReviewCatalog.class), keywordCaptor.capture());
+
+        assertThat(keywordCaptor.getAllValues()).containsExactly("산책", null);
+        assertThat(pageCaptor.getAllValues().get(0).getSort().getOrderFor(ReviewSortType.RELEVANCE_PROPERTY))
+                .isNotNull();
+        assertThat(pageCaptor.getAllValues().get(1).getSort().getOrderFor(ReviewSortType.RELEVANCE_PROPERTY))
+                .isNull();
+        assertThat(pageCaptor.getAllValues().get(1).getSort().getOrderFor("createdDate").getDirection())
+                .isEqualTo(Sort.Direction.DESC);
+    }
+
     @Test
     public void 잘못된_카탈로그_키_값_입력시_예외가_던져진다() throws Exception {
         //given
@@ -0,0 +1,216 @@
+package com.meonghae.communityservice.unit.application.upload;
+
+import com.meonghae.communityservice.application.board.BoardService;
+import com.meonghae.communityservice.application.board.port.BoardRepository;
+import com.meonghae.communityservice.application.upload.ImageUploadService;
+import com.meonghae.communityservice.domain.board.Board;
+import com.meonghae.communityservice.domain.board.BoardType;
+import com.meonghae.communityservice.domain.upload.ImageOutbox;
+import com.meonghae.communityservice.domain.upload.OutboxStatus;
+import com.meonghae.communityservice.dto.board.BoardRequest;
+import com.meonghae.communityservice.dto.s3.S3RequestDto;
+import com.meonghae.communityservice.mock.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ImageUploadServiceTest {
+
+    private BoardService boardService;
+    private ImageUploadService imageUploadService;
+    private BoardRepository boardRepository;
+    private FakeS3Service s3Service;
+    private FakeImageOutbox imageOutbox;
+
+    private final MockMultipartFile multipartFile = new MockMultipartFile(
+            "testFile_1",
+            "originTestFile_1",
+            "testType",
+            "content".getBytes()
+    );
+
+    @BeforeEach
+    void init() {
+        this.boardRepository = new FakeBoardRepo();
+        this.s3Service = new FakeS3Service();
+        this.imageOutbox = new FakeImageOutbox(true);
+
+        this.boardService = BoardService.builder()
+                .userService(new FakeUserService())
+                .s3Service(s3Service)
+                .boardRepository(boardRepository)
+                .likeRepository(new FakeBoardLikeRepo())
+                .redisService(new FakeRedis())
+                .imageOutbox(imageOutbox)
+                .reactionBuffer(new FakeReactionBuffer())
+                .build();
+
+        this.imageUploadService = ImageUploadService.builder()
+                .imageOutbox(imageOutbox)
+                .s3Service(s3Service)
+                .boardRepository(boardRepository)
+                .reviewRepository(new FakeReviewRepo())
+                .build();
+    }
+
+    @Test
+    public void 비동기_모드에서는_이미지_업로드_전에_게시글이_저장된다() throws Exception {
+        //given
+        BoardRequest request = createRequest();
+
+        //when
+        Board board = boardService.createBoard(1, request, "test token");
+
+        //then
+        assertThat(board.getHasImage()).isFalse();
+        assertThat(imageOutbox.getOutboxes()).hasSize(1);
+        assertThat(s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"))).isEmpty();
+    }
+
+    @Test
+    public void 업로드가_완료되면_게시글의_이미지_상태가_변경된다() throws Exception {
+        //given
+        Board board = boardService.createBoard(1, createRequest(), "test token");
+        ImageOutbox outbox = imageOutbox.getOutboxes().get(0);
+
+        //when
+        imageUploadService.process(outbox.getId());
+
+        //then
+        assertThat(boardRepository.findById(board.getId()).get().getHasImage()).isTrue();
+        assertThat(s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"))).hasSize(1);
+        assertThat(imageOutbox.findById(outbox.getId()).get().getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+    }
+
+    @Test
+    public void 게시글이_삭제되었다면_업로드하지_않고_작업을_종료한다() throws Exception {
+        //given
+        Board board = boardService.createBoard(1, createRequest(), "test token");
+        ImageOutbox outbox = imageOutbox.getOutboxes().get(0);
+        boardRepository.delete(board.getId());
+
+        //when
+        imageUploadService.process(outbox.getId());
+
+        //then
+        assertThat(s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"))).isEmpty();
+        assertThat(imageOutbox.findById(outbox.getId()).get().getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+    }
+
+    @Test
+    public void 다른_작업자가_선점한_작업은_다시_업로드하지_않는다() throws Exception {
+        //given
+        Board board = boardService.createBoard(1, createRequest(), "test token");
+        ImageOutbox outbox = imageOutbox.getOutboxes().get(0);
+        imageOutbox.claim(outbox.getId());
+
+        //when
+        imageUploadService.process(outbox.getId());
+        imageUploadService.retryPending(LocalDateTime.now().plusMinutes(1));
+
+        //then
+        assertThat(s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"))).isEmpty();
+        assertThat(imageOutbox.findById(outbox.getId()).get().getStatus()).isEqualTo(OutboxStatus.PROCESSING);
+    }
+
+    @Test
+    public void 처리_기한이_지난_작업은_재시도에서_다시_선점해_업로드한다() throws Exception {
+        //given
+        Board board = boardService.createBoard(1, createRequest(), "test token");
+        ImageOutbox outbox = imageOutbox.getOutboxes().get(0);
+        imageOutbox.claim(outbox.getId());
+        imageOutbox.expireLease(outbox.getId());
+
+        //when
+        imageUploadService.retryPending(LocalDateTime.now().minusMinutes(1));
+
+        //then
+        assertThat(s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"))).hasSize(1);
+        assertThat(imageOutbox.findById(outbox.getId()).get().getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+    }
+
+    @Test
+    public void 업로드_후_단계가_실패해_재시도해도_이미지는_한_번만_저장된다() throws Exception {
+        //given
+        AtomicBoolean failOnce = new AtomicBoolean(true);
+        FakeBoardRepo flakyBoardRepo = new FakeBoardRepo() {
+            @Override
+            public Board update(Board updateBoard) {
+                if (failOnce.getAndSet(false)) {
+                    throw new IllegalStateException("db unavailable");
+                }
+                return super.update(updateBoard);
+            }
+        };
+        ImageUploadService uploadService = ImageUploadService.builder()
+                .imageOutbox(imageOutbox)
+                .s3Service(s3Service)
+                .boardRepository(flakyBoardRepo)
+                .reviewRepository(new FakeReviewRepo())
+                .build();
+        Board board = flakyBoardRepo.save(Board.builder()
+                .type(BoardType.findWithKey(1))
+                .title("test title")
+                .content("test content")
+                .email("tester")
+                .hasImage(false)
+                .build());
+        ImageOutbox outbox = imageOutbox.reserve("BOARD", board.getId(), List.of(multipartFile));
+
+        //when
+        uploadService.process(outbox.getId());
+        uploadService.process(outbox.getId());
+
+        //then
+        assertThat(s3Service.getImages(new S3RequestDto(board.getId(), "BOARD"))).hasSize(1);
+        assertThat(flakyBoardRepo.findById(board.getId()).get().getHasImage()).isTrue();
+        assertThat(imageOutbox.findById(outbox.getId()).get().getStatus()).isEqualTo(OutboxStatus.COMPLETED);
+    }
+
+    @Test
+    public void 최대_시도_횟수를_넘기면_임시_저장한_이미지를_지운다() throws Exception {
+        //given
+        ImageUploadService uploadService = ImageUploadService.builder()
+                .imageOutbox(imageOutbox)
+                .s3Service(new FakeS3Service() {
+                    @Override
+                    public ResponseEntity<String> uploadImage(List<MultipartFile> files, S3RequestDto data) {
+                        throw new IllegalStateException("s3-file-service unavailable");
+                    }
+                })
+                .boardRepository(boardRepository)
+                .reviewRepository(new FakeReviewRepo())
+                .build();
+        boardService.createBoard(1, createRequest(), "test token");
+        ImageOutbox outbox = imageOutbox.getOutboxes().get(0);
+
+        //when
+        for (int i = 0; i < ImageOutbox.MAX_ATTEMPTS; i++) {
+            uploadService.process(outbox.getId());
+        }
+
+        //then
+        ImageOutbox failed = imageOutbox.findById(outbox.getId()).get();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(imageOutbox.loadImages(failed)).isEmpty();
+    }
+
+    private BoardRequest createRequest() {
+        List<MultipartFile> images = new ArrayList<>();
+        images.add(multipartFile);
+        return BoardRequest.builder()
+                .title("test title")
+                .content("test content")
+                .images(images)
+                .build();
+    }
+}
@@ -23,9 +23,11 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.SqlGroup;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.HashMap;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -62,8 +64,8 @@ class ReviewControllerTest {
 
     @BeforeEach
     void init() {
-        when(redisService.getProfileImage(anyString()))
-                .thenReturn(null);
+        when(redisService.getProfileImages(anyCollection()))
+                .thenReturn(new HashMap<>());
 
         when(userService.getUserEmail(token))
                 .thenReturn(token + "@example.com");
@@ -0,0 +1,25 @@
+package com.meonghae.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+
+// 서블릿 기반 서비스에 GatewayUserResolver 를 등록한다. (게이트웨이는 GatewayIdentity 로 직접 서명한다)
+@AutoConfiguration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GatewayAuthAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GatewayIdentity gatewayIdentity(@Value("${gateway.identity.secret:}") String secret) {
+        return new GatewayIdentity(secret);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public GatewayUserResolver gatewayUserResolver(GatewayIdentity gatewayIdentity) {
+        return new GatewayUserResolver(gatewayIdentity);
+    }
+}
@@ -0,0 +1,54 @@
+package com.meonghae.auth;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+// API Gateway 가 JWT 검증 후 하위 서비스로 전달하는 회원 정보와 그 서명.
+// 서명은 (email, 토큰)에 대한 HMAC-SHA256 이므로, 게이트웨이를 거치지 않고 직접 보낸 헤더나
+// 다른 토큰에 붙여 재사용한 헤더는 검증에 실패한다.
+public class GatewayIdentity {
+    public static final String USER_EMAIL_HEADER = "X-User-Email";
+    public static final String USER_SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    // secret 이 비어 있으면 서명하지 않고, 전달된 헤더도 신뢰하지 않는다.
+    public GatewayIdentity(String secret) {
+        this.key = secret == null || secret.isBlank()
+                ? null
+                : new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return key != null;
+    }
+
+    public String sign(String email, String token) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("gateway identity secret is not configured");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] signature = mac.doFinal((email + "\n" + token).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public boolean verify(String email, String token, String signature) {
+        if (!isEnabled() || email == null || email.isBlank() || token == null || signature == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                sign(email, token).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII));
+    }
+}
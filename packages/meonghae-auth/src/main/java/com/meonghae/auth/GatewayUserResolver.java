@@ -0,0 +1,31 @@
+package com.meonghae.auth;
+
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Optional;
+
+// 현재 요청에 게이트웨이가 서명한 회원 정보 헤더가 있고, 그 서명이 주어진 토큰과 맞을 때만 email 을 돌려준다.
+public class GatewayUserResolver {
+    private final GatewayIdentity gatewayIdentity;
+
+    public GatewayUserResolver(GatewayIdentity gatewayIdentity) {
+        this.gatewayIdentity = gatewayIdentity;
+    }
+
+    public Optional<String> resolveEmail(String token) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String email = request.getHeader(GatewayIdentity.USER_EMAIL_HEADER);
+        String signature = request.getHeader(GatewayIdentity.USER_SIGNATURE_HEADER);
+        if (!gatewayIdentity.verify(email, token, signature)) {
+            return Optional.empty();
+        }
+        return Optional.of(email);
+    }
+}
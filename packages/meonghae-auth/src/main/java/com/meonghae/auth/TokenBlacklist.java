@@ -0,0 +1,33 @@
+package com.meonghae.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// 로그아웃한 토큰의 블랙리스트를 user-service(등록)와 API Gateway(Bloom filter 동기화)가 함께 쓰기 위한 키와 해시.
+// Gateway 는 원본 토큰 대신 SHA-256 해시만 주고받는다.
+public final class TokenBlacklist {
+
+    // 블랙리스트 등록 알림 채널, 메시지 = 토큰 해시
+    public static final String CHANNEL = "token-blacklist";
+
+    // 블랙리스트 토큰 해시 목록, score = 만료 시각(ms)
+    public static final String HASHES_KEY = "token-blacklist:hashes";
+
+    private TokenBlacklist() {
+    }
+
+    // 토큰의 SHA-256 해시 (소문자 hex 64자)
+    public static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.meonghae.auth;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GatewayIdentityTest {
+    private final GatewayIdentity gatewayIdentity = new GatewayIdentity("test-gateway-secret");
+    private final GatewayUserResolver resolver = new GatewayUserResolver(gatewayIdentity);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 게이트웨이가_서명한_email_은_같은_토큰으로_검증된다() {
+        // given
+        String signature = gatewayIdentity.sign("test@test.com", "access-token");
+
+        // when // then
+        assertThat(gatewayIdentity.verify("test@test.com", "access-token", signature)).isTrue();
+        assertThat(gatewayIdentity.verify("other@test.com", "access-token", signature)).isFalse();
+        assertThat(gatewayIdentity.verify("test@test.com", "other-token", signature)).isFalse();
+    }
+
+    @Test
+    void 다른_secret_으로_만든_서명은_검증에_실패한다() {
+        // given
+        String forged = new GatewayIdentity("other-secret").sign("test@test.com", "access-token");
+
+        // when // then
+        assertThat(gatewayIdentity.verify("test@test.com", "access-token", forged)).isFalse();
+    }
+
+    @Test
+    void secret_이_없으면_서명하지_않고_헤더도_신뢰하지_않는다() {
+        // given
+        GatewayIdentity disabled = new GatewayIdentity("");
+
+        // when // then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.verify("test@test.com", "access-token", "anything")).isFalse();
+        assertThatThrownBy(() -> disabled.sign("test@test.com", "access-token"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 서명이_맞는_요청에서만_email_을_꺼낸다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(GatewayIdentity.USER_EMAIL_HEADER, "test@test.com");
+        request.addHeader(GatewayIdentity.USER_SIGNATURE_HEADER, gatewayIdentity.sign("test@test.com", "access-token"));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when // then
+        assertThat(resolver.resolveEmail("access-token")).contains("test@test.com");
+        assertThat(resolver.resolveEmail("other-token")).isEmpty();
+    }
+
+    @Test
+    void 서명_없이_직접_보낸_email_헤더는_무시한다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(GatewayIdentity.USER_EMAIL_HEADER, "test@test.com");
+        request.addHeader("Authorization", "access-token");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // when // then
+        assertThat(resolver.resolveEmail("access-token")).isEmpty();
+    }
+}
@@ -0,0 +1,17 @@
+package com.meonghae.auth;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBlacklistTest {
+
+    @Test
+    void 토큰_해시는_SHA_256_hex_이다() {
+        // when
+        String hash = TokenBlacklist.hash("abc");
+
+        // then
+        assertThat(hash).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+}
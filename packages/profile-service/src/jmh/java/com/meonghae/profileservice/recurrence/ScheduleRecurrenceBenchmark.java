@@ -0,0 +1,51 @@
+package com.meonghae.profileservice.recurrence;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// 시작한 지 오래된 반복 일정을 달력 3개월 구간으로 펼칠 때,
+// 시작 시각부터 한 회차씩 더해 가는 방식과 구간의 첫 회차를 바로 계산하는 엔진 비교
+// packages/profile-service 에서 ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ScheduleRecurrenceBenchmark {
+
+  @Param({"1", "7"})
+  public int cycleDays;
+
+  private LocalDateTime start;
+  private LocalDateTime from;
+  private LocalDateTime to;
+  private ScheduleRecurrence recurrence;
+
+  @Setup
+  public void setup() {
+    start = LocalDateTime.of(2015, 3, 1, 9, 0);
+    from = LocalDate.of(2024, 5, 1).atStartOfDay();
+    to = from.plusMonths(3);
+    recurrence =
+        new ScheduleRecurrence(start, ChronoUnit.DAYS, cycleDays, 0, LocalDateTime.of(2100, 1, 1, 0, 0));
+  }
+
+  @Benchmark
+  public List<LocalDateTime> stepFromStart() {
+    List<LocalDateTime> occurrences = new ArrayList<>();
+    for (LocalDateTime next = start; next.isBefore(to); next = next.plusDays(cycleDays)) {
+      if (!next.isBefore(from)) {
+        occurrences.add(next);
+      }
+    }
+    return occurrences;
+  }
+
+  @Benchmark
+  public List<LocalDateTime> recurrenceEngine() {
+    return recurrence.between(from, to);
+  }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "s3-file-service",configuration = {FeignHeaderConfig.class, FeignUploadConfig.class})
 public interface S3ServiceClient {
@@ -26,6 +27,9 @@ public interface S3ServiceClient {
   @GetMapping("/files/pets")
   S3ResponseDto viewPetFile(@SpringQueryMap S3RequestDto requestDto);
 
+  @PostMapping("/files/bulk")
+  Map<String, Map<Long, List<S3ResponseDto>>> viewFiles(@RequestBody List<S3RequestDto> requestList);
+
   @PutMapping(value = "/files", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   ResponseEntity<String> updateFiles(@RequestPart(value = "files", name = "files") List<MultipartFile> files,
                                      @RequestPart(value = "dataList", name = "dataList") List<S3UpdateDto> dataList);
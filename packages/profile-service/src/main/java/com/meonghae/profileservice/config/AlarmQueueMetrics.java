@@ -0,0 +1,45 @@
+package com.meonghae.profileservice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 알림 큐와 dead letter 큐에 쌓인 메시지 수 (alarm.queue.depth{queue=...})
+// 스크랩마다 브로커를 조회하지 않도록 주기적으로 읽어 둔 값을 노출한다.
+@Component
+@Slf4j
+public class AlarmQueueMetrics {
+    private final AmqpAdmin amqpAdmin;
+    private final Map<String, AtomicLong> depths = Map.of(
+            "meonghae.queue", new AtomicLong(),
+            RabbitmqConfig.DEAD_LETTER_QUEUE, new AtomicLong());
+
+    public AlarmQueueMetrics(AmqpAdmin amqpAdmin, MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        depths.forEach((queue, depth) -> Gauge.builder("alarm.queue.depth", depth, AtomicLong::get)
+                .description("큐에 대기 중인 메시지 수")
+                .tag("queue", queue)
+                .register(meterRegistry));
+    }
+
+    @Scheduled(fixedDelayString = "${alarm.metrics.queue-depth-ms:15000}")
+    public void refresh() {
+        depths.forEach((queue, depth) -> {
+            try {
+                QueueInformation info = amqpAdmin.getQueueInfo(queue);
+                if (info != null) {
+                    depth.set(info.getMessageCount());
+                }
+            } catch (RuntimeException e) {
+                log.debug("failed to read queue depth: {}", queue, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,232 @@
+package com.meonghae.profileservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.meonghae.profileservice.dto.fcm.FcmMessage;
+import com.meonghae.profileservice.dto.schedule.AlarmDto;
+import com.meonghae.profileservice.service.RedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// FCM 발송 전용 컴포넌트
+// HTTP 클라이언트(커넥션 풀, HTTP/2)와 구글 인증 정보는 한 번만 만들어 재사용한다.
+// 비동기 발송은 동시에 진행 중인 요청 수를 max-in-flight 로 제한한다. (초과 시 호출 스레드가 대기)
+@Component
+@Slf4j
+public class FcmDispatcher {
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final String SCOPE = "https://www.googleapis.com/auth/cloud-platform";
+
+    private final ObjectMapper objectMapper;
+    private final RedisService redisService;
+    private final MeterRegistry meterRegistry;
+    private final String apiUrl;
+    private final CredentialsLoader credentialsLoader;
+    private final OkHttpClient client;
+    private final Timer sendTimer;
+    private final Semaphore inFlight;
+
+    private volatile GoogleCredentials credentials;
+
+    @Autowired
+    public FcmDispatcher(ObjectMapper objectMapper, RedisService redisService, MeterRegistry meterRegistry,
+                         @Value("${fcm.api-url:https://fcm.googleapis.com/v1/projects/meonghae-b9c8b/messages:send}") String apiUrl,
+                         @Value("${fcm.credentials-path:/app/config}") String credentialsPath,
+                         @Value("${fcm.max-idle-connections:5}") int maxIdleConnections,
+                         @Value("${fcm.max-in-flight:32}") int maxInFlight) {
+        this(objectMapper, redisService, meterRegistry, apiUrl, () -> {
+            try (InputStream in = new FileInputStream(credentialsPath)) {
+                return GoogleCredentials.fromStream(in);
+            }
+        }, maxIdleConnections, maxInFlight);
+    }
+
+    FcmDispatcher(ObjectMapper objectMapper, RedisService redisService, MeterRegistry meterRegistry,
+                  String apiUrl, CredentialsLoader credentialsLoader, int maxIdleConnections, int maxInFlight) {
+        this.objectMapper = objectMapper;
+        this.redisService = redisService;
+        this.meterRegistry = meterRegistry;
+        this.apiUrl = apiUrl;
+        this.credentialsLoader = credentialsLoader;
+        this.inFlight = new Semaphore(maxInFlight);
+        // 기본값(호스트당 5개)으로는 FCM 한 곳으로 가는 비동기 요청이 큐에 쌓이므로 in-flight 한도에 맞춘다.
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxInFlight);
+        dispatcher.setMaxRequestsPerHost(maxInFlight);
+        // TLS 연결에서는 ALPN 으로 HTTP/2 를 협상 -> 한 연결로 여러 요청을 다중화
+        this.client = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, 5, TimeUnit.MINUTES))
+                .protocols(List.of(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(5, TimeUnit.SECONDS)
+                .readTimeout(10, TimeUnit.SECONDS)
+                .build();
+        this.sendTimer = Timer.builder("fcm.send.latency")
+                .description("FCM 발송 요청 소요 시간")
+                .register(meterRegistry);
+    }
+
+    public void send(AlarmDto alarmDto) throws IOException {
+        String token = redisService.getFcmToken(alarmDto.getUserEmail());
+        if (token == null) {
+            log.warn("fcm token not found: {}", alarmDto.getUserEmail());
+            failure("no_token").increment();
+            return;
+        }
+        send(token, "멍해", alarmDto.getText());
+    }
+
+    public void send(String token, String title, String body) throws IOException {
+        Request request = buildRequest(token, title, body);
+
+        long start = System.nanoTime();
+        int code;
+        String error;
+        try (Response response = client.newCall(request).execute()) {
+            code = response.code();
+            error = readError(response);
+        } catch (IOException e) {
+            failure("io").increment();
+            throw e;
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        handleResponse(code, error);
+    }
+
+    // 응답을 기다리지 않고 발송 -> 결과는 future 로 전달된다. (재시도 대상이면 IOException 으로 실패)
+    public CompletableFuture<Void> sendAsync(AlarmDto alarmDto) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Request request;
+        try {
+            String token = redisService.getFcmToken(alarmDto.getUserEmail());
+            if (token == null) {
+                log.warn("fcm token not found: {}", alarmDto.getUserEmail());
+                failure("no_token").increment();
+                result.complete(null);
+                return result;
+            }
+            request = buildRequest(token, "멍해", alarmDto.getText());
+            inFlight.acquire();
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        long start = System.nanoTime();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                complete();
+                failure("io").increment();
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    handleResponse(response.code(), readError(response));
+                    result.complete(null);
+                } catch (IOException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    complete();
+                }
+            }
+
+            private void complete() {
+                inFlight.release();
+                sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        return result;
+    }
+
+    private Request buildRequest(String token, String title, String body) throws IOException {
+        FcmMessage message = FcmMessage.builder()
+                .message(FcmMessage.Message.builder()
+                        .token(token)
+                        .notification(FcmMessage.Notification.builder()
+                                .body(body)
+                                .title(title)
+                                .build())
+                        .build())
+                .build();
+
+        return new Request.Builder()
+                .url(apiUrl)
+                .post(RequestBody.create(objectMapper.writeValueAsString(message), JSON))
+                .addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + getAccessToken())
+                .build();
+    }
+
+    private String readError(Response response) throws IOException {
+        return response.isSuccessful() || response.body() == null ? "" : response.body().string();
+    }
+
+    private void handleResponse(int code, String error) throws IOException {
+        if (code >= 200 && code < 300) {
+            return;
+        }
+        failure(String.valueOf(code)).increment();
+        // 429, 5xx 는 일시적인 실패 -> 예외로 재시도 대상이 되게 한다.
+        if (code == 429 || code >= 500) {
+            throw new IOException("fcm send failed: " + code + " " + error);
+        }
+        // 그 외(잘못된/만료된 토큰 등)는 재시도해도 실패하므로 기록만 한다.
+        log.warn("fcm send rejected: {} {}", code, error);
+    }
+
+    // firebase로 부터 access token을 가져온다. -> 이 토큰은 사용자 고유식별 토큰 아님
+    // 인증 정보는 처음 한 번만 읽고, 토큰은 만료가 가까울 때만 갱신된다. (refreshIfExpired)
+    private String getAccessToken() throws IOException {
+        GoogleCredentials current = credentials;
+        if (current == null) {
+            synchronized (this) {
+                if (credentials == null) {
+                    credentials = credentialsLoader.load().createScoped(List.of(SCOPE));
+                }
+                current = credentials;
+            }
+        }
+        current.refreshIfExpired();
+        return current.getAccessToken().getTokenValue();
+    }
+
+    private Counter failure(String reason) {
+        return Counter.builder("fcm.send.failures")
+                .description("FCM 발송 실패 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void close() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+    }
+
+    interface CredentialsLoader {
+        GoogleCredentials load() throws IOException;
+    }
+}
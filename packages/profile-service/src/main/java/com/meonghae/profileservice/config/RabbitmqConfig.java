@@ -1,18 +1,15 @@
 package com.meonghae.profileservice.config;
 
 import org.springframework.amqp.core.*;
-import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 
 
 
@@ -22,6 +19,11 @@ import java.util.Map;
 
 @Configuration
 public class RabbitmqConfig {
+    // 재시도 후에도 발송에 실패한 알림이 쌓이는 곳
+    public static final String DEAD_LETTER_EXCHANGE = "meonghae.dlx";
+    public static final String DEAD_LETTER_QUEUE = "meonghae.queue.dlq";
+    public static final String DEAD_LETTER_ROUTING_KEY = "lab303.dead";
+
     @Value("${spring.rabbitmq.host}")
     private String host;
 
@@ -34,6 +36,18 @@ public class RabbitmqConfig {
     @Value("${spring.rabbitmq.port}")
     private int port;
 
+    @Value("${alarm.consumer.concurrency:1}")
+    private int concurrency;
+
+    @Value("${alarm.consumer.max-concurrency:1}")
+    private int maxConcurrency;
+
+    @Value("${alarm.consumer.prefetch:1}")
+    private int prefetch;
+
+    @Value("${alarm.consumer.batch-size:1}")
+    private int batchSize;
+
     @Bean
     Queue queue(){
         return new Queue("meonghae.queue",false);
@@ -45,8 +59,20 @@ public class RabbitmqConfig {
         return new CustomExchange("meonghae.exchange","x-delayed-message",true,false, args);
     }
     @Bean
-    Binding binding(CustomExchange customExchange, Queue queue){
-        return BindingBuilder.bind(queue).to(customExchange).with("lab303").and(customExchange.getArguments());
+    Binding binding(){
+        return BindingBuilder.bind(queue()).to(customExchange()).with("lab303").and(customExchange().getArguments());
+    }
+    @Bean
+    Queue deadLetterQueue(){
+        return new Queue(DEAD_LETTER_QUEUE,true);
+    }
+    @Bean
+    DirectExchange deadLetterExchange(){
+        return new DirectExchange(DEAD_LETTER_EXCHANGE,true,false);
+    }
+    @Bean
+    Binding deadLetterBinding(){
+        return BindingBuilder.bind(deadLetterQueue()).to(deadLetterExchange()).with(DEAD_LETTER_ROUTING_KEY);
     }
     @Bean
     RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter){
@@ -77,33 +103,20 @@ public class RabbitmqConfig {
         cachingConnectionFactory.setPublisherReturns(true);
         return cachingConnectionFactory;
     }
-    //에러처리 핸들링
+    // 알림 리스너는 메시지를 batch-size 만큼 묶어서 받는다. (채워지지 않으면 receiveTimeout 후 받은 만큼)
+    // 재시도와 dead letter 처리는 메시지 단위로 RabbitmqFcmConsumer 에서 한다.
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(messageConverter);
-        factory.setAdviceChain(retryAdvice());
 
-        factory.setConcurrentConsumers(1); //동시에 활성화될 소비자 수를 1로 설정
-        factory.setPrefetchCount(1); //한 번에 처리할 메시지 수를 1로 설정
+        factory.setConcurrentConsumers(concurrency); //동시에 활성화될 소비자 수
+        factory.setMaxConcurrentConsumers(Math.max(concurrency, maxConcurrency)); //메시지가 밀리면 여기까지 늘어남
+        factory.setPrefetchCount(Math.max(prefetch, batchSize)); //브로커가 소비자에게 미리 보내는 메시지 수
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
         return factory;
     }
-    @Bean
-    public RetryOperationsInterceptor retryAdvice() {
-        return RetryInterceptorBuilder.stateless()
-                .maxAttempts(3) // 최대 재시도
-                .backOffOptions(1000,2.0,10000)// 재시도 간격 설정 (초기 1초, 멀티플라이어 2, 최대 10초)
-                .recoverer(messageRecoverer())
-                .build();
-    }
-    @Bean
-    public MessageRecoverer messageRecoverer() {
-        return ((message, cause) -> {
-            //최종 실패시 로직 구현
-            System.out.println("메시지 최종실패: "+message.getBody());
-        });
-    }
-
 }
-
@@ -1,25 +1,117 @@
 package com.meonghae.profileservice.config;
 
 import com.meonghae.profileservice.dto.schedule.AlarmDto;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PreDestroy;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+// 알림을 묶음으로 받아 FCM 에 비동기로 동시에 발송한다.
+// 실패한 메시지만 개별로 재시도하고, 끝까지 실패하면 dead letter queue 로 보낸다.
+// 묶음 안의 모든 메시지가 끝나야(성공/거절/dead letter) 리스너가 반환되고 ack 된다.
+// dead letter 발행이 브로커에서 확인(publisher confirm)되지 않으면 리스너가 예외로 끝나 묶음 전체가 nack 후 재전달된다.
+// (이미 발송된 다른 알림이 다시 발송될 수 있지만 알림이 유실되지는 않는다)
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class RabbitmqFcmConsumer {
-    private final FcmConfig fcmConfig;
+    private final FcmDispatcher fcmDispatcher;
+    private final RabbitTemplate rabbitTemplate;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final Duration confirmTimeout;
+    // 재시도 대기 후 발송을 넘겨받는 스레드 (발송 한도가 차면 여기서 대기)
+    private final ExecutorService retryExecutor = Executors.newFixedThreadPool(2);
+
+    public RabbitmqFcmConsumer(FcmDispatcher fcmDispatcher, RabbitTemplate rabbitTemplate,
+                               @Value("${alarm.consumer.max-attempts:3}") int maxAttempts,
+                               @Value("${alarm.consumer.initial-backoff-ms:1000}") long initialBackoffMs,
+                               @Value("${alarm.consumer.max-backoff-ms:10000}") long maxBackoffMs,
+                               @Value("${alarm.publish.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.fcmDispatcher = fcmDispatcher;
+        this.rabbitTemplate = rabbitTemplate;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.confirmTimeout = Duration.ofMillis(confirmTimeoutMs);
+    }
 
     @RabbitListener(queues = "meonghae.queue")
-    public void receive(AlarmDto alarmDto) throws IOException {
-        log.info(alarmDto.getText());
-        log.info(alarmDto.getAlarmTime().toString());
-        log.info(alarmDto.getUserEmail());
+    public void receive(List<AlarmDto> alarms) {
+        log.info("received {} alarms", alarms.size());
+
+        CompletableFuture<?>[] sends = alarms.stream()
+                .map(alarm -> sendWithRetry(alarm, 1))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(sends).join();
+    }
+
+    private CompletableFuture<Void> sendWithRetry(AlarmDto alarm, int attempt) {
+        CompletableFuture<Void> send;
+        try {
+            send = fcmDispatcher.sendAsync(alarm);
+        } catch (RuntimeException e) {
+            send = CompletableFuture.failedFuture(e);
+        }
+        return send.handle((ok, e) -> e)
+                .thenCompose(e -> {
+                    if (e == null) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    // 일시적인 실패(IOException)만 재시도 (초기 1초, 2배씩, 최대 10초)
+                    if (!(cause instanceof IOException) || attempt >= maxAttempts) {
+                        return deadLetter(alarm, attempt, cause);
+                    }
+                    long backoff = Math.min(initialBackoffMs << (attempt - 1), maxBackoffMs);
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS, retryExecutor))
+                            .thenCompose(v -> sendWithRetry(alarm, attempt + 1));
+                });
+    }
+
+    // 브로커가 dead letter 를 확인(ack)하면 완료, nack/시간 초과/발행 실패면 예외로 완료된다.
+    private CompletableFuture<Void> deadLetter(AlarmDto alarm, int attempts, Throwable cause) {
+        log.warn("alarm dead-lettered after {} attempts: {}", attempts, alarm.getUserEmail(), cause);
+        CorrelationData correlation = new CorrelationData();
+        try {
+            rabbitTemplate.convertAndSend(RabbitmqConfig.DEAD_LETTER_EXCHANGE, RabbitmqConfig.DEAD_LETTER_ROUTING_KEY,
+                    alarm, message -> {
+                        message.getMessageProperties().setHeader("x-attempts", attempts);
+                        message.getMessageProperties().setHeader("x-exception-message", String.valueOf(cause.getMessage()));
+                        return message;
+                    }, correlation);
+        } catch (RuntimeException e) {
+            log.error("failed to dead-letter alarm: {}", alarm.getUserEmail(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+        return correlation.getFuture().completable()
+                .orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .<Void>handle((confirm, e) -> {
+                    if (e == null && confirm.isAck()) {
+                        return null;
+                    }
+                    String reason = e != null ? String.valueOf(e) : confirm.getReason();
+                    log.error("dead letter was not confirmed by broker: {} ({})", alarm.getUserEmail(), reason);
+                    throw new AmqpException("dead letter was not confirmed: " + reason);
+                });
+    }
 
-        fcmConfig.sendMessageTo(alarmDto);
+    @PreDestroy
+    public void close() {
+        retryExecutor.shutdown();
     }
 }
@@ -1,6 +1,6 @@
 package com.meonghae.profileservice.controller;
 
-import com.meonghae.profileservice.config.FcmConfig;
+import com.meonghae.profileservice.config.FcmDispatcher;
 import com.meonghae.profileservice.config.RabbitmqFcmConsumer;
 import com.meonghae.profileservice.dto.schedule.AlarmDto;
 import com.meonghae.profileservice.service.RabbitService;
@@ -17,13 +17,13 @@ import java.io.IOException;
 @Slf4j
 @RequiredArgsConstructor
 public class RabbitTest {
-    private final FcmConfig fcmConfig;
+    private final FcmDispatcher fcmDispatcher;
 
     @PostMapping("/profile/calendar/message")
     public String send(@RequestBody AlarmDto alarmDto) throws IOException {
         log.info(alarmDto.getUserEmail());
         log.info(alarmDto.getText());
-        fcmConfig.sendMessageTo(alarmDto);
+        fcmDispatcher.send(alarmDto);
         return "send success";
     }
 }
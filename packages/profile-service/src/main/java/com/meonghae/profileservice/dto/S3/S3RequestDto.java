@@ -7,9 +7,16 @@ import lombok.Getter;
 public class S3RequestDto {
     private Long entityId;
     private String entityType;
+    // 조회할 이미지 크기 (THUMBNAIL, MEDIUM), 없으면 원본
+    private String variant;
 
     public S3RequestDto(Long id,String type){
         entityId = id;
         entityType = type;
     }
+
+    public S3RequestDto(Long id,String type,String variant){
+        this(id, type);
+        this.variant = variant;
+    }
 }
@@ -7,12 +7,15 @@ import javax.persistence.*;
 
 import com.meonghae.profileservice.enumcustom.ScheduleCycleType;
 import com.meonghae.profileservice.enumcustom.ScheduleType;
+import com.meonghae.profileservice.recurrence.ScheduleRecurrence;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor
 @Entity
+// 알림 스케줄러가 다음 알림 시각이 지난 일정만 범위 스캔한다.
+@Table(indexes = @Index(name = "idx_schedule_next_alarm_at", columnList = "next_alarm_at"))
 public class Schedule extends BaseTimeEntity{
   @Id
   @GeneratedValue(strategy = GenerationType.AUTO)
@@ -46,6 +49,9 @@ public class Schedule extends BaseTimeEntity{
   private LocalDateTime scheduleEndTime;
   @Column
   private String text;
+  // 다음에 보낼 알림 시각 -> 보낼 알림이 없으면 null
+  @Column(name = "next_alarm_at")
+  private LocalDateTime nextAlarmAt;
 
   public Schedule(Pet pet, String userEmail,LocalDateTime scheduleEndTime, ScheduleRequestDTO scheduleRequestDTO) {
     this.pet = pet;
@@ -61,6 +67,7 @@ public class Schedule extends BaseTimeEntity{
     this.alarmTime = scheduleRequestDTO.getAlarmTime();
     this.scheduleEndTime = scheduleEndTime;
     this.text = scheduleRequestDTO.getText();
+    this.nextAlarmAt = computeNextAlarmAt(LocalDateTime.now());
   }
 
 
@@ -70,11 +77,32 @@ public class Schedule extends BaseTimeEntity{
     this.customScheduleTitle = scheduleRequestDTO.getCustomScheduleTitle();
     this.hasRepeat = scheduleRequestDTO.isHasRepeat();
     this.cycleType = scheduleRequestDTO.getCycleType();
+    this.cycleCount = scheduleRequestDTO.getCycleCount();
     this.cycle = scheduleRequestDTO.getCycle();
     this.scheduleTime = scheduleRequestDTO.getScheduleTime();
     this.hasAlarm = scheduleRequestDTO.isHasAlarm();
     this.alarmTime = scheduleRequestDTO.getAlarmTime();
     this.scheduleEndTime = scheduleEndTime;
     this.text = scheduleRequestDTO.getText();
+    this.nextAlarmAt = computeNextAlarmAt(LocalDateTime.now());
+  }
+
+  // 알림 발송 후 다음 알림 시각으로 이동 -> 밀린 알림은 다시 보내지 않고 now 이후로 건너뛴다.
+  public void advanceNextAlarm(LocalDateTime now) {
+    LocalDateTime fired = this.nextAlarmAt;
+    this.nextAlarmAt = computeNextAlarmAt(fired == null || fired.isBefore(now) ? now : fired);
+  }
+
+  public void refreshNextAlarm(LocalDateTime now) {
+    this.nextAlarmAt = computeNextAlarmAt(now);
+  }
+
+  // after 보다 뒤인 첫 알림 시각
+  // 반복 일정은 최초 알림 시각(alarmTime)에서 주기(cycle)만큼 더해 가며 scheduleEndTime 까지 알림을 보낸다.
+  public LocalDateTime computeNextAlarmAt(LocalDateTime after) {
+    if (!hasAlarm || alarmTime == null) {
+      return null;
+    }
+    return ScheduleRecurrence.ofAlarm(this).nextAfter(after);
   }
 }
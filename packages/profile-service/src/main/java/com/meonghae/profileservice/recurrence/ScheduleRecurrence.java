@@ -0,0 +1,116 @@
+package com.meonghae.profileservice.recurrence;
+
+import com.meonghae.profileservice.entity.Schedule;
+import com.meonghae.profileservice.enumcustom.ScheduleCycleType;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 일정의 반복 규칙을 발생 시각 목록으로 펼친다.
+// k 번째 발생 시각 = 최초 시각 + k * cycle (월/일) -> 앞 회차에 누적해서 더하지 않으므로 말일 보정이 밀리지 않는다.
+// 조회 구간의 첫 회차는 단위 차이로 바로 계산하므로 비용은 구간 안의 발생 횟수에만 비례한다.
+public class ScheduleRecurrence {
+  private final LocalDateTime start;
+  // null 이면 반복 없음 (최초 시각 한 번)
+  private final ChronoUnit unit;
+  private final int cycle;
+  // 최초 회차 이후 반복 횟수 (0 이면 무한 반복)
+  private final int cycleCount;
+  // 반복 종료 시각 (포함, null 이면 제한 없음)
+  private final LocalDateTime end;
+
+  public ScheduleRecurrence(
+      LocalDateTime start, ChronoUnit unit, int cycle, int cycleCount, LocalDateTime end) {
+    boolean repeat = unit != null && cycle > 0;
+    this.start = start;
+    this.unit = repeat ? unit : null;
+    this.cycle = repeat ? cycle : 0;
+    this.cycleCount = repeat ? Math.max(cycleCount, 0) : 0;
+    this.end = repeat ? end : null;
+  }
+
+  // 일정 시각 기준 반복
+  public static ScheduleRecurrence of(Schedule schedule) {
+    return of(schedule, schedule.getScheduleTime());
+  }
+
+  // 알림 시각 기준 반복
+  public static ScheduleRecurrence ofAlarm(Schedule schedule) {
+    return of(schedule, schedule.getAlarmTime());
+  }
+
+  private static ScheduleRecurrence of(Schedule schedule, LocalDateTime start) {
+    if (!schedule.isHasRepeat()) {
+      return new ScheduleRecurrence(start, null, 0, 0, null);
+    }
+    // 합의된 일정(생일, 예방접종 등)은 타입의 반복 주기(월)를 따른다.
+    int cycle = schedule.getCycle() > 0 ? schedule.getCycle() : schedule.getScheduleType().getRepeatCycle();
+    ChronoUnit unit =
+        schedule.getCycleType() == ScheduleCycleType.Day ? ChronoUnit.DAYS : ChronoUnit.MONTHS;
+    return new ScheduleRecurrence(
+        start, unit, cycle, schedule.getCycleCount(), schedule.getScheduleEndTime());
+  }
+
+  // [from, to) 구간의 발생 시각
+  public List<LocalDateTime> between(LocalDateTime from, LocalDateTime to) {
+    if (start == null || !from.isBefore(to)) {
+      return Collections.emptyList();
+    }
+    List<LocalDateTime> occurrences = new ArrayList<>();
+    for (long k = firstIndex(from, true); isValid(k); k++) {
+      LocalDateTime occurrence = occurrence(k);
+      if (!occurrence.isBefore(to)) {
+        break;
+      }
+      occurrences.add(occurrence);
+    }
+    return occurrences;
+  }
+
+  // from 이후(포함) 가까운 순서로 최대 limit 개
+  public List<LocalDateTime> upcoming(LocalDateTime from, int limit) {
+    if (start == null) {
+      return Collections.emptyList();
+    }
+    List<LocalDateTime> occurrences = new ArrayList<>();
+    for (long k = firstIndex(from, true); isValid(k) && occurrences.size() < limit; k++) {
+      occurrences.add(occurrence(k));
+    }
+    return occurrences;
+  }
+
+  // after 보다 뒤인 첫 발생 시각 -> 없으면 null
+  public LocalDateTime nextAfter(LocalDateTime after) {
+    if (start == null) {
+      return null;
+    }
+    long k = firstIndex(after, false);
+    return isValid(k) ? occurrence(k) : null;
+  }
+
+  LocalDateTime occurrence(long k) {
+    return unit == null ? start : start.plus(k * cycle, unit);
+  }
+
+  // 발생 시각이 t 이상(inclusive) 또는 초과인 첫 회차
+  // unit.between 은 온전히 지난 단위 수만 세므로 추정 회차는 t 를 넘지 않는다. -> 말일 보정으로 모자란 만큼만 앞으로 간다.
+  private long firstIndex(LocalDateTime t, boolean inclusive) {
+    long k = unit == null || !start.isBefore(t) ? 0 : unit.between(start, t) / cycle;
+    while (isValid(k) && (inclusive ? occurrence(k).isBefore(t) : !occurrence(k).isAfter(t))) {
+      k++;
+    }
+    return k;
+  }
+
+  private boolean isValid(long k) {
+    if (unit == null) {
+      return k == 0;
+    }
+    if (cycleCount > 0 && k > cycleCount) {
+      return false;
+    }
+    return end == null || !occurrence(k).isAfter(end);
+  }
+}
@@ -1,11 +1,26 @@
 package com.meonghae.profileservice.repository;
 
 import com.meonghae.profileservice.entity.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     List<Schedule> findAllByUserEmail(String userEmail);
     void deleteAllByUserEmail(String userEmail);
+
+    // 알림 시각이 된 일정을 잠그고 가져온다. 다른 인스턴스가 잠근 행은 건너뛰므로 인스턴스끼리 나눠서 처리된다.
+    @Query(value = "SELECT * FROM schedule WHERE next_alarm_at <= :until " +
+            "ORDER BY next_alarm_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Schedule> findDueAlarmsForUpdate(@Param("until") LocalDateTime until, @Param("limit") int limit);
+
+    // next_alarm_at 이 아직 채워지지 않은 (컬럼 추가 이전에 만든) 알림 일정
+    @Query("select s from Schedule s where s.hasAlarm = true and s.nextAlarmAt is null and s.id > :afterId " +
+            "and (s.alarmTime > :now or (s.hasRepeat = true and s.scheduleEndTime > :now)) order by s.id")
+    List<Schedule> findAlarmsWithoutNextAlarm(@Param("afterId") Long afterId, @Param("now") LocalDateTime now,
+                                              Pageable pageable);
 }
@@ -0,0 +1,108 @@
+package com.meonghae.profileservice.service;
+
+import com.meonghae.profileservice.dto.schedule.AlarmDto;
+import com.meonghae.profileservice.entity.Schedule;
+import com.meonghae.profileservice.repository.ScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 일정마다 저장된 다음 알림 시각(nextAlarmAt)으로 알림을 보낸다.
+// 주기적으로 알림 시각이 된 일정만 페이지 단위로 잠가서 가져오고, 발송 후 다음 알림 시각으로 옮긴다.
+// 잠긴 행은 SKIP LOCKED 로 건너뛰므로 여러 인스턴스가 동시에 돌아도 같은 알림을 두 번 보내지 않는다.
+// 하루치를 한 번에 지연 메시지로 넣지 않고 lookahead 안의 알림만 발행하므로 브로커에 대기하는 메시지 수가 일정하다.
+@Service
+@Slf4j
+public class AlarmScheduler {
+    private final ScheduleRepository scheduleRepository;
+    private final RabbitService rabbitService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration lookahead;
+    private final int pageSize;
+
+    public AlarmScheduler(ScheduleRepository scheduleRepository, RabbitService rabbitService,
+                          TransactionTemplate transactionTemplate,
+                          @Value("${alarm.scheduler.lookahead-ms:60000}") long lookaheadMs,
+                          @Value("${alarm.scheduler.page-size:500}") int pageSize) {
+        this.scheduleRepository = scheduleRepository;
+        this.rabbitService = rabbitService;
+        this.transactionTemplate = transactionTemplate;
+        this.lookahead = Duration.ofMillis(lookaheadMs);
+        this.pageSize = pageSize;
+    }
+
+    // lookahead 안에 울릴 알림까지 미리 발행 -> 남은 시간은 지연 메시지로 맞춘다.
+    // 브로커가 확인하지 않은 알림이 있으면 이번 주기는 멈추고 다음 주기에 다시 시도한다.
+    @Scheduled(fixedDelayString = "${alarm.scheduler.poll-ms:30000}")
+    public void publishDueAlarms() {
+        int published = 0;
+        int confirmed;
+        do {
+            confirmed = transactionTemplate.execute(status -> claimAndPublish());
+            published += confirmed;
+        } while (confirmed == pageSize);
+
+        if (published > 0) {
+            log.info("published {} alarms", published);
+        }
+    }
+
+    private int claimAndPublish() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Schedule> due = scheduleRepository.findDueAlarmsForUpdate(now.plus(lookahead), pageSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        List<AlarmDto> alarms = due.stream()
+                .map(schedule -> new AlarmDto(schedule, schedule.getNextAlarmAt()))
+                .collect(Collectors.toList());
+        Set<AlarmDto> unconfirmed = Collections.newSetFromMap(new IdentityHashMap<>());
+        unconfirmed.addAll(rabbitService.sendToRabbitMq(alarms));
+
+        // 확인된 알림만 다음 회차로 옮긴다. 나머지는 next_alarm_at 이 그대로라 다음 주기에 다시 잡힌다.
+        for (int i = 0; i < due.size(); i++) {
+            if (!unconfirmed.contains(alarms.get(i))) {
+                due.get(i).advanceNextAlarm(now);
+            }
+        }
+        return due.size() - unconfirmed.size();
+    }
+
+    // next_alarm_at 컬럼이 생기기 전에 만든 일정의 다음 알림 시각을 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillNextAlarms() {
+        LocalDateTime now = LocalDateTime.now();
+        long lastId = 0L;
+        int filled = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Schedule> page = transactionTemplate.execute(status -> {
+                List<Schedule> schedules = scheduleRepository.findAlarmsWithoutNextAlarm(afterId, now,
+                        PageRequest.of(0, pageSize));
+                schedules.forEach(schedule -> schedule.refreshNextAlarm(now));
+                return schedules;
+            });
+            if (page.isEmpty()) {
+                break;
+            }
+            filled += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        }
+        if (filled > 0) {
+            log.info("backfilled next alarm time for {} schedules", filled);
+        }
+    }
+}
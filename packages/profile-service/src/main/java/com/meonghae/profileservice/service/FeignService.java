@@ -1,5 +1,6 @@
 package com.meonghae.profileservice.service;
 
+import com.meonghae.auth.GatewayUserResolver;
 import com.meonghae.profileservice.client.UserServiceClient;
 import com.meonghae.profileservice.error.ErrorCode;
 import com.meonghae.profileservice.error.exception.UnAuthorizedException;
@@ -16,10 +17,13 @@ import javax.transaction.Transactional;
 @RequiredArgsConstructor
 public class FeignService {
     private final UserServiceClient userServiceClient;
+    private final GatewayUserResolver gatewayUserResolver;
 
+    // 게이트웨이가 서명해 전달한 회원 정보가 있으면 user-service 호출을 생략한다.
     @Transactional
     public String getUserEmail(String token) {
-        String userEmail = userServiceClient.getUserEmail(token);
+        String userEmail = gatewayUserResolver.resolveEmail(token)
+                .orElseGet(() -> userServiceClient.getUserEmail(token));
         if (userEmail == null) {
             throw new UnAuthorizedException(ErrorCode.CANT_READ_TOKEN, ErrorCode.CANT_READ_TOKEN.getMessage());
         }
@@ -13,7 +13,9 @@ import com.meonghae.profileservice.error.exception.NotFoundException;
 import com.meonghae.profileservice.repository.PetRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.meonghae.profileservice.repository.ScheduleRepository;
@@ -40,10 +42,11 @@ public class PetService {
     String userEmail = feignService.getUserEmail(token);
     List<Pet> petList = petRepository.findByUserEmail(userEmail);
     List<PetInfoResponseDTO> resultList = new ArrayList<>();
+    Map<Long, List<S3ResponseDto>> images = getPetImages(petList);
 
     for (Pet pet : petList){
       if ( pet.isHasImage() ){
-        S3ResponseDto image = s3ServiceClient.viewPetFile(new S3RequestDto(pet.getId(),"PET"));
+        S3ResponseDto image = getFirstImage(images, pet);
         resultList.add(new PetInfoResponseDTO(pet,image));
       } else{
         resultList.add(new PetInfoResponseDTO(pet));
@@ -70,10 +73,11 @@ public class PetService {
     String userEmail = feignService.getUserEmail(token);
     List<Pet> petList = petRepository.findByUserEmail(userEmail);
     List<PetDetaileResponseDTO> resultList = new ArrayList<>();
+    Map<Long, List<S3ResponseDto>> images = getPetImages(petList);
 
     for (Pet pet : petList){
       if ( pet.isHasImage() ){
-        S3ResponseDto image = s3ServiceClient.viewPetFile(new S3RequestDto(pet.getId(),"PET"));
+        S3ResponseDto image = getFirstImage(images, pet);
         resultList.add(new PetDetaileResponseDTO(pet,image));
       } else{
         resultList.add(new PetDetaileResponseDTO(pet));
@@ -82,6 +86,23 @@ public class PetService {
     return resultList;
   }
 
+  // 이미지가 있는 반려동물들의 목록용 썸네일을 한 번의 요청으로 조회
+  private Map<Long, List<S3ResponseDto>> getPetImages(List<Pet> petList) {
+    List<S3RequestDto> requestList = petList.stream()
+            .filter(Pet::isHasImage)
+            .map(pet -> new S3RequestDto(pet.getId(), "PET", "THUMBNAIL"))
+            .collect(Collectors.toList());
+    if (requestList.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return s3ServiceClient.viewFiles(requestList).getOrDefault("PET", Collections.emptyMap());
+  }
+
+  private S3ResponseDto getFirstImage(Map<Long, List<S3ResponseDto>> images, Pet pet) {
+    List<S3ResponseDto> petImages = images.get(pet.getId());
+    return petImages == null || petImages.isEmpty() ? null : petImages.get(0);
+  }
+
 //======================================================================
 
   @Transactional //펫과 이미지 저장
@@ -1,47 +1,93 @@
 package com.meonghae.profileservice.service;
 
 import com.meonghae.profileservice.dto.schedule.AlarmDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
-@RequiredArgsConstructor
+@Slf4j
 @Service
 public class RabbitService {
     private final RabbitTemplate rabbitTemplate;
-    public void sendToRabbitMq(List<AlarmDto> alarms) {
+    private final Duration confirmTimeout;
+    private final Counter confirmed;
+    private final Counter failed;
+
+    public RabbitService(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+                         @Value("${alarm.publish.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.confirmTimeout = Duration.ofMillis(confirmTimeoutMs);
+        this.confirmed = Counter.builder("alarm.publish").tag("result", "confirmed").register(meterRegistry);
+        this.failed = Counter.builder("alarm.publish").tag("result", "failed").register(meterRegistry);
+    }
+
+    // 묶음으로 발행한 뒤 publisher confirm 을 한 번에 기다린다.
+    // 브로커가 확인하지 않은(nack, 시간 초과) 알림을 돌려준다. -> 호출한 쪽에서 다음 주기에 다시 발행
+    public List<AlarmDto> sendToRabbitMq(List<AlarmDto> alarms) {
+        List<CorrelationData> correlations = new ArrayList<>(alarms.size());
         for (AlarmDto alarm : alarms) {
-            Duration duration = Duration.between(LocalDateTime.now(),alarm.getAlarmTime().toLocalDateTime());
-            long delayTime = duration.toMillis(); //밀리초는 long으로 반환됌
-            //지연 속성 생성
-            this.rabbitTemplate.convertAndSend(
-                    "meonghae.exchange",
-                    "lab303",
-                    alarm,
-                    message -> {
-                        message.getMessageProperties().setDelay((int)delayTime);
-                        return message;
-                    }
-            );
+            CorrelationData correlation = new CorrelationData();
+            send(alarm, correlation);
+            correlations.add(correlation);
+        }
+
+        List<AlarmDto> unconfirmed = new ArrayList<>();
+        long deadline = System.nanoTime() + confirmTimeout.toNanos();
+        for (int i = 0; i < alarms.size(); i++) {
+            if (!isConfirmed(correlations.get(i), deadline)) {
+                unconfirmed.add(alarms.get(i));
+            }
+        }
+        confirmed.increment(alarms.size() - unconfirmed.size());
+        if (!unconfirmed.isEmpty()) {
+            failed.increment(unconfirmed.size());
+            log.warn("{} of {} alarms were not confirmed by broker", unconfirmed.size(), alarms.size());
         }
+        return unconfirmed;
     }
+
     public void sendToRabbitMq(AlarmDto alarmDto) {
+        send(alarmDto, null);
+    }
+
+    private void send(AlarmDto alarm, CorrelationData correlation) {
         //시간 차이 계산
-        Duration duration = Duration.between(LocalDateTime.now(),alarmDto.getAlarmTime().toLocalDateTime());
-        long delayTime = duration.toMillis(); //밀리초는 long으로 반환됌
-        //지연 속성 생성
+        long delayTime = Duration.between(LocalDateTime.now(), alarm.getAlarmTime().toLocalDateTime()).toMillis();
+        //지연 속성 생성 -> x-delay 는 int 범위, 이미 지난 알림은 바로 전달
+        int delay = (int) Math.max(0, Math.min(delayTime, Integer.MAX_VALUE));
         this.rabbitTemplate.convertAndSend(
                 "meonghae.exchange",
                 "lab303",
-                alarmDto,
+                alarm,
                 message -> {
-                    message.getMessageProperties().setDelay((int)delayTime);
+                    message.getMessageProperties().setDelay(delay);
                     return message;
-                }
+                },
+                correlation
         );
     }
+
+    private boolean isConfirmed(CorrelationData correlation, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS).isAck();
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -8,6 +8,7 @@ import com.meonghae.profileservice.enumcustom.ScheduleCycleType;
 import com.meonghae.profileservice.enumcustom.ScheduleType;
 import com.meonghae.profileservice.error.ErrorCode;
 import com.meonghae.profileservice.error.exception.NotFoundException;
+import com.meonghae.profileservice.recurrence.ScheduleRecurrence;
 import com.meonghae.profileservice.repository.ScheduleRepository;
 import com.meonghae.profileservice.repository.PetRepository;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -15,7 +16,6 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 import javax.transaction.Transactional;
@@ -82,8 +82,10 @@ public class ScheduleService {
         resultList.add(new SchedulePreviewResponseDto(schedule));
       }
       else {
-        ChronoUnit unit = (schedule.getCycleType() == ScheduleCycleType.Month) ? ChronoUnit.MONTHS : ChronoUnit.DAYS;
-        processRepeatSchedule(resultList, schedule, unit);
+        // 일정마다 가장 가까운 5개까지만 펼치고, 아래에서 전체를 정렬해 5개를 고른다.
+        for (LocalDateTime scheduleTime : ScheduleRecurrence.of(schedule).upcoming(LocalDateTime.now(), 5)) {
+          resultList.add(new SchedulePreviewResponseDto(schedule, scheduleTime));
+        }
       }
     }
     // 결과 리스트를 최신 날짜 순으로 정렬
@@ -158,40 +160,14 @@ public class ScheduleService {
         addSimpleSchedule(monthToSchedulesMap, schedule.getScheduleTime(), schedule.getId().intValue());
 
       }
-      //반복되는 생일이나 예방접종인 경우
-      else if (schedule.isHasRepeat() && !schedule.getScheduleType().equals(ScheduleType.Custom)) {
-        //1로해서 월단위만 비교하게
-        LocalDate scheduleStartPoint = LocalDate.of(schedule.getScheduleTime().getYear(),schedule.getScheduleTime().getMonth(),1);
-        LocalDate requestedTargetPoint = LocalDate.of(targetDate.getYear(), targetDate.getMonth(),1);
-
-        //3개달 구해야하니 -1 부터 시작
-        for (int i = -1; i<= 1; i++) {
-          LocalDate checkMonth = requestedTargetPoint.plusMonths(i);
-          if (checkMonth.isBefore(requestedTargetPoint)) continue;
-          if(isEventScheduled(scheduleStartPoint, schedule.getScheduleType().getRepeatCycle(), checkMonth)){
-            addSimpleSchedule(monthToSchedulesMap, checkMonth.withDayOfMonth(schedule.getScheduleTime().getDayOfMonth()).atStartOfDay(), schedule.getId());
-          }
-        }
-      }
-      //주기타입이 month 인 것
-      else if (schedule.isHasRepeat() && schedule.getCycleType().equals(ScheduleCycleType.Month)) {
-
-        for (int i = 0; i < 3; i++) { // 현재 달부터 2달 뒤까지 3번 반복
-          LocalDate repeatedDate = targetDate.plusMonths(i);
-          if ((repeatedDate.getMonthValue() - schedule.getScheduleTime().getMonthValue()) % schedule.getCycle() == 0) {
-            addSimpleSchedule(monthToSchedulesMap, repeatedDate.withDayOfMonth(schedule.getScheduleTime().getDayOfMonth()).atStartOfDay(), schedule.getId());
-          }
+      //반복 일정은 이번 달부터 펼친다. 생일/예방접종은 이번 달과 다음 달, 커스텀(월/일 주기)은 이번 달부터 3달치
+      else if (schedule.isHasRepeat()) {
+        LocalDateTime monthStart = targetDate.withDayOfMonth(1).atStartOfDay();
+        int months = schedule.getScheduleType().equals(ScheduleType.Custom) ? 3 : 2;
+        for (LocalDateTime scheduleTime : ScheduleRecurrence.of(schedule).between(monthStart, monthStart.plusMonths(months))) {
+          addSimpleSchedule(monthToSchedulesMap, scheduleTime, schedule.getId());
         }
       }
-      //반복 일정 && 타입이 커스텀이면서 주기타입이 day 인 것
-      else if (schedule.isHasRepeat()
-              && schedule.getCycleType() == ScheduleCycleType.Day) {
-        List<LocalDateTime> intendedTimeList = calculateRepeatedDays(schedule,targetDate);
-
-        for (LocalDateTime intendedTime : intendedTimeList) {
-          addSimpleSchedule(monthToSchedulesMap, intendedTime, schedule.getId());
-        }
-      } else throw new RuntimeException();
     }
     ObjectMapper objectMapper = new ObjectMapper();
     String json = objectMapper.writeValueAsString(monthToSchedulesMap);
@@ -208,11 +184,6 @@ public class ScheduleService {
 
   }
 
-  public static boolean isEventScheduled(LocalDate eventStartMonth, int eventCycle, LocalDate requestedMonth) {
-    long monthsBetween = ChronoUnit.MONTHS.between(eventStartMonth, requestedMonth);
-    return monthsBetween % eventCycle == 0;
-  }
-
   public List<ScheduleResponseDTO> getScheduleOfFindByText(String key, String token){
     String userEmail = feignService.getUserEmail(token);
 
@@ -354,60 +325,4 @@ public class ScheduleService {
       scheduleList.add(simpleSchedule);
     }
   }
-
-  // 날짜 관련 유틸리티 메서드
-  private List<LocalDateTime> calculateRepeatedDays(Schedule schedule, LocalDate targetDate) {
-    List<LocalDateTime> recurringDates = new ArrayList<>();
-
-    LocalDateTime nextScheduleTime = schedule.getScheduleTime();
-    // 목표 날짜와 시작 날짜 사이의 차이 계산 / 필요한 반복 횟수 계산
-    long repeatCount = (ChronoUnit.DAYS.between(nextScheduleTime.toLocalDate(), targetDate)) / schedule.getCycle();
-
-    nextScheduleTime = nextScheduleTime.plusDays(repeatCount * schedule.getCycle());
-
-    // 3개의 월의 마지막 날짜까지 반복
-    while (nextScheduleTime.toLocalDate().isBefore(targetDate.plusMonths(3))) {
-      if (nextScheduleTime.getMonthValue() == targetDate.getMonthValue()
-              || nextScheduleTime.getMonthValue() == targetDate.plusMonths(1).getMonthValue()
-              || nextScheduleTime.getMonthValue() == targetDate.plusMonths(2).getMonthValue()) {
-        recurringDates.add(nextScheduleTime);
-      }
-      nextScheduleTime = nextScheduleTime.plusDays(schedule.getCycle());
-    }
-
-    return recurringDates;
-  }
-
-  private void processRepeatSchedule(List<SchedulePreviewResponseDto> resultList, Schedule schedule, ChronoUnit unit) {
-    LocalDateTime nextScheduleTime = schedule.getScheduleTime();
-    //몇달을 추가해서 일정에 보여줘야하는지
-    int repeatCount = (int) (unit.between(nextScheduleTime, LocalDateTime.now()) / schedule.getCycle());
-    //같은 달에 있는 일정인데 day가 이미 지났니? 지난거면 다음 반복주기로 1, 아님 0
-    if (repeatCount == 0) {
-      repeatCount = nextScheduleTime.isBefore(LocalDateTime.now()) ? 1 : 0;
-    }
-    nextScheduleTime = nextScheduleTime.plus((long) repeatCount * schedule.getCycle(), unit);
-
-    if (nextScheduleTime.isBefore(LocalDateTime.now()))
-      nextScheduleTime = nextScheduleTime.plus(schedule.getCycle(),unit);
-
-    for (int i = 0; i < 5; i++) {
-      if (schedule.getScheduleEndTime().isBefore(nextScheduleTime)) {
-        break;
-      }
-      if (resultList.size() >= 5) {
-        // resultList를 정렬하여 가장 늦은 일정을 확인
-        resultList.sort(Comparator.comparing(SchedulePreviewResponseDto::getScheduleDate));
-        // 가장 늦은 일정보다 현재 추가할 일정이 빠른 경우
-        if (nextScheduleTime.isBefore(resultList.get(4).getScheduleDate())) {
-          // 가장 늦은 일정을 제거하고 새 일정 추가
-          resultList.remove(4);
-          resultList.add(new SchedulePreviewResponseDto(schedule, nextScheduleTime));
-        } else break;
-      } else {
-        resultList.add(new SchedulePreviewResponseDto(schedule, nextScheduleTime));
-      }
-      nextScheduleTime = nextScheduleTime.plus(schedule.getCycle(), unit);
-    }
-  }
 }
@@ -0,0 +1,137 @@
+package com.meonghae.profileservice.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.meonghae.profileservice.dto.schedule.AlarmDto;
+import com.meonghae.profileservice.service.RedisService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// FCM 대신 로컬 HTTP 서버로 요청을 받는다.
+class FcmDispatcherTest {
+  private HttpServer server;
+  private final List<String> authorizations = new CopyOnWriteArrayList<>();
+  private final List<String> bodies = new CopyOnWriteArrayList<>();
+  private final AtomicReference<Integer> status = new AtomicReference<>(200);
+  private final AtomicInteger credentialLoads = new AtomicInteger();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RedisService redisService = mock(RedisService.class);
+  private FcmDispatcher dispatcher;
+
+  @BeforeEach
+  void init() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/messages:send",
+        exchange -> {
+          authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+          bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+          byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(status.get(), response.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+          }
+        });
+    server.start();
+
+    dispatcher =
+        new FcmDispatcher(
+            new ObjectMapper(),
+            redisService,
+            meterRegistry,
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/messages:send",
+            () -> {
+              credentialLoads.incrementAndGet();
+              return GoogleCredentials.create(
+                  new AccessToken("test-token", new Date(System.currentTimeMillis() + 3_600_000)));
+            },
+            5,
+            4);
+  }
+
+  @AfterEach
+  void close() {
+    dispatcher.close();
+    server.stop(0);
+  }
+
+  @Test
+  void 인증_정보는_한_번만_읽고_여러_메시지를_발송한다() throws Exception {
+    // when
+    for (int i = 0; i < 3; i++) {
+      dispatcher.send("device-token", "멍해", "알림 " + i);
+    }
+
+    // then
+    assertThat(credentialLoads.get()).isEqualTo(1);
+    assertThat(authorizations).hasSize(3).containsOnly("Bearer test-token");
+    assertThat(bodies.get(0)).contains("\"token\":\"device-token\"").contains("알림 0");
+    assertThat(meterRegistry.get("fcm.send.latency").timer().count()).isEqualTo(3);
+  }
+
+  @Test
+  void 일시적인_실패는_예외로_알리고_실패_수를_기록한다() throws Exception {
+    // given
+    status.set(503);
+
+    // when // then
+    assertThatThrownBy(() -> dispatcher.send("device-token", "멍해", "알림"))
+        .isInstanceOf(IOException.class);
+    assertThat(meterRegistry.get("fcm.send.failures").tag("reason", "503").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void 잘못된_토큰으로_거절되면_재시도하지_않도록_예외없이_기록만_한다() throws Exception {
+    // given
+    status.set(404);
+
+    // when
+    dispatcher.send("expired-token", "멍해", "알림");
+
+    // then
+    assertThat(meterRegistry.get("fcm.send.failures").tag("reason", "404").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void 비동기_발송은_동시_요청_한도_안에서_모두_완료된다() throws Exception {
+    // given
+    when(redisService.getFcmToken("tester")).thenReturn("device-token");
+    AlarmDto alarm = mock(AlarmDto.class);
+    when(alarm.getUserEmail()).thenReturn("tester");
+    when(alarm.getText()).thenReturn("알림");
+
+    // when
+    List<CompletableFuture<Void>> sends = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      sends.add(dispatcher.sendAsync(alarm));
+    }
+    CompletableFuture.allOf(sends.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+    // then
+    assertThat(bodies).hasSize(20);
+    assertThat(credentialLoads.get()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,116 @@
+package com.meonghae.profileservice.config;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.meonghae.profileservice.dto.schedule.AlarmDto;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class RabbitmqFcmConsumerTest {
+  private final FcmDispatcher fcmDispatcher = mock(FcmDispatcher.class);
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private RabbitmqFcmConsumer consumer;
+
+  @BeforeEach
+  void init() {
+    consumer = new RabbitmqFcmConsumer(fcmDispatcher, rabbitTemplate, 3, 1, 10, 1000);
+  }
+
+  @AfterEach
+  void close() {
+    consumer.close();
+  }
+
+  @Test
+  void 실패한_메시지만_다시_보낸다() {
+    // given
+    AlarmDto success = mock(AlarmDto.class);
+    AlarmDto flaky = mock(AlarmDto.class);
+    when(fcmDispatcher.sendAsync(success)).thenReturn(CompletableFuture.completedFuture(null));
+    when(fcmDispatcher.sendAsync(flaky))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("fcm send failed: 503")))
+        .thenReturn(CompletableFuture.completedFuture(null));
+
+    // when
+    consumer.receive(List.of(success, flaky));
+
+    // then
+    verify(fcmDispatcher, times(1)).sendAsync(success);
+    verify(fcmDispatcher, times(2)).sendAsync(flaky);
+    verify(rabbitTemplate, never())
+        .convertAndSend(
+            any(String.class),
+            any(String.class),
+            any(Object.class),
+            any(MessagePostProcessor.class),
+            any(CorrelationData.class));
+  }
+
+  @Test
+  void 재시도_횟수를_넘기면_dead_letter_queue_로_보낸다() {
+    // given
+    AlarmDto alarm = mock(AlarmDto.class);
+    when(fcmDispatcher.sendAsync(alarm))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("fcm send failed: 503")));
+    confirmDeadLetter(true);
+
+    // when
+    consumer.receive(List.of(alarm));
+
+    // then
+    verify(fcmDispatcher, times(3)).sendAsync(alarm);
+    verify(rabbitTemplate)
+        .convertAndSend(
+            eq(RabbitmqConfig.DEAD_LETTER_EXCHANGE),
+            eq(RabbitmqConfig.DEAD_LETTER_ROUTING_KEY),
+            eq(alarm),
+            any(MessagePostProcessor.class),
+            any(CorrelationData.class));
+  }
+
+  @Test
+  void dead_letter_가_확인되지_않으면_예외로_끝나_재전달된다() {
+    // given
+    AlarmDto alarm = mock(AlarmDto.class);
+    when(fcmDispatcher.sendAsync(alarm))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalArgumentException("invalid token")));
+    confirmDeadLetter(false);
+
+    // when // then
+    assertThatThrownBy(() -> consumer.receive(List.of(alarm)))
+        .hasCauseInstanceOf(AmqpException.class);
+  }
+
+  // 브로커의 publisher confirm 응답 흉내
+  private void confirmDeadLetter(boolean ack) {
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(4);
+              correlation.getFuture().set(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+              return null;
+            })
+        .when(rabbitTemplate)
+        .convertAndSend(
+            any(String.class),
+            any(String.class),
+            any(Object.class),
+            any(MessagePostProcessor.class),
+            any(CorrelationData.class));
+  }
+}
@@ -0,0 +1,64 @@
+package com.meonghae.profileservice.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.meonghae.profileservice.dto.schedule.ScheduleRequestDTO;
+import com.meonghae.profileservice.enumcustom.ScheduleCycleType;
+import com.meonghae.profileservice.enumcustom.ScheduleType;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+
+class ScheduleTest {
+
+  @Test
+  void 반복_일정의_다음_알림은_지나간_회차를_건너뛰고_계산된다() {
+    // given
+    Schedule schedule =
+        schedule(ScheduleCycleType.Day, 3, LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2100, 1, 1, 0, 0));
+
+    // when // then
+    assertThat(schedule.computeNextAlarmAt(LocalDateTime.of(2024, 1, 10, 8, 0)))
+        .isEqualTo(LocalDateTime.of(2024, 1, 10, 9, 0));
+    assertThat(schedule.computeNextAlarmAt(LocalDateTime.of(2024, 1, 10, 9, 0)))
+        .isEqualTo(LocalDateTime.of(2024, 1, 13, 9, 0));
+  }
+
+  @Test
+  void 월_반복_일정은_말일을_넘기지_않는다() {
+    // given
+    Schedule schedule =
+        schedule(ScheduleCycleType.Month, 1, LocalDateTime.of(2024, 1, 31, 9, 0), LocalDateTime.of(2100, 1, 1, 0, 0));
+
+    // when // then
+    assertThat(schedule.computeNextAlarmAt(LocalDateTime.of(2024, 2, 1, 0, 0)))
+        .isEqualTo(LocalDateTime.of(2024, 2, 29, 9, 0));
+    assertThat(schedule.computeNextAlarmAt(LocalDateTime.of(2024, 2, 29, 9, 0)))
+        .isEqualTo(LocalDateTime.of(2024, 3, 31, 9, 0));
+  }
+
+  @Test
+  void 반복_종료_이후에는_알림이_없다() {
+    // given
+    Schedule schedule =
+        schedule(ScheduleCycleType.Month, 6, LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 12, 31, 0, 0));
+
+    // when
+    schedule.refreshNextAlarm(LocalDateTime.of(2024, 6, 1, 9, 0));
+    schedule.advanceNextAlarm(LocalDateTime.of(2024, 6, 1, 9, 0));
+
+    // then
+    assertThat(schedule.getNextAlarmAt()).isNull();
+  }
+
+  private Schedule schedule(ScheduleCycleType cycleType, int cycle, LocalDateTime alarmTime, LocalDateTime endTime) {
+    ScheduleRequestDTO request = new ScheduleRequestDTO();
+    request.setScheduleType(ScheduleType.Custom);
+    request.setHasRepeat(true);
+    request.setCycleType(cycleType);
+    request.setCycle(cycle);
+    request.setScheduleTime(alarmTime);
+    request.setHasAlarm(true);
+    request.setAlarmTime(alarmTime);
+    return new Schedule(null, "tester", endTime, request);
+  }
+}
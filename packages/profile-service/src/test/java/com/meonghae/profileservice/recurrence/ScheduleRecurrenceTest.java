@@ -0,0 +1,109 @@
+package com.meonghae.profileservice.recurrence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class ScheduleRecurrenceTest {
+  private static final int CASES = 2000;
+
+  // 임의의 반복 규칙과 조회 구간에 대해, 최초 시각부터 한 회차씩 펼친 결과(기준 구현)와 같아야 한다.
+  // 실패 시 seed 와 case 번호로 같은 입력을 재현할 수 있다.
+  @Test
+  void 임의의_반복_규칙과_구간에서_한_회차씩_펼친_결과와_같다() {
+    long seed = System.nanoTime();
+    Random random = new Random(seed);
+
+    for (int i = 0; i < CASES; i++) {
+      LocalDateTime start = randomTime(random, LocalDateTime.of(2020, 1, 1, 0, 0), 365 * 3);
+      ChronoUnit unit = random.nextBoolean() ? ChronoUnit.MONTHS : ChronoUnit.DAYS;
+      int cycle = 1 + random.nextInt(unit == ChronoUnit.MONTHS ? 12 : 30);
+      int cycleCount = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(20);
+      LocalDateTime end =
+          random.nextInt(4) == 0 ? null : randomTime(random, start, 365 * 4);
+      LocalDateTime from = randomTime(random, start.minusDays(60), 365 * 5);
+      LocalDateTime to = from.plusDays(random.nextInt(120));
+
+      ScheduleRecurrence recurrence = new ScheduleRecurrence(start, unit, cycle, cycleCount, end);
+      List<LocalDateTime> expected = expand(start, unit, cycle, cycleCount, end);
+      String input =
+          String.format(
+              "seed=%d case=%d start=%s unit=%s cycle=%d cycleCount=%d end=%s from=%s to=%s",
+              seed, i, start, unit, cycle, cycleCount, end, from, to);
+
+      assertThat(recurrence.between(from, to))
+          .as(input)
+          .isEqualTo(filter(expected, from, to));
+      assertThat(recurrence.nextAfter(from))
+          .as(input)
+          .isEqualTo(expected.stream().filter(t -> t.isAfter(from)).findFirst().orElse(null));
+      assertThat(recurrence.upcoming(from, 5))
+          .as(input)
+          .isEqualTo(expected.stream().filter(t -> !t.isBefore(from)).limit(5).collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void 반복하지_않는_일정은_한_번만_발생한다() {
+    // given
+    LocalDateTime time = LocalDateTime.of(2024, 5, 5, 10, 0);
+    ScheduleRecurrence recurrence = new ScheduleRecurrence(time, null, 0, 0, null);
+
+    // when // then
+    assertThat(recurrence.between(time.minusDays(1), time.plusYears(1))).containsExactly(time);
+    assertThat(recurrence.nextAfter(time)).isNull();
+  }
+
+  @Test
+  void 월_반복은_최초_일자를_기준으로_말일을_보정한다() {
+    // given
+    ScheduleRecurrence recurrence =
+        new ScheduleRecurrence(LocalDateTime.of(2024, 1, 31, 9, 0), ChronoUnit.MONTHS, 1, 0, null);
+
+    // when
+    List<LocalDateTime> occurrences =
+        recurrence.between(LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 5, 1, 0, 0));
+
+    // then
+    assertThat(occurrences)
+        .containsExactly(
+            LocalDateTime.of(2024, 2, 29, 9, 0),
+            LocalDateTime.of(2024, 3, 31, 9, 0),
+            LocalDateTime.of(2024, 4, 30, 9, 0));
+  }
+
+  // 기준 구현: 최초 시각부터 회차를 하나씩 증가시키며 종료 조건까지 모두 펼친다.
+  private List<LocalDateTime> expand(
+      LocalDateTime start, ChronoUnit unit, int cycle, int cycleCount, LocalDateTime end) {
+    List<LocalDateTime> occurrences = new ArrayList<>();
+    LocalDateTime limit = LocalDateTime.of(2040, 1, 1, 0, 0);
+    for (long k = 0; cycleCount == 0 || k <= cycleCount; k++) {
+      LocalDateTime occurrence = start.plus(k * cycle, unit);
+      if ((end != null && occurrence.isAfter(end)) || occurrence.isAfter(limit)) {
+        break;
+      }
+      occurrences.add(occurrence);
+    }
+    return occurrences;
+  }
+
+  private List<LocalDateTime> filter(List<LocalDateTime> occurrences, LocalDateTime from, LocalDateTime to) {
+    List<LocalDateTime> result = new ArrayList<>();
+    for (LocalDateTime occurrence : occurrences) {
+      if (!occurrence.isBefore(from) && occurrence.isBefore(to)) {
+        result.add(occurrence);
+      }
+    }
+    return result;
+  }
+
+  private LocalDateTime randomTime(Random random, LocalDateTime base, int days) {
+    return base.plusDays(random.nextInt(days)).withHour(random.nextInt(24)).withMinute(random.nextInt(60));
+  }
+}
@@ -0,0 +1,67 @@
+package com.meonghae.profileservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.meonghae.profileservice.dto.schedule.AlarmDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+class RabbitServiceTest {
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RabbitService rabbitService = new RabbitService(rabbitTemplate, meterRegistry, 100);
+
+  @Test
+  void 브로커가_확인하지_않은_알림만_돌려준다() {
+    // given
+    AlarmDto acked = alarm();
+    AlarmDto nacked = alarm();
+    AlarmDto timedOut = alarm();
+    answer(acked, true);
+    answer(nacked, false);
+
+    // when
+    List<AlarmDto> unconfirmed = rabbitService.sendToRabbitMq(List.of(acked, nacked, timedOut));
+
+    // then
+    assertThat(unconfirmed).containsExactly(nacked, timedOut);
+    assertThat(meterRegistry.get("alarm.publish").tag("result", "confirmed").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("alarm.publish").tag("result", "failed").counter().count())
+        .isEqualTo(2);
+  }
+
+  private AlarmDto alarm() {
+    AlarmDto alarm = mock(AlarmDto.class);
+    when(alarm.getAlarmTime()).thenReturn(Timestamp.valueOf(LocalDateTime.now().plusMinutes(1)));
+    return alarm;
+  }
+
+  // 발행 시 전달된 CorrelationData 에 브로커 응답(ack/nack)을 채운다.
+  private void answer(AlarmDto alarm, boolean ack) {
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(4);
+              correlation.getFuture().set(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+              return null;
+            })
+        .when(rabbitTemplate)
+        .convertAndSend(
+            eq("meonghae.exchange"),
+            eq("lab303"),
+            eq(alarm),
+            any(MessagePostProcessor.class),
+            any(CorrelationData.class));
+  }
+}
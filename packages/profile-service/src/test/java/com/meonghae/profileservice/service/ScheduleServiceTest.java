@@ -0,0 +1,104 @@
+package com.meonghae.profileservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.meonghae.profileservice.dto.schedule.ScheduleRequestDTO;
+import com.meonghae.profileservice.dto.schedule.SimpleMonthSchedule;
+import com.meonghae.profileservice.dto.schedule.SimpleSchedule;
+import com.meonghae.profileservice.entity.Schedule;
+import com.meonghae.profileservice.enumcustom.ScheduleCycleType;
+import com.meonghae.profileservice.enumcustom.ScheduleType;
+import com.meonghae.profileservice.repository.PetRepository;
+import com.meonghae.profileservice.repository.ScheduleRepository;
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class ScheduleServiceTest {
+  private final JPAQueryFactory jpaQueryFactory = mock(JPAQueryFactory.class);
+  private final FeignService feignService = mock(FeignService.class);
+  private final ScheduleService scheduleService =
+      new ScheduleService(
+          mock(PetRepository.class),
+          mock(ScheduleRepository.class),
+          jpaQueryFactory,
+          feignService,
+          mock(RabbitService.class));
+
+  @SuppressWarnings("unchecked")
+  private final JPAQuery<Schedule> query = mock(JPAQuery.class, RETURNS_SELF);
+
+  @BeforeEach
+  void init() {
+    when(feignService.getUserEmail("token")).thenReturn("tester");
+    when(jpaQueryFactory.selectFrom(any(EntityPath.class))).thenReturn(query);
+  }
+
+  // 달력 응답은 지난 달/이번 달/다음 달 키만 가진다. (커스텀 반복은 이번 달부터 3달치를 펼치고, 응답에 없는 달은 버린다)
+  @Test
+  void 커스텀_일_반복_일정은_이번_달과_다음_달_회차가_모두_담긴다() throws Exception {
+    // given
+    given(schedule(1L, ScheduleCycleType.Day, 10, LocalDateTime.of(2023, 1, 5, 9, 0)));
+
+    // when
+    Map<Integer, List<Integer>> days = days(scheduleService.getMonthOfSchedule(LocalDate.of(2024, 3, 1), "token"));
+
+    // then
+    assertThat(days.keySet()).containsExactlyInAnyOrder(2, 3, 4);
+    assertThat(days.get(2)).isEmpty();
+    assertThat(days.get(3)).containsExactly(10, 20, 30);
+    assertThat(days.get(4)).containsExactly(9, 19, 29);
+  }
+
+  @Test
+  void 커스텀_월_반복_일정은_말일을_보정해_담긴다() throws Exception {
+    // given
+    given(schedule(2L, ScheduleCycleType.Month, 1, LocalDateTime.of(2024, 1, 31, 9, 0)));
+
+    // when
+    Map<Integer, List<Integer>> days = days(scheduleService.getMonthOfSchedule(LocalDate.of(2024, 3, 1), "token"));
+
+    // then
+    assertThat(days.get(2)).isEmpty();
+    assertThat(days.get(3)).containsExactly(31);
+    assertThat(days.get(4)).containsExactly(30);
+  }
+
+  private void given(Schedule... schedules) {
+    when(query.fetch()).thenReturn(Arrays.asList(schedules));
+  }
+
+  private Map<Integer, List<Integer>> days(List<SimpleMonthSchedule> months) {
+    return months.stream()
+        .collect(
+            Collectors.toMap(
+                SimpleMonthSchedule::getMonth,
+                month ->
+                    month.getSchedules().stream().map(SimpleSchedule::getDay).collect(Collectors.toList())));
+  }
+
+  private Schedule schedule(Long id, ScheduleCycleType cycleType, int cycle, LocalDateTime scheduleTime) {
+    ScheduleRequestDTO request = new ScheduleRequestDTO();
+    request.setScheduleType(ScheduleType.Custom);
+    request.setHasRepeat(true);
+    request.setCycleType(cycleType);
+    request.setCycle(cycle);
+    request.setScheduleTime(scheduleTime);
+    Schedule schedule = new Schedule(null, "tester", LocalDateTime.of(2100, 1, 1, 0, 0), request);
+    ReflectionTestUtils.setField(schedule, "id", id);
+    return schedule;
+  }
+}
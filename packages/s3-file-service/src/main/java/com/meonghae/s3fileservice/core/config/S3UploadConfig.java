@@ -0,0 +1,28 @@
+package com.meonghae.s3fileservice.core.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class S3UploadConfig {
+
+    public static final String UPLOAD_EXECUTOR = "s3UploadExecutor";
+
+    // S3 업로드 전용 스레드 풀, 큐가 가득 차면 요청을 거절한다.
+    // (요청 스레드에서 대신 업로드하면 업로드가 요청 흐름과 섞이고 처리량 제한도 사라진다)
+    @Bean(name = UPLOAD_EXECUTOR)
+    public Executor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,12 +1,16 @@
 package com.meonghae.s3fileservice.domain;
 
 import com.meonghae.s3fileservice.domain.enums.EntityType;
+import com.meonghae.s3fileservice.domain.enums.ImageVariant;
 import com.meonghae.s3fileservice.dto.FileRequest;
 import com.meonghae.s3fileservice.dto.FileUpdate;
 import com.meonghae.s3fileservice.dto.FileUser;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 public class File {
 
@@ -16,6 +20,13 @@ public class File {
 
     private final String fileUrl;
 
+    // 변형 이미지가 없으면 null (원본 URL 로 대체)
+    private final String thumbnailUrl;
+
+    private final String mediumUrl;
+
+    private final String contentHash;
+
     private EntityType entityType;
 
     private Long typeId;
@@ -23,11 +34,14 @@ public class File {
     private String email;
 
     @Builder
-    public File(Long id, String fileName, String fileUrl,
-                EntityType entityType, Long typeId, String email) {
+    public File(Long id, String fileName, String fileUrl, String thumbnailUrl, String mediumUrl,
+                String contentHash, EntityType entityType, Long typeId, String email) {
         this.id = id;
         this.fileName = fileName;
         this.fileUrl = fileUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.contentHash = contentHash;
         this.entityType = entityType;
         this.typeId = typeId;
         this.email = email;
@@ -48,4 +62,27 @@ public class File {
         this.typeId = update.getEntityId();
         this.email = update.getEmail();
     }
+
+    public String urlOf(ImageVariant variant) {
+        String url = null;
+        if (variant == ImageVariant.THUMBNAIL) {
+            url = thumbnailUrl;
+        } else if (variant == ImageVariant.MEDIUM) {
+            url = mediumUrl;
+        }
+        return url != null ? url : fileUrl;
+    }
+
+    // 원본과 함께 지워야 할 S3 키 목록
+    public List<String> getKeys() {
+        List<String> keys = new ArrayList<>();
+        keys.add(fileName);
+        if (thumbnailUrl != null) {
+            keys.add(ImageVariant.THUMBNAIL.keyOf(fileName));
+        }
+        if (mediumUrl != null) {
+            keys.add(ImageVariant.MEDIUM.keyOf(fileName));
+        }
+        return keys;
+    }
 }
@@ -0,0 +1,67 @@
+package com.meonghae.s3fileservice.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 내용(SHA-256)이 같은 파일들이 공유하는 S3 객체와 그 참조 카운트
+@Getter
+public class StoredObject {
+
+    private final Long id;
+
+    private final String contentHash;
+
+    private final String fileName;
+
+    private final String fileUrl;
+
+    private final String thumbnailUrl;
+
+    private final String mediumUrl;
+
+    private long refCount;
+
+    @Builder
+    public StoredObject(Long id, String contentHash, String fileName, String fileUrl, String thumbnailUrl,
+                        String mediumUrl, long refCount) {
+        this.id = id;
+        this.contentHash = contentHash;
+        this.fileName = fileName;
+        this.fileUrl = fileUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.refCount = refCount;
+    }
+
+    // 새로 업로드한 파일의 객체, 업로드한 파일이 첫 번째 참조가 된다.
+    public static StoredObject from(File file) {
+        return StoredObject.builder()
+                .contentHash(file.getContentHash())
+                .fileName(file.getFileName())
+                .fileUrl(file.getFileUrl())
+                .thumbnailUrl(file.getThumbnailUrl())
+                .mediumUrl(file.getMediumUrl())
+                .refCount(1)
+                .build();
+    }
+
+    // 이 객체를 가리키는 새 파일 (엔티티 정보는 업로드 요청에 맞춰 다시 채운다)
+    public File newFile() {
+        return File.builder()
+                .fileName(fileName)
+                .fileUrl(fileUrl)
+                .thumbnailUrl(thumbnailUrl)
+                .mediumUrl(mediumUrl)
+                .contentHash(contentHash)
+                .build();
+    }
+
+    // 마지막 참조까지 해제되면 S3 객체를 지워도 된다.
+    public boolean isReleasedBy(long count) {
+        return refCount <= count;
+    }
+
+    public void release(long count) {
+        this.refCount = Math.max(0, refCount - count);
+    }
+}
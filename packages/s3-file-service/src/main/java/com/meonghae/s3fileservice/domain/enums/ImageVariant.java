@@ -0,0 +1,23 @@
+package com.meonghae.s3fileservice.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    ORIGINAL(0, "", "원본 이미지"),
+    MEDIUM(720, "medium/", "상세 화면용 이미지"),
+    THUMBNAIL(200, "thumbnail/", "목록 화면용 썸네일");
+
+    // 긴 변 기준 최대 픽셀 수
+    private final int maxSize;
+    private final String prefix;
+    private final String title;
+
+    // 원본 키와 같은 이름을 가진 S3 키 (ex. thumbnail/UUID-origin.png)
+    public String keyOf(String fileName) {
+        return prefix + fileName;
+    }
+}
@@ -0,0 +1,31 @@
+package com.meonghae.s3fileservice.dto;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class FileDeleteResult {
+
+    // S3 와 DB 에서 모두 삭제된 파일 수
+    private final int deletedCount;
+
+    // S3 삭제에 실패한 파일 키, DB 에는 남겨두어 재시도할 수 있도록 한다.
+    private final List<String> failedKeys;
+
+    public FileDeleteResult(int deletedCount, List<String> failedKeys) {
+        this.deletedCount = deletedCount;
+        this.failedKeys = failedKeys;
+    }
+
+    public boolean isPartial() {
+        return !failedKeys.isEmpty();
+    }
+
+    public FileDeleteResult merge(FileDeleteResult other) {
+        List<String> keys = new ArrayList<>(this.failedKeys);
+        keys.addAll(other.failedKeys);
+        return new FileDeleteResult(this.deletedCount + other.deletedCount, keys);
+    }
+}
@@ -0,0 +1,50 @@
+package com.meonghae.s3fileservice.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.InputStream;
+
+// S3 객체를 메모리에 올리지 않고 그대로 응답으로 흘려보내기 위한 다운로드 정보
+@Getter
+public class FileDownload {
+
+    public enum Status { OK, PARTIAL, NOT_MODIFIED, RANGE_NOT_SATISFIABLE }
+
+    private final Status status;
+
+    private final InputStream content;
+
+    private final long contentLength;
+
+    private final String contentType;
+
+    private final String eTag;
+
+    private final Long rangeStart;
+
+    private final Long rangeEnd;
+
+    private final Long totalLength;
+
+    @Builder
+    public FileDownload(Status status, InputStream content, long contentLength, String contentType, String eTag,
+                        Long rangeStart, Long rangeEnd, Long totalLength) {
+        this.status = status;
+        this.content = content;
+        this.contentLength = contentLength;
+        this.contentType = contentType;
+        this.eTag = eTag;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.totalLength = totalLength;
+    }
+
+    public static FileDownload notModified(String eTag) {
+        return FileDownload.builder().status(Status.NOT_MODIFIED).eTag(eTag).build();
+    }
+
+    public static FileDownload rangeNotSatisfiable(long totalLength) {
+        return FileDownload.builder().status(Status.RANGE_NOT_SATISFIABLE).totalLength(totalLength).build();
+    }
+}
@@ -2,6 +2,7 @@ package com.meonghae.s3fileservice.dto;
 
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.meonghae.s3fileservice.domain.enums.EntityType;
+import com.meonghae.s3fileservice.domain.enums.ImageVariant;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,9 +17,21 @@ public class FileRequest {
     @ApiModelProperty(value = "엔티티 Id 번호")
     private final Long entityId;
 
+    @ApiModelProperty(value = "조회할 이미지 크기 (없으면 원본)", example = "THUMBNAIL")
+    private final ImageVariant variant;
+
+    @ApiModelProperty(value = "업로드 멱등 키 (같은 키로 다시 업로드하면 저장하지 않음)", example = "image-outbox:1")
+    private final String uploadKey;
+
     @Builder
-    public FileRequest(EntityType entityType, Long entityId) {
+    public FileRequest(EntityType entityType, Long entityId, ImageVariant variant, String uploadKey) {
         this.entityType = entityType;
         this.entityId = entityId;
+        this.variant = variant;
+        this.uploadKey = uploadKey;
+    }
+
+    public ImageVariant getVariant() {
+        return variant == null ? ImageVariant.ORIGINAL : variant;
     }
 }
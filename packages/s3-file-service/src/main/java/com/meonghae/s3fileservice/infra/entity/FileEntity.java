@@ -11,7 +11,10 @@ import javax.persistence.*;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "files")
+@Table(name = "files", indexes = {
+        @Index(name = "idx_files_content_hash", columnList = "contentHash"),
+        @Index(name = "idx_files_file_name", columnList = "fileName")
+})
 public class FileEntity extends BaseTimeEntity {
 
     @Id
@@ -24,6 +27,16 @@ public class FileEntity extends BaseTimeEntity {
     @Column(nullable = false)
     private String fileUrl;
 
+    @Column
+    private String thumbnailUrl;
+
+    @Column
+    private String mediumUrl;
+
+    // 원본 파일 내용의 SHA-256 (hex), 같은 값을 가진 행들은 하나의 S3 객체를 공유한다. (참조 카운트는 stored_objects)
+    @Column(length = 64)
+    private String contentHash;
+
     @Enumerated(EnumType.STRING)
     @Column
     private EntityType entityType;
@@ -39,6 +52,9 @@ public class FileEntity extends BaseTimeEntity {
         fileEntity.id = file.getId();
         fileEntity.fileName = file.getFileName();
         fileEntity.fileUrl = file.getFileUrl();
+        fileEntity.thumbnailUrl = file.getThumbnailUrl();
+        fileEntity.mediumUrl = file.getMediumUrl();
+        fileEntity.contentHash = file.getContentHash();
         fileEntity.entityType = file.getEntityType();
         fileEntity.typeId = file.getTypeId();
         fileEntity.email = file.getEmail();
@@ -51,6 +67,9 @@ public class FileEntity extends BaseTimeEntity {
                 .id(id)
                 .fileName(fileName)
                 .fileUrl(fileUrl)
+                .thumbnailUrl(thumbnailUrl)
+                .mediumUrl(mediumUrl)
+                .contentHash(contentHash)
                 .entityType(entityType)
                 .typeId(typeId)
                 .email(email)
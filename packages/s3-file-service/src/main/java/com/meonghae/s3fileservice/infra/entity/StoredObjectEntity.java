@@ -0,0 +1,65 @@
+package com.meonghae.s3fileservice.infra.entity;
+
+import com.meonghae.s3fileservice.domain.StoredObject;
+import lombok.*;
+
+import javax.persistence.*;
+
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "stored_objects", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stored_objects_content_hash", columnNames = "contentHash")
+})
+public class StoredObjectEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    @Column(nullable = false)
+    private String fileUrl;
+
+    @Column
+    private String thumbnailUrl;
+
+    @Column
+    private String mediumUrl;
+
+    // 이 객체를 가리키는 files 행의 수
+    @Column(nullable = false)
+    private long refCount;
+
+    public static StoredObjectEntity from(StoredObject object) {
+        StoredObjectEntity entity = new StoredObjectEntity();
+        entity.id = object.getId();
+        entity.contentHash = object.getContentHash();
+        entity.fileName = object.getFileName();
+        entity.fileUrl = object.getFileUrl();
+        entity.thumbnailUrl = object.getThumbnailUrl();
+        entity.mediumUrl = object.getMediumUrl();
+        entity.refCount = object.getRefCount();
+
+        return entity;
+    }
+
+    public StoredObject toModel() {
+        return StoredObject.builder()
+                .id(id)
+                .contentHash(contentHash)
+                .fileName(fileName)
+                .fileUrl(fileUrl)
+                .thumbnailUrl(thumbnailUrl)
+                .mediumUrl(mediumUrl)
+                .refCount(refCount)
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.meonghae.s3fileservice.infra.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+// 처리한 업로드 요청의 멱등 키, 같은 키로 다시 요청하면 파일을 저장하지 않는다.
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "file_upload_keys")
+public class UploadKeyEntity extends BaseTimeEntity {
+
+    @Id
+    @Column(length = 100)
+    private String uploadKey;
+
+    public UploadKeyEntity(String uploadKey) {
+        this.uploadKey = uploadKey;
+    }
+}
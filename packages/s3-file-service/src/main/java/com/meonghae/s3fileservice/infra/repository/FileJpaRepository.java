@@ -3,7 +3,11 @@ package com.meonghae.s3fileservice.infra.repository;
 import com.meonghae.s3fileservice.infra.entity.FileEntity;
 import com.meonghae.s3fileservice.domain.enums.EntityType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FileJpaRepository extends JpaRepository<FileEntity, Long> {
@@ -12,6 +16,16 @@ public interface FileJpaRepository extends JpaRepository<FileEntity, Long> {
 
     List<FileEntity> findByEntityTypeAndEmail(EntityType entityType, String email);
 
+    List<FileEntity> findByEntityTypeAndEmailIn(EntityType entityType, Collection<String> emails);
+
+    @Query("SELECT DISTINCT f.fileName FROM FileEntity f WHERE f.fileName IN :fileNames AND f.id NOT IN :ids")
+    List<String> findSharedFileNames(@Param("fileNames") Collection<String> fileNames,
+                                     @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM FileEntity f WHERE f.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
     boolean existsByEntityTypeAndEmail(EntityType entityType, String email);
 
     boolean existsByEntityTypeAndTypeId(EntityType entityType, Long id);
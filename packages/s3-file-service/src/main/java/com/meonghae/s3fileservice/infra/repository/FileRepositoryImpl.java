@@ -2,18 +2,26 @@ package com.meonghae.s3fileservice.infra.repository;
 
 import com.meonghae.s3fileservice.domain.File;
 import com.meonghae.s3fileservice.domain.enums.EntityType;
+import com.meonghae.s3fileservice.domain.enums.ImageVariant;
 import com.meonghae.s3fileservice.dto.FileRequest;
 import com.meonghae.s3fileservice.dto.FileResponse;
 import com.meonghae.s3fileservice.dto.FileUserResponse;
 import com.meonghae.s3fileservice.infra.entity.FileEntity;
 import com.meonghae.s3fileservice.infra.entity.QFileEntity;
+import com.meonghae.s3fileservice.infra.entity.UploadKeyEntity;
 import com.meonghae.s3fileservice.service.port.FileRepository;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
@@ -21,6 +29,7 @@ import java.util.stream.Collectors;
 public class FileRepositoryImpl implements FileRepository {
 
     private final FileJpaRepository fileRepository;
+    private final UploadKeyJpaRepository uploadKeyRepository;
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
@@ -39,6 +48,24 @@ public class FileRepositoryImpl implements FileRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<File> findByEntityTypeAndEmailIn(EntityType entityType, List<String> emails) {
+        return fileRepository.findByEntityTypeAndEmailIn(entityType, emails)
+                .stream()
+                .map(FileEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findSharedFileNames(List<File> files) {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        Set<String> fileNames = files.stream().map(File::getFileName).collect(Collectors.toSet());
+        Set<Long> ids = files.stream().map(File::getId).collect(Collectors.toSet());
+        return fileRepository.findSharedFileNames(fileNames, ids);
+    }
+
     @Override
     public void save(File file) {
         fileRepository.save(FileEntity.from(file));
@@ -49,6 +76,15 @@ public class FileRepositoryImpl implements FileRepository {
         fileRepository.delete(FileEntity.from(file));
     }
 
+    // 엔티티를 다시 조회하지 않고 id 목록으로 한 번에 삭제
+    @Override
+    public void deleteAll(List<File> files) {
+        List<Long> ids = files.stream().map(File::getId).collect(Collectors.toList());
+        if (!ids.isEmpty()) {
+            fileRepository.deleteAllByIdIn(ids);
+        }
+    }
+
     @Override
     public List<FileResponse> getFileList(FileRequest request) {
         return jpaQueryFactory
@@ -56,7 +92,7 @@ public class FileRepositoryImpl implements FileRepository {
                         Projections.constructor(
                                 FileResponse.class,
                                 QFileEntity.fileEntity.fileName,
-                                QFileEntity.fileEntity.fileUrl,
+                                this.urlOf(request.getVariant()),
                                 QFileEntity.fileEntity.entityType,
                                 QFileEntity.fileEntity.typeId
                         )
@@ -68,6 +104,44 @@ public class FileRepositoryImpl implements FileRepository {
                 .fetch();
     }
 
+    @Override
+    public List<FileResponse> getFileLists(List<FileRequest> requests) {
+        // 요청한 이미지 크기별로 조회 (목록 화면은 보통 THUMBNAIL 하나)
+        Map<ImageVariant, List<FileRequest>> requestsByVariant = requests.stream()
+                .collect(Collectors.groupingBy(FileRequest::getVariant,
+                        () -> new EnumMap<>(ImageVariant.class), Collectors.toList()));
+
+        List<FileResponse> responses = new ArrayList<>();
+        requestsByVariant.forEach((variant, list) -> responses.addAll(this.getFileLists(variant, list)));
+        return responses;
+    }
+
+    private List<FileResponse> getFileLists(ImageVariant variant, List<FileRequest> requests) {
+        // 엔티티 타입별로 id 를 묶어 (type = ? and typeId in (...)) or ... 단일 쿼리로 조회
+        Map<EntityType, Set<Long>> idsByType = requests.stream()
+                .collect(Collectors.groupingBy(FileRequest::getEntityType,
+                        Collectors.mapping(FileRequest::getEntityId, Collectors.toSet())));
+
+        BooleanBuilder condition = new BooleanBuilder();
+        idsByType.forEach((entityType, ids) -> condition.or(QFileEntity.fileEntity.entityType.eq(entityType)
+                .and(QFileEntity.fileEntity.typeId.in(ids))));
+
+        return jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                FileResponse.class,
+                                QFileEntity.fileEntity.fileName,
+                                this.urlOf(variant),
+                                QFileEntity.fileEntity.entityType,
+                                QFileEntity.fileEntity.typeId
+                        )
+                )
+                .from(QFileEntity.fileEntity)
+                .where(condition)
+                .orderBy(QFileEntity.fileEntity.id.asc())
+                .fetch();
+    }
+
     @Override
     public FileUserResponse getUserProfile(String email) {
         return jpaQueryFactory
@@ -85,6 +159,23 @@ public class FileRepositoryImpl implements FileRepository {
                 .fetchOne();
     }
 
+    @Override
+    public List<FileUserResponse> getUserProfiles(List<String> emails) {
+        return jpaQueryFactory
+                .select(
+                        Projections.constructor(
+                                FileUserResponse.class,
+                                QFileEntity.fileEntity.fileName,
+                                QFileEntity.fileEntity.fileUrl,
+                                QFileEntity.fileEntity.entityType,
+                                QFileEntity.fileEntity.email
+                        )
+                )
+                .from(QFileEntity.fileEntity)
+                .where(QFileEntity.fileEntity.email.in(emails))
+                .fetch();
+    }
+
     @Override
     public FileUserResponse getPetProfile(FileRequest request) {
         return jpaQueryFactory
@@ -112,4 +203,26 @@ public class FileRepositoryImpl implements FileRepository {
     public boolean existsByEntityTypeAndTypeId(EntityType entityType, Long id) {
         return fileRepository.existsByEntityTypeAndTypeId(entityType, id);
     }
+
+    // 변형 이미지가 없는 파일(이전 업로드, 이미지가 아닌 파일)은 원본 URL 로 대체
+    private StringExpression urlOf(ImageVariant variant) {
+        switch (variant) {
+            case THUMBNAIL:
+                return QFileEntity.fileEntity.thumbnailUrl.coalesce(QFileEntity.fileEntity.fileUrl);
+            case MEDIUM:
+                return QFileEntity.fileEntity.mediumUrl.coalesce(QFileEntity.fileEntity.fileUrl);
+            default:
+                return QFileEntity.fileEntity.fileUrl;
+        }
+    }
+
+    @Override
+    public boolean existsUploadKey(String uploadKey) {
+        return uploadKeyRepository.existsById(uploadKey);
+    }
+
+    @Override
+    public void saveUploadKey(String uploadKey) {
+        uploadKeyRepository.saveAndFlush(new UploadKeyEntity(uploadKey));
+    }
 }
@@ -0,0 +1,33 @@
+package com.meonghae.s3fileservice.infra.repository;
+
+import com.meonghae.s3fileservice.infra.entity.StoredObjectEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredObjectJpaRepository extends JpaRepository<StoredObjectEntity, Long> {
+
+    Optional<StoredObjectEntity> findByContentHash(String contentHash);
+
+    // 참조 카운트가 0 인 행은 삭제 중이므로 다시 참조하지 않는다.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoredObjectEntity o SET o.refCount = o.refCount + 1 " +
+            "WHERE o.contentHash = :contentHash AND o.refCount > 0")
+    int increaseRefCount(@Param("contentHash") String contentHash);
+
+    // 교착 상태를 피하기 위해 항상 같은 순서로 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM StoredObjectEntity o WHERE o.contentHash IN :contentHashes ORDER BY o.contentHash")
+    List<StoredObjectEntity> findAllForUpdate(@Param("contentHashes") Collection<String> contentHashes);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StoredObjectEntity o SET o.refCount = :refCount WHERE o.id = :id")
+    int updateRefCount(@Param("id") Long id, @Param("refCount") long refCount);
+}
@@ -0,0 +1,80 @@
+package com.meonghae.s3fileservice.infra.repository;
+
+import com.meonghae.s3fileservice.domain.StoredObject;
+import com.meonghae.s3fileservice.infra.entity.StoredObjectEntity;
+import com.meonghae.s3fileservice.service.port.StoredObjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class StoredObjectRepositoryImpl implements StoredObjectRepository {
+
+    private final StoredObjectJpaRepository storedObjectRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<StoredObject> acquire(String contentHash) {
+        if (storedObjectRepository.increaseRefCount(contentHash) == 0) {
+            return Optional.empty();
+        }
+        return storedObjectRepository.findByContentHash(contentHash).map(StoredObjectEntity::toModel);
+    }
+
+    // 별도 트랜잭션에서 등록하므로 유니크 제약 위반이 호출한 쪽 트랜잭션을 rollback-only 로 만들지 않는다.
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean register(StoredObject object) {
+        try {
+            storedObjectRepository.saveAndFlush(StoredObjectEntity.from(object));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String contentHash) {
+        List<StoredObjectEntity> objects = storedObjectRepository.findAllForUpdate(List.of(contentHash));
+        if (objects.isEmpty()) {
+            return false;
+        }
+        StoredObjectEntity object = objects.get(0);
+        if (object.getRefCount() <= 1) {
+            storedObjectRepository.delete(object);
+            return true;
+        }
+        storedObjectRepository.updateRefCount(object.getId(), object.getRefCount() - 1);
+        return false;
+    }
+
+    @Override
+    public List<StoredObject> findAllForUpdate(Collection<String> contentHashes) {
+        if (contentHashes.isEmpty()) {
+            return List.of();
+        }
+        return storedObjectRepository.findAllForUpdate(contentHashes)
+                .stream()
+                .map(StoredObjectEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void save(StoredObject object) {
+        storedObjectRepository.updateRefCount(object.getId(), object.getRefCount());
+    }
+
+    @Override
+    public void delete(StoredObject object) {
+        storedObjectRepository.deleteById(object.getId());
+    }
+}
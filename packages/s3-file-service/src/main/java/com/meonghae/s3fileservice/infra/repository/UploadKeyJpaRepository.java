@@ -0,0 +1,7 @@
+package com.meonghae.s3fileservice.infra.repository;
+
+import com.meonghae.s3fileservice.infra.entity.UploadKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UploadKeyJpaRepository extends JpaRepository<UploadKeyEntity, String> {
+}
@@ -1,10 +1,12 @@
 package com.meonghae.s3fileservice.service;
 
+import com.meonghae.s3fileservice.domain.enums.EntityType;
 import com.meonghae.s3fileservice.dto.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 public interface FileService {
 
@@ -12,17 +14,23 @@ public interface FileService {
 
     void uploadFileForUser(MultipartFile file, FileUser userDto) throws IOException;
 
-    void updateFiles(List<MultipartFile> files, List<FileUpdate> requestDto) throws IOException;
+    FileDeleteResult updateFiles(List<MultipartFile> files, List<FileUpdate> requestDto) throws IOException;
 
     List<FileResponse> viewFileList(FileRequest requestDto);
 
+    Map<EntityType, Map<Long, List<FileResponse>>> viewFileLists(List<FileRequest> requestList);
+
     FileUserResponse viewUserProfile(String email);
 
+    Map<String, FileUserResponse> viewUserProfiles(List<String> emails);
+
     FileUserResponse viewPetProfile(FileRequest requestDto);
 
-    void deleteFiles(FileRequest requestDto);
+    FileDeleteResult deleteFiles(FileRequest requestDto);
+
+    FileDeleteResult deleteFileForUser(FileUser userDto);
 
-    void deleteFileForUser(FileUser userDto);
+    FileDeleteResult deleteFilesForUsers(List<String> emails);
 
-    byte[] downloadImage(String key) throws IOException;
+    FileDownload downloadImage(String key, String range, String ifNoneMatch);
 }
@@ -2,93 +2,172 @@ package com.meonghae.s3fileservice.service;
 
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.*;
-import com.amazonaws.util.IOUtils;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.meonghae.s3fileservice.core.config.S3UploadConfig;
+import com.meonghae.s3fileservice.core.image.ImageResizer;
 import com.meonghae.s3fileservice.domain.File;
+import com.meonghae.s3fileservice.domain.StoredObject;
 import com.meonghae.s3fileservice.dto.*;
 import com.meonghae.s3fileservice.domain.enums.EntityType;
+import com.meonghae.s3fileservice.domain.enums.ImageVariant;
 import com.meonghae.s3fileservice.service.port.FileRepository;
+import com.meonghae.s3fileservice.service.port.StoredObjectRepository;
 import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.annotation.PreDestroy;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@Builder
 @Transactional(readOnly = true)
 public class FileServiceImpl implements FileService {
 
+    // 이 크기 이상의 파일은 TransferManager 의 multipart upload 로 전송한다.
+    private static final long MULTIPART_THRESHOLD = 8L * 1024 * 1024;
+
+    // DeleteObjectsRequest 는 한 번에 키 1000개까지 지정할 수 있고, 파일 하나는 원본 + 변형 이미지 2개의 키를 가진다.
+    private static final int DELETE_BATCH_SIZE = 300;
+
+    // 이 크기를 넘는 원본은 변형 이미지를 만들지 않고 원본 URL 만 제공한다.
+    private static final long MAX_VARIANT_SOURCE_SIZE = 20L * 1024 * 1024;
+
+    // 같은 내용을 동시에 올린 다른 요청과 경합할 때 다시 시도하는 횟수
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
     private final AmazonS3Client s3Client;
     private final FileRepository fileRepository;
+    private final StoredObjectRepository storedObjectRepository;
     private String bucketName;
+    private final Executor uploadExecutor;
+    private final TransferManager transferManager;
+    private final TransactionTemplate transactionTemplate;
 
-    public FileServiceImpl(AmazonS3Client amazonS3Client, FileRepository fileRepository,
-                           @Value("${cloud.aws.s3.bucket}") String bucketName) {
-        this.s3Client = amazonS3Client;
+    @Builder
+    public FileServiceImpl(AmazonS3Client s3Client, FileRepository fileRepository,
+                           StoredObjectRepository storedObjectRepository,
+                           @Value("${cloud.aws.s3.bucket}") String bucketName,
+                           @Qualifier(S3UploadConfig.UPLOAD_EXECUTOR) Executor uploadExecutor,
+                           PlatformTransactionManager transactionManager) {
+        this.s3Client = s3Client;
         this.fileRepository = fileRepository;
+        this.storedObjectRepository = storedObjectRepository;
         this.bucketName = bucketName;
+        this.uploadExecutor = uploadExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transferManager = TransferManagerBuilder.standard()
+                .withS3Client(s3Client)
+                .withMultipartUploadThreshold(MULTIPART_THRESHOLD)
+                .build();
     }
 
+    @PreDestroy
+    public void shutdown() {
+        // S3 클라이언트는 Bean 으로 관리되므로 TransferManager 의 스레드 풀만 종료한다.
+        transferManager.shutdownNow(false);
+    }
+
+    // S3 업로드는 트랜잭션 밖에서 끝내고, 파일 행은 짧은 트랜잭션으로 저장한다.
+    // -> 업로드하는 동안 요청 스레드가 DB 커넥션을 잡고 있지 않는다.
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void uploadImages(List<MultipartFile> files, FileRequest request) throws IOException {
-        List<File> list = this.existsFiles(files);
-
-        for (File file : list) {
-            file.uploadForData(request);
-            fileRepository.save(file);
+        // 이미 처리한 요청의 재시도 (응답 유실, 타임아웃 등) -> 같은 파일을 다시 저장하지 않는다.
+        String uploadKey = request.getUploadKey();
+        if (uploadKey != null && fileRepository.existsUploadKey(uploadKey)) {
+            log.info("upload already processed. key: {}", uploadKey);
+            return;
         }
+
+        List<File> list = this.existsFiles(files);
+        this.saveUploaded(list, () -> {
+            // 같은 키의 요청이 동시에 들어오면 나중 요청은 여기서 실패하고 올린 파일의 참조를 돌려놓는다.
+            if (uploadKey != null) {
+                fileRepository.saveUploadKey(uploadKey);
+            }
+            for (File file : list) {
+                file.uploadForData(request);
+                fileRepository.save(file);
+            }
+            return null;
+        });
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void uploadFileForUser(MultipartFile file, FileUser user) throws IOException {
         List<MultipartFile> files = new ArrayList<>();
         files.add(file);
 
         List<File> list = this.existsFiles(files);
-        for (File image : list) {
-            image.uploadForUser(user);
-            fileRepository.save(image);
-        }
+        this.saveUploaded(list, () -> {
+            for (File image : list) {
+                image.uploadForUser(user);
+                fileRepository.save(image);
+            }
+            return null;
+        });
     }
 
     @Override
-    @Transactional
-    public void updateFiles(List<MultipartFile> files, List<FileUpdate> update) throws IOException {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public FileDeleteResult updateFiles(List<MultipartFile> files, List<FileUpdate> update) throws IOException {
         // 원래 데이터 중 하나만 있어도 리스트 조회 가능
         FileUpdate dto = update.get(0);
 
-        List<File> fileList;
-
-        if (dto.getEntityType().equals(EntityType.USER)) {
-            fileList = fileRepository.findByEntityTypeAndEmail(dto.getEntityType(), dto.getEmail());
-        } else {
-            fileList = fileRepository.findByEntityTypeAndTypeId(dto.getEntityType(), dto.getEntityId());
-        }
+        // 기존 파일 리스트와 새로 업로드한 파일 리스트를 비교하여
+        // 바뀐 파일만 업로드하고, 더이상 사용하지 않는 기존 파일은 삭제
+        // 삭제가 참조 카운트 행을 잠그므로 업로드(참조 카운트 증가)를 먼저 끝낸다.
+        List<File> list = this.existsFiles(files);
 
+        return this.saveUploaded(list, () -> {
+            List<File> fileList;
 
-        for (int i = 0; i < update.size(); i++) {
-            if (update.get(i).isDeleted()) {
-                s3Client.deleteObject(new DeleteObjectRequest(bucketName, fileList.get(i).getFileName())); // 사용하지 않는 파일 삭제
-                fileRepository.delete(fileList.get(i)); // DB에서도 해당 파일 엔티티 삭제
+            if (dto.getEntityType().equals(EntityType.USER)) {
+                fileList = fileRepository.findByEntityTypeAndEmail(dto.getEntityType(), dto.getEmail());
+            } else {
+                fileList = fileRepository.findByEntityTypeAndTypeId(dto.getEntityType(), dto.getEntityId());
             }
-        }
 
-        // 기존 파일 리스트와 새로 업로드한 파일 리스트를 비교하여
-        // 바뀐 파일만 업로드하고, 더이상 사용하지 않는 기존 파일은 삭제
-        List<File> list = this.existsFiles(files);
+            // 사용하지 않는 파일을 S3 와 DB 에서 한 번에 삭제
+            List<File> deletedFiles = new ArrayList<>();
+            for (int i = 0; i < update.size(); i++) {
+                if (update.get(i).isDeleted()) {
+                    deletedFiles.add(fileList.get(i));
+                }
+            }
+            FileDeleteResult deleteResult = this.deleteAll(deletedFiles);
 
-        for (File file : list) {
-            file.update(update.get(0));  // 새로 추가된 파일에 엔티티 정보 추가
-            fileRepository.save(file);  // 새 파일 DB 저장
-        }
+            for (File file : list) {
+                file.update(dto);  // 새로 추가된 파일에 엔티티 정보 추가
+                fileRepository.save(file);  // 새 파일 DB 저장
+            }
+            return deleteResult;
+        });
     }
 
     @Override
@@ -96,11 +175,33 @@ public class FileServiceImpl implements FileService {
         return fileRepository.getFileList(request);
     }
 
+    @Override
+    public Map<EntityType, Map<Long, List<FileResponse>>> viewFileLists(List<FileRequest> requestList) {
+        if (requestList == null || requestList.isEmpty()) {
+            return new EnumMap<>(EntityType.class);
+        }
+        return fileRepository.getFileLists(requestList)
+                .stream()
+                .collect(Collectors.groupingBy(FileResponse::getEntityType,
+                        () -> new EnumMap<>(EntityType.class),
+                        Collectors.groupingBy(FileResponse::getTypeId, LinkedHashMap::new, Collectors.toList())));
+    }
+
     @Override
     public FileUserResponse viewUserProfile(String email) {
         return fileRepository.getUserProfile(email);
     }
 
+    @Override
+    public Map<String, FileUserResponse> viewUserProfiles(List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return new HashMap<>();
+        }
+        return fileRepository.getUserProfiles(emails)
+                .stream()
+                .collect(Collectors.toMap(FileUserResponse::getEmail, response -> response, (a, b) -> a));
+    }
+
     @Override
     public FileUserResponse viewPetProfile(FileRequest request) {
         return fileRepository.getPetProfile(request);
@@ -108,58 +209,356 @@ public class FileServiceImpl implements FileService {
 
     @Override
     @Transactional
-    public void deleteFiles(FileRequest request) {
+    public FileDeleteResult deleteFiles(FileRequest request) {
         List<File> files = fileRepository.findByEntityTypeAndTypeId(request.getEntityType(), request.getEntityId());
-        for (File file : files) {
-            s3Client.deleteObject(new DeleteObjectRequest(bucketName, file.getFileName()));
-            fileRepository.delete(file);
-        }
+        return this.deleteAll(files);
     }
 
     @Override
     @Transactional
-    public void deleteFileForUser(FileUser user) {
+    public FileDeleteResult deleteFileForUser(FileUser user) {
         List<File> files = fileRepository.findByEntityTypeAndEmail(user.getEntityType(), user.getEmail());
-        for (File file : files) {
-            s3Client.deleteObject(new DeleteObjectRequest(bucketName, file.getFileName()));
-            fileRepository.delete(file);
+        return this.deleteAll(files);
+    }
+
+    @Override
+    @Transactional
+    public FileDeleteResult deleteFilesForUsers(List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return new FileDeleteResult(0, new ArrayList<>());
         }
+        List<File> files = fileRepository.findByEntityTypeAndEmailIn(EntityType.USER, emails);
+        return this.deleteAll(files);
     }
 
+    // Range 는 단일 구간만 지원한다. (bytes=a-b, bytes=a-, bytes=-n)
+    // If-None-Match 는 S3 조건부 요청으로 넘겨 304 를 한 번의 요청으로 판단한다.
     @Override
-    public byte[] downloadImage(String key) throws IOException {
-        byte[] content;
-        final S3Object s3Object = s3Client.getObject(bucketName, key);
-        final S3ObjectInputStream stream = s3Object.getObjectContent();
+    public FileDownload downloadImage(String key, String range, String ifNoneMatch) {
+        GetObjectRequest request = new GetObjectRequest(bucketName, key);
+        if (ifNoneMatch != null) {
+            request.withNonmatchingETagConstraint(ifNoneMatch);
+        }
+
+        boolean partial = false;
+        long[] bytes = parseRange(range);
+        if (bytes != null) {
+            if (bytes[0] < 0) {
+                // suffix range(bytes=-n) 는 전체 길이를 알아야 시작 위치를 계산할 수 있다.
+                long length = s3Client.getObjectMetadata(bucketName, key).getContentLength();
+                if (length == 0 || bytes[1] == 0) {
+                    return FileDownload.rangeNotSatisfiable(length);
+                }
+                request.setRange(Math.max(0, length - bytes[1]), length - 1);
+            } else if (bytes[1] < 0) {
+                request.setRange(bytes[0]);
+            } else {
+                request.setRange(bytes[0], bytes[1]);
+            }
+            partial = true;
+        }
+
+        S3Object s3Object;
+        try {
+            s3Object = s3Client.getObject(request);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 416) {
+                // 416 응답의 Content-Range 에는 전체 길이가 필요하다. (RFC 9110, bytes */length)
+                return FileDownload.rangeNotSatisfiable(
+                        s3Client.getObjectMetadata(bucketName, key).getContentLength());
+            }
+            throw e;
+        }
+
+        // ETag 조건에 걸리면 SDK 는 null 을 반환한다.
+        if (s3Object == null) {
+            return FileDownload.notModified(ifNoneMatch);
+        }
+
+        ObjectMetadata metadata = s3Object.getObjectMetadata();
+        FileDownload.FileDownloadBuilder builder = FileDownload.builder()
+                .status(FileDownload.Status.OK)
+                .content(s3Object.getObjectContent())
+                .contentLength(metadata.getContentLength())
+                .contentType(metadata.getContentType())
+                .eTag(metadata.getETag());
+
+        Long[] contentRange = metadata.getContentRange();
+        if (partial && contentRange != null) {
+            builder.status(FileDownload.Status.PARTIAL)
+                    .rangeStart(contentRange[0])
+                    .rangeEnd(contentRange[1])
+                    .totalLength(metadata.getInstanceLength());
+        }
+        return builder.build();
+    }
+
+    // 반환값 {start, end}, 지정되지 않은 값은 -1 (suffix range 는 {-1, n})
+    private long[] parseRange(String range) {
+        if (range == null || !range.startsWith("bytes=")) {
+            return null;
+        }
+        String spec = range.substring("bytes=".length()).split(",")[0].trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
         try {
-            content = IOUtils.toByteArray(stream);
-            s3Object.close();
-        } catch(final IOException ex) {
-            throw new IOException("IO Error Message= " + ex.getMessage());
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                return last.isEmpty() ? null : new long[]{-1, Long.parseLong(last)};
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? -1 : Long.parseLong(last);
+            if (end >= 0 && end < start) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
         }
-        return content;
     }
 
+    // 파일들을 동시에 업로드한다. 하나라도 실패하면 이미 올라간 파일은 삭제한다.
+    // 업로드 큐가 가득 차면 요청 스레드에서 대신 올리지 않고 실패시킨다. (S3UploadConfig)
     private List<File> existsFiles(List<MultipartFile> files) throws IOException {
-        List<File> list = new ArrayList<>();
-
+        List<CompletableFuture<File>> futures = new ArrayList<>();
         for (MultipartFile file : files) {
-            String key = file.getOriginalFilename();
-            if (s3Client.doesObjectExist(bucketName, key)) {
-                continue;
-            }
-            String fileName = UUID.randomUUID() + "-" + key;
-            InputStream inputStream = file.getInputStream();
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            s3Client.putObject(new PutObjectRequest(bucketName, fileName, inputStream, metadata));
-            File image = File.builder()
-                    .fileName(fileName)
-                    .fileUrl(s3Client.getUrl(bucketName, fileName).toString())
-                    .build();
-            list.add(image);
-        }
-
-        return list;
+            try {
+                futures.add(CompletableFuture.supplyAsync(() -> this.upload(file), uploadExecutor));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.failedFuture(e));
+                break;
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // 이미 잡은 참조를 돌려놓고, 마지막 참조였던 객체만 지운다.
+            futures.stream()
+                    .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .forEach(this::releaseQuietly);
+
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    }
+
+    // 업로드로 늘린 참조 카운트는 이미 각자 커밋되었으므로, 파일 행 저장이 실패하면 되돌린다.
+    private <T> T saveUploaded(List<File> uploaded, Supplier<T> save) {
+        try {
+            return transactionTemplate.execute(status -> save.get());
+        } catch (RuntimeException e) {
+            uploaded.forEach(this::releaseQuietly);
+            throw e;
+        }
+    }
+
+    // 같은 내용의 파일이 이미 저장되어 있으면 업로드하지 않고 그 S3 객체의 참조 카운트를 늘린다.
+    // 동시에 같은 내용을 올려 등록에 실패하면 올린 객체를 지우고 먼저 등록된 객체를 참조한다.
+    private File upload(MultipartFile file) {
+        String contentHash = this.hash(file);
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            Optional<StoredObject> stored = storedObjectRepository.acquire(contentHash);
+            if (stored.isPresent()) {
+                return stored.get().newFile();
+            }
+
+            File uploaded = this.uploadObject(file, contentHash);
+            if (storedObjectRepository.register(StoredObject.from(uploaded))) {
+                return uploaded;
+            }
+            this.deleteQuietly(uploaded);
+        }
+        throw new IllegalStateException("failed to register stored object: " + contentHash);
+    }
+
+    // UUID 를 붙인 키는 항상 새로운 키이므로 존재 여부 확인 없이 바로 업로드한다.
+    private File uploadObject(MultipartFile file, String contentHash) {
+        String fileName = UUID.randomUUID() + "-" + file.getOriginalFilename();
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.getSize());
+        metadata.setContentType(file.getContentType());
+
+        try (InputStream inputStream = file.getInputStream()) {
+            if (file.getSize() >= MULTIPART_THRESHOLD) {
+                transferManager.upload(bucketName, fileName, inputStream, metadata).waitForCompletion();
+            } else {
+                s3Client.putObject(new PutObjectRequest(bucketName, fileName, inputStream, metadata));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("S3 upload interrupted: " + fileName, e);
+        }
+
+        Map<ImageVariant, String> variants = this.uploadVariants(file, fileName);
+
+        return File.builder()
+                .fileName(fileName)
+                .fileUrl(s3Client.getUrl(bucketName, fileName).toString())
+                .thumbnailUrl(variants.get(ImageVariant.THUMBNAIL))
+                .mediumUrl(variants.get(ImageVariant.MEDIUM))
+                .contentHash(contentHash)
+                .build();
+    }
+
+    // 로컬에 임시 저장된 multipart 파일을 스트리밍으로 읽어 SHA-256 을 계산한다.
+    private String hash(MultipartFile file) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+
+            StringBuilder builder = new StringBuilder(64);
+            for (byte b : digest.digest()) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 원본을 한 번만 디코딩해 썸네일/중간 크기 JPEG 를 만들고 원본 키와 같은 이름의 prefix 키로 저장한다.
+    // 이미지가 아니거나 변환에 실패하면 빈 Map 을 반환하고, 조회 시 원본 URL 로 대체된다.
+    private Map<ImageVariant, String> uploadVariants(MultipartFile file, String fileName) {
+        Map<ImageVariant, String> urls = new EnumMap<>(ImageVariant.class);
+        String contentType = file.getContentType();
+        if (contentType == null || !contentType.startsWith("image/") || file.getSize() > MAX_VARIANT_SOURCE_SIZE) {
+            return urls;
+        }
+
+        try {
+            Optional<BufferedImage> source;
+            try (InputStream inputStream = file.getInputStream()) {
+                source = ImageResizer.read(inputStream);
+            }
+            if (source.isEmpty()) {
+                return urls;
+            }
+
+            for (ImageVariant variant : List.of(ImageVariant.MEDIUM, ImageVariant.THUMBNAIL)) {
+                byte[] bytes = ImageResizer.toJpeg(ImageResizer.resize(source.get(), variant.getMaxSize()));
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(bytes.length);
+                metadata.setContentType(ImageResizer.CONTENT_TYPE);
+
+                String key = variant.keyOf(fileName);
+                s3Client.putObject(new PutObjectRequest(bucketName, key, new ByteArrayInputStream(bytes), metadata));
+                urls.put(variant, s3Client.getUrl(bucketName, key).toString());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("failed to create image variants: {}", fileName, e);
+            urls.keySet().forEach(variant -> this.deleteKeyQuietly(variant.keyOf(fileName)));
+            urls.clear();
+        }
+        return urls;
+    }
+
+    // DeleteObjectsRequest 로 키 1000개 이내씩 S3 에서 삭제하고, 성공한 파일만 DB 에서 일괄 삭제한다.
+    private FileDeleteResult deleteAll(List<File> files) {
+        FileDeleteResult result = new FileDeleteResult(0, new ArrayList<>());
+        for (int from = 0; from < files.size(); from += DELETE_BATCH_SIZE) {
+            List<File> batch = files.subList(from, Math.min(from + DELETE_BATCH_SIZE, files.size()));
+            result = result.merge(this.deleteBatch(batch));
+        }
+        return result;
+    }
+
+    // 다른 파일이 아직 참조하는 S3 객체는 남겨두고 DB 행만 삭제한다. (참조 카운트가 0 이 될 때만 S3 삭제)
+    // 참조 카운트 행을 잠근 채로 S3 삭제와 카운트 반영을 같은 트랜잭션에서 처리하므로,
+    // 그 사이 같은 내용을 올린 업로드는 잠금이 풀린 뒤 새 객체로 등록된다.
+    private FileDeleteResult deleteBatch(List<File> batch) {
+        Map<String, Long> releases = batch.stream()
+                .filter(file -> file.getContentHash() != null)
+                .collect(Collectors.groupingBy(File::getContentHash, Collectors.counting()));
+        Map<String, StoredObject> objects = storedObjectRepository.findAllForUpdate(releases.keySet())
+                .stream()
+                .collect(Collectors.toMap(StoredObject::getContentHash, object -> object));
+
+        // 참조 카운트가 없는 이전 파일은 같은 키를 가진 다른 행이 있는지로 판단한다. (새 참조가 생기지 않음)
+        List<File> legacy = batch.stream()
+                .filter(file -> !objects.containsKey(file.getContentHash()))
+                .collect(Collectors.toList());
+        Set<String> sharedFileNames = new HashSet<>(fileRepository.findSharedFileNames(legacy));
+
+        List<DeleteObjectsRequest.KeyVersion> keys = batch.stream()
+                .filter(file -> {
+                    StoredObject object = objects.get(file.getContentHash());
+                    return object == null
+                            ? !sharedFileNames.contains(file.getFileName())
+                            : object.isReleasedBy(releases.get(file.getContentHash()));
+                })
+                .flatMap(file -> file.getKeys().stream())
+                .distinct()
+                .map(DeleteObjectsRequest.KeyVersion::new)
+                .collect(Collectors.toList());
+
+        Set<String> failedKeys = new HashSet<>();
+        if (!keys.isEmpty()) {
+            try {
+                s3Client.deleteObjects(new DeleteObjectsRequest(bucketName).withKeys(keys).withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> {
+                    log.warn("failed to delete S3 object: {} ({})", error.getKey(), error.getCode());
+                    failedKeys.add(error.getKey());
+                });
+            }
+        }
+
+        // 변형 이미지 삭제에 실패한 경우에도 원본과 함께 다시 시도할 수 있도록 DB 에 남긴다.
+        List<File> deleted = batch.stream()
+                .filter(file -> file.getKeys().stream().noneMatch(failedKeys::contains))
+                .collect(Collectors.toList());
+        deleted.stream()
+                .filter(file -> objects.containsKey(file.getContentHash()))
+                .collect(Collectors.groupingBy(File::getContentHash, Collectors.counting()))
+                .forEach((contentHash, count) -> {
+                    StoredObject object = objects.get(contentHash);
+                    object.release(count);
+                    if (object.getRefCount() == 0) {
+                        storedObjectRepository.delete(object);
+                    } else {
+                        storedObjectRepository.save(object);
+                    }
+                });
+        fileRepository.deleteAll(deleted);
+
+        return new FileDeleteResult(deleted.size(), new ArrayList<>(failedKeys));
+    }
+
+    // 롤백된 업로드의 참조를 돌려놓는다. 마지막 참조였다면 S3 객체도 지운다.
+    private void releaseQuietly(File file) {
+        try {
+            if (storedObjectRepository.release(file.getContentHash())) {
+                this.deleteQuietly(file);
+            }
+        } catch (RuntimeException e) {
+            log.warn("failed to release stored object: {}", file.getFileName(), e);
+        }
+    }
+
+    private void deleteQuietly(File file) {
+        file.getKeys().forEach(this::deleteKeyQuietly);
+    }
+
+    private void deleteKeyQuietly(String key) {
+        try {
+            s3Client.deleteObject(new DeleteObjectRequest(bucketName, key));
+        } catch (RuntimeException e) {
+            log.warn("failed to delete orphan S3 object: {}", key, e);
+        }
     }
 }
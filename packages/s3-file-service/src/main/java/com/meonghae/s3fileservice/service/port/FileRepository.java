@@ -14,17 +14,33 @@ public interface FileRepository {
 
     List<File> findByEntityTypeAndEmail(EntityType entityType, String email);
 
+    List<File> findByEntityTypeAndEmailIn(EntityType entityType, List<String> emails);
+
+    // 주어진 파일 외에 다른 파일이 아직 참조하고 있는 S3 키 목록 (참조 카운트가 없는 이전 파일용)
+    List<String> findSharedFileNames(List<File> files);
+
     void save(File file);
 
     void delete(File file);
 
+    void deleteAll(List<File> files);
+
     List<FileResponse> getFileList(FileRequest request);
 
+    List<FileResponse> getFileLists(List<FileRequest> requests);
+
     FileUserResponse getUserProfile(String email);
 
+    List<FileUserResponse> getUserProfiles(List<String> emails);
+
     FileUserResponse getPetProfile(FileRequest request);
 
     boolean existsByEntityTypeAndEmail(EntityType entityType, String email);
 
     boolean existsByEntityTypeAndTypeId(EntityType entityType, Long id);
+
+    boolean existsUploadKey(String uploadKey);
+
+    // 같은 키가 동시에 저장되면 나중 트랜잭션은 먼저 저장한 트랜잭션이 끝날 때까지 기다렸다가 실패한다.
+    void saveUploadKey(String uploadKey);
 }
@@ -0,0 +1,26 @@
+package com.meonghae.s3fileservice.service.port;
+
+import com.meonghae.s3fileservice.domain.StoredObject;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredObjectRepository {
+
+    // 참조 중인 객체의 참조 카운트를 조건부 UPDATE 로 1 늘린다. 없거나 삭제 중인 객체면 empty (호출한 트랜잭션과 별도로 커밋)
+    Optional<StoredObject> acquire(String contentHash);
+
+    // 참조 카운트 1 로 새 객체를 등록한다. 같은 내용이 먼저 등록되었으면 false (호출한 트랜잭션과 별도로 커밋)
+    boolean register(StoredObject object);
+
+    // 참조 카운트를 1 줄이고, 마지막 참조였다면 행을 지우고 true (호출한 트랜잭션과 별도로 커밋)
+    boolean release(String contentHash);
+
+    // 삭제 트랜잭션이 끝날 때까지 다른 업로드/삭제가 참조 카운트를 바꾸지 못하도록 잠근다. (SELECT ... FOR UPDATE)
+    List<StoredObject> findAllForUpdate(Collection<String> contentHashes);
+
+    void save(StoredObject object);
+
+    void delete(StoredObject object);
+}
@@ -1,22 +1,25 @@
 package com.meonghae.s3fileservice.web;
 
+import com.meonghae.s3fileservice.domain.enums.EntityType;
 import com.meonghae.s3fileservice.dto.*;
 import com.meonghae.s3fileservice.service.FileService;
 import io.swagger.annotations.Api;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -46,7 +49,12 @@ public class FileController {
     @PutMapping(value = "", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<String> updateFiles(@RequestPart(value = "files") List<MultipartFile> files,
                                                @RequestPart(value = "dataList") List<FileUpdate> dataList) throws IOException {
-        fileService.updateFiles(files, dataList);
+        FileDeleteResult result = fileService.updateFiles(files, dataList);
+        // 새 파일은 저장되었지만 기존 파일 일부를 지우지 못한 경우
+        if (result.isPartial()) {
+            return ResponseEntity.status(HttpStatus.MULTI_STATUS)
+                    .body("File Update Partially Failed: " + String.join(",", result.getFailedKeys()));
+        }
         return ResponseEntity.ok("Update Success");
     }
 
@@ -56,12 +64,24 @@ public class FileController {
         return fileService.viewFileList(requestDto);
     }
 
+    @Operation(summary = "View File List for Multiple Entities API")
+    @PostMapping(value = "/bulk")
+    public Map<EntityType, Map<Long, List<FileResponse>>> viewFileLists(@RequestBody List<FileRequest> requestList) {
+        return fileService.viewFileLists(requestList);
+    }
+
     @Operation(summary = "View File about User Entity API")
     @GetMapping("/users")
     public FileUserResponse viewUserFile(@RequestParam String email) {
         return fileService.viewUserProfile(email);
     }
 
+    @Operation(summary = "View File about Multiple User Entities API")
+    @PostMapping("/users/bulk")
+    public Map<String, FileUserResponse> viewUserFiles(@RequestBody List<String> emails) {
+        return fileService.viewUserProfiles(emails);
+    }
+
     @Operation(summary = "View File about Pet Entity Api")
     @GetMapping ("/pets")
     public FileUserResponse viewPetFile(@ModelAttribute FileRequest requestDto){
@@ -71,32 +91,72 @@ public class FileController {
     @Operation(summary = "파일 삭제 API")
     @DeleteMapping ("")
     public ResponseEntity<String> deleteFiles(@RequestBody FileRequest requestDto){
-        fileService.deleteFiles(requestDto);
-        return ResponseEntity.ok("File Delete Success");
+        return this.toDeleteResponse(fileService.deleteFiles(requestDto));
     }
 
     @Operation(summary = "유저 서비스 전용 파일 삭제 API")
     @DeleteMapping ("/users")
     public ResponseEntity<String> deleteFileForUser(@RequestBody FileUser userDto){
-        fileService.deleteFileForUser(userDto);
+        return this.toDeleteResponse(fileService.deleteFileForUser(userDto));
+    }
+
+    @Operation(summary = "유저 서비스 전용 파일 일괄 삭제 API")
+    @DeleteMapping ("/users/bulk")
+    public ResponseEntity<String> deleteFilesForUsers(@RequestBody List<String> emails){
+        return this.toDeleteResponse(fileService.deleteFilesForUsers(emails));
+    }
+
+    // 일부 파일 삭제에 실패하면 207 과 함께 실패한 키를 알려준다.
+    private ResponseEntity<String> toDeleteResponse(FileDeleteResult result) {
+        if (result.isPartial()) {
+            return ResponseEntity.status(HttpStatus.MULTI_STATUS)
+                    .body("File Delete Partially Failed: " + String.join(",", result.getFailedKeys()));
+        }
         return ResponseEntity.ok("File Delete Success");
     }
 
     @Operation(summary = "File Download API")
     @GetMapping("/download")
-    public ResponseEntity<InputStreamResource> s3Download(@RequestParam String key) {
-        try {
-            byte[] data = fileService.downloadImage(key);
-            InputStream inputStream = new ByteArrayInputStream(data);
-            InputStreamResource resource = new InputStreamResource(inputStream);
-            return ResponseEntity.ok()
-                    .contentLength(data.length)
-                    .header("Content-type", "application/octet-stream")
-                    .header("Content-Disposition", "attachment; filename=" +
-                            URLEncoder.encode(key, StandardCharsets.UTF_8))
-                    .body(resource);
-        } catch (IOException ex) {
-            return ResponseEntity.badRequest().contentLength(0).body(null);
+    public ResponseEntity<StreamingResponseBody> s3Download(
+            @RequestParam String key,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        FileDownload download = fileService.downloadImage(key, range, ifNoneMatch);
+
+        switch (download.getStatus()) {
+            case NOT_MODIFIED:
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(download.getETag()).build();
+            case RANGE_NOT_SATISFIABLE:
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + download.getTotalLength())
+                        .build();
+            default:
+                break;
+        }
+
+        ResponseEntity.BodyBuilder builder = download.getStatus() == FileDownload.Status.PARTIAL
+                ? ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + download.getRangeStart() + "-" +
+                                download.getRangeEnd() + "/" + download.getTotalLength())
+                : ResponseEntity.ok();
+
+        // S3 응답 스트림을 그대로 클라이언트로 전달한다. (힙에 파일 전체를 올리지 않음)
+        StreamingResponseBody body = outputStream -> {
+            try (InputStream inputStream = download.getContent()) {
+                inputStream.transferTo(outputStream);
+            }
+        };
+
+        if (download.getETag() != null) {
+            builder.eTag(download.getETag());
         }
+
+        return builder
+                .contentLength(download.getContentLength())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" +
+                        URLEncoder.encode(key, StandardCharsets.UTF_8))
+                .body(body);
     }
 }
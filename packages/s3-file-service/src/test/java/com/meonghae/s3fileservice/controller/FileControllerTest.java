@@ -235,7 +235,7 @@ public class FileControllerTest {
                 "test-file2-1".getBytes(StandardCharsets.UTF_8));
 
         this.setMockFile(EntityType.BOARD);
-        List<FileResponse> files = fileRepository.getFileList(new FileRequest(EntityType.BOARD, 1L));
+        List<FileResponse> files = fileRepository.getFileList(new FileRequest(EntityType.BOARD, 1L, null, null));
 
         for (FileResponse fileResponse : files) {
             FileUpdate request = FileUpdate.builder()
@@ -268,7 +268,7 @@ public class FileControllerTest {
                 .andDo(print())
                 .andExpect(status().isOk());
 
-        List<FileResponse> responseList = fileRepository.getFileList(new FileRequest(EntityType.BOARD, 1L));
+        List<FileResponse> responseList = fileRepository.getFileList(new FileRequest(EntityType.BOARD, 1L, null, null));
 
         for (int i = 0; i < responseList.size(); i++) {
             assertThat(responseList.get(i).getFileName()).isNotEqualTo(list.get(i).getFileName());
@@ -339,7 +339,7 @@ public class FileControllerTest {
         if (type.equals(EntityType.USER)) {
             fileService.uploadFileForUser(mock, new FileUser(type, "test@test.com"));
         } else {
-            fileService.uploadImages(List.of(mock, mock2), new FileRequest(type, 1L));
+            fileService.uploadImages(List.of(mock, mock2), new FileRequest(type, 1L, null, null));
         }
 
         FakeS3URL s3URL = new FakeS3URL();
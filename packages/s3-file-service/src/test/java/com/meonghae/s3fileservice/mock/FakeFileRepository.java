@@ -6,6 +6,7 @@ import com.meonghae.s3fileservice.dto.FileRequest;
 import com.meonghae.s3fileservice.dto.FileResponse;
 import com.meonghae.s3fileservice.dto.FileUserResponse;
 import com.meonghae.s3fileservice.service.port.FileRepository;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -13,6 +14,7 @@ import java.util.stream.Collectors;
 public class FakeFileRepository implements FileRepository {
 
     private final List<File> data = Collections.synchronizedList(new ArrayList<>());
+    private final Set<String> uploadKeys = Collections.synchronizedSet(new HashSet<>());
 
     @Override
     public List<File> findByEntityTypeAndTypeId(EntityType entityType, Long typeId) {
@@ -30,6 +32,25 @@ public class FakeFileRepository implements FileRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<File> findByEntityTypeAndEmailIn(EntityType entityType, List<String> emails) {
+        return data.stream()
+                .filter(file -> file.getEntityType().equals(entityType))
+                .filter(file -> emails.contains(file.getEmail()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<String> findSharedFileNames(List<File> files) {
+        Set<String> fileNames = files.stream().map(File::getFileName).collect(Collectors.toSet());
+        return data.stream()
+                .filter(file -> files.stream().noneMatch(item -> item == file))
+                .map(File::getFileName)
+                .filter(fileNames::contains)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void save(File file) {
         if (file.getEmail() == null) {
@@ -46,6 +67,11 @@ public class FakeFileRepository implements FileRepository {
         data.remove(file);
     }
 
+    @Override
+    public void deleteAll(List<File> files) {
+        data.removeAll(files);
+    }
+
     @Override
     public List<FileResponse> getFileList(FileRequest request) {
         List<FileResponse> list = new ArrayList<>();
@@ -57,7 +83,7 @@ public class FakeFileRepository implements FileRepository {
         for (File file : files) {
             FileResponse response = FileResponse.builder()
                     .fileName(file.getFileName())
-                    .fileUrl(file.getFileUrl())
+                    .fileUrl(file.urlOf(request.getVariant()))
                     .entityType(file.getEntityType())
                     .typeId(file.getTypeId())
                     .build();
@@ -68,6 +94,15 @@ public class FakeFileRepository implements FileRepository {
         return list;
     }
 
+    @Override
+    public List<FileResponse> getFileLists(List<FileRequest> requests) {
+        List<FileResponse> list = new ArrayList<>();
+        for (FileRequest request : requests) {
+            list.addAll(getFileList(request));
+        }
+        return list;
+    }
+
     @Override
     public FileUserResponse getUserProfile(String email) {
         Optional<File> file = data.stream()
@@ -87,6 +122,20 @@ public class FakeFileRepository implements FileRepository {
                 .build();
     }
 
+    @Override
+    public List<FileUserResponse> getUserProfiles(List<String> emails) {
+        return data.stream()
+                .filter(item -> item.getEntityType().equals(EntityType.USER))
+                .filter(item -> emails.contains(item.getEmail()))
+                .map(item -> FileUserResponse.builder()
+                        .fileName(item.getFileName())
+                        .fileUrl(item.getFileUrl())
+                        .entityType(item.getEntityType())
+                        .email(item.getEmail())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public FileUserResponse getPetProfile(FileRequest request) {
         Optional<File> file = data.stream()
@@ -125,4 +174,16 @@ public class FakeFileRepository implements FileRepository {
 
         return file.isPresent();
     }
+
+    @Override
+    public boolean existsUploadKey(String uploadKey) {
+        return uploadKeys.contains(uploadKey);
+    }
+
+    @Override
+    public void saveUploadKey(String uploadKey) {
+        if (!uploadKeys.add(uploadKey)) {
+            throw new DataIntegrityViolationException("duplicate upload key: " + uploadKey);
+        }
+    }
 }
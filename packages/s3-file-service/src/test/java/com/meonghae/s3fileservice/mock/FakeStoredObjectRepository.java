@@ -0,0 +1,82 @@
+package com.meonghae.s3fileservice.mock;
+
+import com.meonghae.s3fileservice.domain.StoredObject;
+import com.meonghae.s3fileservice.service.port.StoredObjectRepository;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+public class FakeStoredObjectRepository implements StoredObjectRepository {
+
+    private final Map<String, StoredObject> data = new HashMap<>();
+    private long id = 0L;
+
+    @Override
+    public synchronized Optional<StoredObject> acquire(String contentHash) {
+        StoredObject object = data.get(contentHash);
+        if (object == null || object.getRefCount() == 0) {
+            return Optional.empty();
+        }
+        StoredObject acquired = copy(object, object.getId(), object.getRefCount() + 1);
+        data.put(contentHash, acquired);
+        return Optional.of(acquired);
+    }
+
+    @Override
+    public synchronized boolean register(StoredObject object) {
+        if (data.containsKey(object.getContentHash())) {
+            return false;
+        }
+        data.put(object.getContentHash(), copy(object, ++id, object.getRefCount()));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean release(String contentHash) {
+        StoredObject object = data.get(contentHash);
+        if (object == null) {
+            return false;
+        }
+        if (object.getRefCount() <= 1) {
+            data.remove(contentHash);
+            return true;
+        }
+        data.put(contentHash, copy(object, object.getId(), object.getRefCount() - 1));
+        return false;
+    }
+
+    @Override
+    public synchronized List<StoredObject> findAllForUpdate(Collection<String> contentHashes) {
+        return contentHashes.stream()
+                .map(data::get)
+                .filter(Objects::nonNull)
+                .map(object -> copy(object, object.getId(), object.getRefCount()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized void save(StoredObject object) {
+        data.put(object.getContentHash(), copy(object, object.getId(), object.getRefCount()));
+    }
+
+    @Override
+    public synchronized void delete(StoredObject object) {
+        data.remove(object.getContentHash());
+    }
+
+    public synchronized Optional<StoredObject> findByContentHash(String contentHash) {
+        return Optional.ofNullable(data.get(contentHash));
+    }
+
+    private StoredObject copy(StoredObject object, Long id, long refCount) {
+        return StoredObject.builder()
+                .id(id)
+                .contentHash(object.getContentHash())
+                .fileName(object.getFileName())
+                .fileUrl(object.getFileUrl())
+                .thumbnailUrl(object.getThumbnailUrl())
+                .mediumUrl(object.getMediumUrl())
+                .refCount(refCount)
+                .build();
+    }
+}
@@ -1,44 +1,77 @@
 package com.meonghae.s3fileservice.service;
 
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import com.meonghae.s3fileservice.domain.File;
 import com.meonghae.s3fileservice.domain.enums.EntityType;
+import com.meonghae.s3fileservice.domain.enums.ImageVariant;
+import com.meonghae.s3fileservice.dto.FileDeleteResult;
+import com.meonghae.s3fileservice.dto.FileDownload;
 import com.meonghae.s3fileservice.dto.FileRequest;
 import com.meonghae.s3fileservice.dto.FileResponse;
 import com.meonghae.s3fileservice.dto.FileUpdate;
 import com.meonghae.s3fileservice.dto.FileUser;
+import com.meonghae.s3fileservice.dto.FileUserResponse;
 import com.meonghae.s3fileservice.mock.FakeFileRepository;
+import com.meonghae.s3fileservice.mock.FakeS3URL;
+import com.meonghae.s3fileservice.mock.FakeStoredObjectRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 public class FileServiceTest {
 
     private FileServiceImpl fileService;
     private FakeFileRepository fileRepository;
+    private FakeStoredObjectRepository storedObjectRepository;
+    private AmazonS3Client client;
 
     @BeforeEach
     void init() throws MalformedURLException {
-        AmazonS3Client client = Mockito.mock(AmazonS3Client.class);
+        this.client = Mockito.mock(AmazonS3Client.class);
         this.fileRepository = new FakeFileRepository();
+        this.storedObjectRepository = new FakeStoredObjectRepository();
 
         this.fileService = FileServiceImpl.builder()
                 .s3Client(client)
                 .fileRepository(fileRepository)
+                .storedObjectRepository(storedObjectRepository)
                 .bucketName("test-s3")
+                .uploadExecutor(Executors.newFixedThreadPool(4))
+                .transactionManager(Mockito.mock(PlatformTransactionManager.class))
                 .build();
 
         when(client.getUrl(anyString(), anyString()))
@@ -168,11 +201,12 @@ public class FileServiceTest {
         }
 
         // when
-        fileService.updateFiles(list, updateList);
+        FileDeleteResult result = fileService.updateFiles(list, updateList);
         List<File> files = fileRepository.findByEntityTypeAndTypeId(fileList.get(0).getEntityType(),
                 fileList.get(0).getTypeId());
 
         // then
+        assertThat(result.isPartial()).isFalse();
         for (int i = 0; i < files.size(); i++) {
             assertThat(files.get(i).getEmail()).isNull();
             assertThat(files.get(i).getEntityType()).isEqualTo(fileList.get(i).getEntityType());
@@ -188,6 +222,64 @@ public class FileServiceTest {
         }
     }
 
+    @Test
+    void 여러_엔티티의_사진_목록을_한번에_조회한다() throws IOException {
+        // given
+        MockMultipartFile mock1 = new MockMultipartFile("file",
+                "test1.png",
+                "image/png",
+                "test-file1".getBytes(StandardCharsets.UTF_8));
+
+        MockMultipartFile mock2 = new MockMultipartFile("file",
+                "test2.png",
+                "image/png",
+                "test-file2".getBytes(StandardCharsets.UTF_8));
+
+        FileRequest board = FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(1L)
+                .build();
+
+        FileRequest review = FileRequest.builder()
+                .entityType(EntityType.REVIEW)
+                .entityId(2L)
+                .build();
+
+        fileService.uploadImages(List.of(mock1), board);
+        fileService.uploadImages(List.of(mock2), review);
+
+        // when
+        Map<EntityType, Map<Long, List<FileResponse>>> result = fileService.viewFileLists(List.of(board, review));
+
+        // then
+        assertThat(result.get(EntityType.BOARD).get(1L)).hasSize(1);
+        assertThat(result.get(EntityType.REVIEW).get(2L)).hasSize(1);
+        assertThat(result.get(EntityType.REVIEW).get(2L).get(0).getTypeId()).isEqualTo(2L);
+    }
+
+    @Test
+    void 여러_유저의_프로필_사진을_한번에_조회한다() throws IOException {
+        // given
+        MockMultipartFile mock = new MockMultipartFile("file",
+                "test1.png",
+                "image/png",
+                "test-file1".getBytes(StandardCharsets.UTF_8));
+
+        FileUser request = FileUser.builder()
+                .entityType(EntityType.USER)
+                .email("test@test.com")
+                .build();
+
+        fileService.uploadFileForUser(mock, request);
+
+        // when
+        Map<String, FileUserResponse> result = fileService.viewUserProfiles(List.of("test@test.com", "none@test.com"));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get("test@test.com").getFileUrl()).isNotNull();
+    }
+
     @Test
     void 유저_서비스의_사진을_삭제한다() throws IOException {
         // given
@@ -243,4 +335,408 @@ public class FileServiceTest {
         // then
         assertThat(files).isEmpty();
     }
+
+    @Test
+    void 같은_업로드_키로_다시_요청하면_파일을_저장하지_않는다() throws IOException {
+        // given
+        MockMultipartFile mock = new MockMultipartFile("file",
+                "test1.png",
+                "image/png",
+                "test-file1".getBytes(StandardCharsets.UTF_8));
+
+        FileRequest request = FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(1L)
+                .uploadKey("image-outbox:1")
+                .build();
+
+        // when
+        fileService.uploadImages(List.of(mock), request);
+        fileService.uploadImages(List.of(mock), request);
+
+        // then
+        assertThat(fileRepository.findByEntityTypeAndTypeId(EntityType.BOARD, 1L)).hasSize(1);
+        verify(client, times(1)).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void 여러_사진을_존재_여부_확인_없이_모두_업로드한다() throws IOException {
+        // given
+        List<MultipartFile> list = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            list.add(new MockMultipartFile("file",
+                    "test" + i + ".png",
+                    "image/png",
+                    ("test-file" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+
+        FileRequest request = FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(2L)
+                .build();
+
+        // when
+        fileService.uploadImages(list, request);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(client, times(5)).putObject(captor.capture());
+        verify(client, never()).doesObjectExist(anyString(), anyString());
+        assertThat(captor.getAllValues()).extracting(PutObjectRequest::getKey).doesNotHaveDuplicates();
+        assertThat(captor.getAllValues()).allMatch(put -> put.getMetadata().getContentLength() > 0);
+    }
+
+    @Test
+    void Range_요청은_S3_에서_해당_구간만_스트리밍한다() {
+        // given
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(4);
+        metadata.setHeader(Headers.CONTENT_RANGE, "bytes 0-3/10");
+        metadata.setHeader(Headers.ETAG, "test-etag");
+
+        S3Object s3Object = new S3Object();
+        s3Object.setObjectMetadata(metadata);
+        s3Object.setObjectContent(new ByteArrayInputStream("test".getBytes(StandardCharsets.UTF_8)));
+
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(client.getObject(captor.capture())).thenReturn(s3Object);
+
+        // when
+        FileDownload download = fileService.downloadImage("test1.png", "bytes=0-3", null);
+
+        // then
+        assertThat(captor.getValue().getRange()).containsExactly(0L, 3L);
+        assertThat(download.getStatus()).isEqualTo(FileDownload.Status.PARTIAL);
+        assertThat(download.getContentLength()).isEqualTo(4L);
+        assertThat(download.getRangeStart()).isEqualTo(0L);
+        assertThat(download.getRangeEnd()).isEqualTo(3L);
+        assertThat(download.getTotalLength()).isEqualTo(10L);
+        assertThat(download.getETag()).isEqualTo("test-etag");
+    }
+
+    @Test
+    void 범위를_벗어난_Range_요청은_전체_길이와_함께_RANGE_NOT_SATISFIABLE_을_반환한다() {
+        // given
+        AmazonS3Exception rangeError = new AmazonS3Exception("InvalidRange");
+        rangeError.setStatusCode(416);
+        when(client.getObject(any(GetObjectRequest.class))).thenThrow(rangeError);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(10);
+        when(client.getObjectMetadata("test-s3", "test1.png")).thenReturn(metadata);
+
+        // when
+        FileDownload download = fileService.downloadImage("test1.png", "bytes=20-30", null);
+
+        // then
+        assertThat(download.getStatus()).isEqualTo(FileDownload.Status.RANGE_NOT_SATISFIABLE);
+        assertThat(download.getTotalLength()).isEqualTo(10L);
+    }
+
+    @Test
+    void ETag_가_일치하면_본문_없이_NOT_MODIFIED_를_반환한다() {
+        // given
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(client.getObject(captor.capture())).thenReturn(null);
+
+        // when
+        FileDownload download = fileService.downloadImage("test1.png", null, "\"test-etag\"");
+
+        // then
+        assertThat(captor.getValue().getNonmatchingETagConstraints()).containsExactly("\"test-etag\"");
+        assertThat(download.getStatus()).isEqualTo(FileDownload.Status.NOT_MODIFIED);
+        assertThat(download.getContent()).isNull();
+    }
+
+    @Test
+    void 여러_유저의_사진을_한_번의_요청으로_삭제한다() throws IOException {
+        // given
+        for (String email : List.of("a@test.com", "b@test.com", "c@test.com")) {
+            MockMultipartFile mock = new MockMultipartFile("file",
+                    email + ".png",
+                    "image/png",
+                    ("test-file-" + email).getBytes(StandardCharsets.UTF_8));
+            fileService.uploadFileForUser(mock, FileUser.builder()
+                    .entityType(EntityType.USER)
+                    .email(email)
+                    .build());
+        }
+
+        // when
+        FileDeleteResult result = fileService.deleteFilesForUsers(List.of("a@test.com", "b@test.com", "c@test.com"));
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(client, times(1)).deleteObjects(captor.capture());
+        verify(client, never()).deleteObject(any(DeleteObjectRequest.class));
+        assertThat(captor.getValue().getKeys()).hasSize(3);
+        assertThat(result.getDeletedCount()).isEqualTo(3);
+        assertThat(result.isPartial()).isFalse();
+        assertThat(fileRepository.findByEntityTypeAndEmailIn(EntityType.USER,
+                List.of("a@test.com", "b@test.com", "c@test.com"))).isEmpty();
+    }
+
+    @Test
+    void S3_삭제에_실패한_파일은_DB_에_남기고_실패_목록으로_알려준다() throws IOException {
+        // given
+        for (String email : List.of("a@test.com", "b@test.com")) {
+            MockMultipartFile mock = new MockMultipartFile("file",
+                    email + ".png",
+                    "image/png",
+                    ("test-file-" + email).getBytes(StandardCharsets.UTF_8));
+            fileService.uploadFileForUser(mock, FileUser.builder()
+                    .entityType(EntityType.USER)
+                    .email(email)
+                    .build());
+        }
+        File failed = fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com").get(0);
+
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey(failed.getFileName());
+        error.setCode("AccessDenied");
+        when(client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new MultiObjectDeleteException(List.of(error), List.of()));
+
+        // when
+        FileDeleteResult result = fileService.deleteFilesForUsers(List.of("a@test.com", "b@test.com"));
+
+        // then
+        assertThat(result.isPartial()).isTrue();
+        assertThat(result.getFailedKeys()).containsExactly(failed.getFileName());
+        assertThat(result.getDeletedCount()).isEqualTo(1);
+        assertThat(fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com")).hasSize(1);
+        assertThat(fileRepository.findByEntityTypeAndEmail(EntityType.USER, "b@test.com")).isEmpty();
+    }
+
+    @Test
+    void 이미지를_업로드하면_썸네일과_중간_크기_변형을_함께_저장한다() throws IOException {
+        // given
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(1600, 800, BufferedImage.TYPE_INT_ARGB), "png", png);
+        MockMultipartFile mock = new MockMultipartFile("file", "dog.png", "image/png", png.toByteArray());
+
+        FakeS3URL s3URL = new FakeS3URL();
+        when(client.getUrl(anyString(), anyString()))
+                .thenAnswer(invocation -> s3URL.getAmazonS3Url(invocation.getArgument(0), invocation.getArgument(1)));
+
+        FileRequest request = FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(3L)
+                .build();
+
+        // when
+        fileService.uploadImages(List.of(mock), request);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(client, times(3)).putObject(captor.capture());
+        String fileName = captor.getAllValues().get(0).getKey();
+
+        PutObjectRequest thumbnail = captor.getAllValues().stream()
+                .filter(put -> put.getKey().equals(ImageVariant.THUMBNAIL.keyOf(fileName)))
+                .findAny().orElseThrow();
+        BufferedImage resized = ImageIO.read(thumbnail.getInputStream());
+        assertThat(thumbnail.getMetadata().getContentType()).isEqualTo("image/jpeg");
+        assertThat(resized.getWidth()).isEqualTo(200);
+        assertThat(resized.getHeight()).isEqualTo(100);
+
+        List<FileResponse> thumbnails = fileService.viewFileList(FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(3L)
+                .variant(ImageVariant.THUMBNAIL)
+                .build());
+        List<FileResponse> originals = fileService.viewFileList(request);
+        assertThat(thumbnails.get(0).getFileUrl()).endsWith("/image/thumbnail/" + fileName);
+        assertThat(originals.get(0).getFileUrl()).endsWith("/image/" + fileName);
+
+        Map<EntityType, Map<Long, List<FileResponse>>> bulk = fileService.viewFileLists(List.of(FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(3L)
+                .variant(ImageVariant.THUMBNAIL)
+                .build()));
+        assertThat(bulk.get(EntityType.BOARD).get(3L).get(0).getFileUrl()).endsWith("/image/thumbnail/" + fileName);
+    }
+
+    @Test
+    void 이미지가_아닌_파일은_변형_없이_원본_URL_로_조회한다() throws IOException {
+        // given
+        MockMultipartFile mock = new MockMultipartFile("file", "test.png", "image/png",
+                "not-an-image".getBytes(StandardCharsets.UTF_8));
+        FileRequest request = FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(4L)
+                .variant(ImageVariant.MEDIUM)
+                .build();
+
+        // when
+        fileService.uploadImages(List.of(mock), request);
+        List<FileResponse> files = fileService.viewFileList(request);
+
+        // then
+        verify(client, times(1)).putObject(any(PutObjectRequest.class));
+        assertThat(files.get(0).getFileUrl()).isEqualTo("https://s3.ap-northeast-2.amazonaws.com/test/image/test1.png");
+    }
+
+    @Test
+    void 같은_내용의_파일은_다시_업로드하지_않고_기존_S3_객체를_참조한다() throws IOException {
+        // given
+        for (String email : List.of("a@test.com", "b@test.com")) {
+            MockMultipartFile mock = new MockMultipartFile("file",
+                    email + ".png",
+                    "image/png",
+                    "same-photo".getBytes(StandardCharsets.UTF_8));
+
+            // when
+            fileService.uploadFileForUser(mock, FileUser.builder()
+                    .entityType(EntityType.USER)
+                    .email(email)
+                    .build());
+        }
+
+        // then
+        File first = fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com").get(0);
+        File second = fileRepository.findByEntityTypeAndEmail(EntityType.USER, "b@test.com").get(0);
+        verify(client, times(1)).putObject(any(PutObjectRequest.class));
+        assertThat(second.getFileName()).isEqualTo(first.getFileName());
+        assertThat(second.getContentHash()).isEqualTo(first.getContentHash()).hasSize(64);
+        assertThat(storedObjectRepository.findByContentHash(first.getContentHash()).get().getRefCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 파일_저장이_실패하면_업로드로_늘린_참조_카운트를_되돌린다() throws IOException {
+        // given -> 같은 업로드 키의 요청이 동시에 들어와 둘 다 존재 확인을 통과한 경우
+        FakeFileRepository racingRepository = new FakeFileRepository() {
+            @Override
+            public boolean existsUploadKey(String uploadKey) {
+                return false;
+            }
+        };
+        FileServiceImpl service = FileServiceImpl.builder()
+                .s3Client(client)
+                .fileRepository(racingRepository)
+                .storedObjectRepository(storedObjectRepository)
+                .bucketName("test-s3")
+                .uploadExecutor(Executors.newFixedThreadPool(4))
+                .transactionManager(Mockito.mock(PlatformTransactionManager.class))
+                .build();
+        MockMultipartFile mock = new MockMultipartFile("file",
+                "test1.png",
+                "image/png",
+                "same-photo".getBytes(StandardCharsets.UTF_8));
+        FileRequest request = FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(1L)
+                .uploadKey("image-outbox:1")
+                .build();
+        service.uploadImages(List.of(mock), request);
+        String contentHash = racingRepository.findByEntityTypeAndTypeId(EntityType.BOARD, 1L).get(0).getContentHash();
+
+        // when
+        assertThatThrownBy(() -> service.uploadImages(List.of(mock), request))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        // then
+        assertThat(storedObjectRepository.findByContentHash(contentHash).get().getRefCount()).isEqualTo(1L);
+        verify(client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void 업로드_큐가_가득_차면_요청_스레드에서_업로드하지_않고_실패한다() {
+        // given
+        FileServiceImpl service = FileServiceImpl.builder()
+                .s3Client(client)
+                .fileRepository(fileRepository)
+                .storedObjectRepository(storedObjectRepository)
+                .bucketName("test-s3")
+                .uploadExecutor(command -> {
+                    throw new RejectedExecutionException("upload queue is full");
+                })
+                .transactionManager(Mockito.mock(PlatformTransactionManager.class))
+                .build();
+        MockMultipartFile mock = new MockMultipartFile("file",
+                "test1.png",
+                "image/png",
+                "test-file1".getBytes(StandardCharsets.UTF_8));
+
+        // when // then
+        assertThatThrownBy(() -> service.uploadImages(List.of(mock), FileRequest.builder()
+                .entityType(EntityType.BOARD)
+                .entityId(1L)
+                .build()))
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        verify(client, never()).putObject(any(PutObjectRequest.class));
+        assertThat(fileRepository.findByEntityTypeAndTypeId(EntityType.BOARD, 1L)).isEmpty();
+    }
+
+    @Test
+    void 공유된_S3_객체는_마지막_참조가_삭제될_때만_지운다() throws IOException {
+        // given
+        for (String email : List.of("a@test.com", "b@test.com")) {
+            MockMultipartFile mock = new MockMultipartFile("file",
+                    email + ".png",
+                    "image/png",
+                    "same-photo".getBytes(StandardCharsets.UTF_8));
+            fileService.uploadFileForUser(mock, FileUser.builder()
+                    .entityType(EntityType.USER)
+                    .email(email)
+                    .build());
+        }
+        String fileName = fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com").get(0).getFileName();
+        String contentHash = fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com").get(0).getContentHash();
+
+        // when
+        FileDeleteResult first = fileService.deleteFileForUser(FileUser.builder()
+                .entityType(EntityType.USER)
+                .email("a@test.com")
+                .build());
+
+        // then
+        assertThat(first.getDeletedCount()).isEqualTo(1);
+        verify(client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+
+        // when
+        fileService.deleteFileForUser(FileUser.builder()
+                .entityType(EntityType.USER)
+                .email("b@test.com")
+                .build());
+
+        // then
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(client, times(1)).deleteObjects(captor.capture());
+        assertThat(captor.getValue().getKeys())
+                .extracting(DeleteObjectsRequest.KeyVersion::getKey)
+                .containsExactly(fileName);
+        assertThat(storedObjectRepository.findAllForUpdate(List.of(contentHash))).isEmpty();
+    }
+
+    @Test
+    void S3_삭제에_실패하면_참조_카운트를_줄이지_않는다() throws IOException {
+        // given
+        MockMultipartFile mock = new MockMultipartFile("file",
+                "a@test.com.png",
+                "image/png",
+                "same-photo".getBytes(StandardCharsets.UTF_8));
+        fileService.uploadFileForUser(mock, FileUser.builder()
+                .entityType(EntityType.USER)
+                .email("a@test.com")
+                .build());
+        File file = fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com").get(0);
+
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey(file.getFileName());
+        error.setCode("AccessDenied");
+        when(client.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new MultiObjectDeleteException(List.of(error), List.of()));
+
+        // when
+        FileDeleteResult result = fileService.deleteFileForUser(FileUser.builder()
+                .entityType(EntityType.USER)
+                .email("a@test.com")
+                .build());
+
+        // then
+        assertThat(result.isPartial()).isTrue();
+        assertThat(fileRepository.findByEntityTypeAndEmail(EntityType.USER, "a@test.com")).hasSize(1);
+        assertThat(storedObjectRepository.findByContentHash(file.getContentHash()).get().getRefCount()).isEqualTo(1L);
+    }
 }
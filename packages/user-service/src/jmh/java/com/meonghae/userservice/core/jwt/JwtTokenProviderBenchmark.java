@@ -0,0 +1,78 @@
+package com.meonghae.userservice.core.jwt;
+
+import com.meonghae.userservice.domin.user.enums.UserRole;
+import com.meonghae.userservice.service.port.RedisService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 키/파서를 새로 만드는 기존 방식과 캐시된 검증 방식 비교
+// packages/user-service 에서 ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "aaaaaaaaaaa-aaaaaaaaaaaaaaaaaaaaa-aaaaaaaaaaaaaaaa-aaaaaaaaaaaaaa";
+
+    private JwtTokenProviderImpl jwtTokenProvider;
+
+    private String accessToken;
+
+    @Setup
+    public void setup() {
+        this.jwtTokenProvider = JwtTokenProviderImpl.builder()
+                .redisService(new NoBlacklistRedisService())
+                .secretKey(SECRET_KEY)
+                .accessTokenValidTime(3600000L)
+                .refreshTokenValidTime(3600000L)
+                .build();
+        this.accessToken = jwtTokenProvider.createAccessToken("test@test.com", UserRole.USER, "bench-android-id");
+    }
+
+    @Benchmark
+    public String parsePerRequest() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()))
+                .build()
+                .parseClaimsJws(accessToken)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        return jwtTokenProvider.getUserEmail(accessToken);
+    }
+
+    // 블랙리스트 조회는 비교 대상이 아니므로 아무 일도 하지 않는다.
+    private static class NoBlacklistRedisService implements RedisService {
+        @Override
+        public void setValues(String token, String email, String androidId) {
+        }
+
+        @Override
+        public void setValues(String email, String androidId, String accessToken, String refreshToken) {
+        }
+
+        @Override
+        public Map<String, String> getValues(String token) {
+            return null;
+        }
+
+        @Override
+        public void addTokenToBlacklist(String token, long expiration) {
+        }
+
+        @Override
+        public void isTokenInBlacklist(String token) {
+        }
+
+        @Override
+        public void delValues(String token, String email) {
+        }
+    }
+}
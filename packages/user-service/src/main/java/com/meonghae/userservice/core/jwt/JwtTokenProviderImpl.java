@@ -12,9 +12,13 @@ import com.meonghae.userservice.service.jwt.CustomUserDetailService;
 import com.meonghae.userservice.service.jwt.JwtTokenProvider;
 import com.meonghae.userservice.service.port.RedisService;
 import com.meonghae.userservice.service.port.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.Builder;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,12 +28,18 @@ import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.security.Key;
+import java.time.Duration;
 import java.util.*;
 
 @Component
-@Builder
 public class JwtTokenProviderImpl implements JwtTokenProvider {
 
+    // 검증된 토큰 캐시 최대 개수
+    private static final long TOKEN_CACHE_MAX_SIZE = 10_000L;
+
+    // 검증된 토큰 캐시 최대 유지 시간 | 5m (토큰 만료 시간을 넘기지 않는다)
+    private static final Duration TOKEN_CACHE_MAX_TTL = Duration.ofMinutes(5);
+
     private final UserRepository userRepository;
 
     private final RedisService redisService;
@@ -45,6 +55,13 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
     // 리프레시 토큰 유효시간 | 7d
     private long refreshTokenValidTime;
 
+    // 서명 키와 파서는 init() 으로 secretKey 가 정해진 뒤, 처음 사용할 때 한 번만 생성한다.
+    private volatile SigningKey signingKey;
+
+    // 토큰 -> (email, roles, 만료시간) 검증 결과 캐시
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    @Builder
     public JwtTokenProviderImpl(UserRepository userRepository, RedisService redisService,
                                 CustomUserDetailService customUserDetailService,
                                 @Value("${jwt.secret}") String secretKey,
@@ -56,6 +73,10 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
         this.secretKey = secretKey;
         this.accessTokenValidTime = accessTokenValidTime;
         this.refreshTokenValidTime = refreshTokenValidTime;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(TOKEN_CACHE_MAX_SIZE)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
     }
 
 
@@ -63,6 +84,18 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
     @PostConstruct // 의존성 주입 후, 초기화를 수행
     protected void init() {
         secretKey = Base64.getEncoder().encodeToString(secretKey.getBytes());
+        signingKey = null;
+        verifiedTokens.invalidateAll();
+    }
+
+    // 기존과 같이 현재 secretKey 의 바이트로 키를 만든다.
+    private SigningKey signingKey() {
+        SigningKey key = signingKey;
+        if (key == null) {
+            key = new SigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()));
+            signingKey = key;
+        }
+        return key;
     }
 
     // Access Token 생성.
@@ -85,14 +118,13 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
         claims.put("roles", roles); // 권한 설정, key/ value 쌍으로 저장
         claims.put("androidId", androidId);
 
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
         Date date = new Date();
 
         return Jwts.builder()
                 .setClaims(claims) // 발행 유저 정보 저장
                 .setIssuedAt(date) // 발행 시간 저장
                 .setExpiration(new Date(date.getTime() + tokenValid)) // 토큰 유효 시간 저장
-                .signWith(key, SignatureAlgorithm.HS256) // 해싱 알고리즘 및 키 설정
+                .signWith(signingKey().getKey(), SignatureAlgorithm.HS256) // 해싱 알고리즘 및 키 설정
                 .compact(); // 생성
     }
 
@@ -106,11 +138,30 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
     // 토큰에서 회원 정보 추출
     @Override
     public String getUserEmail(String token) {
-        JwtParser jwtParser = Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(secretKey.getBytes()))
-                .build();
+        return this.verify(token).getEmail();
+    }
+
+    // 캐시에 검증 결과가 있으면 재사용하고, 없으면 서명을 검증한 뒤 캐시에 저장한다.
+    // 로그아웃은 다른 인스턴스에서 처리될 수 있으므로 블랙리스트는 캐시와 관계없이 매번 확인한다.
+    private VerifiedToken verify(String token) {
+        VerifiedToken verified = verifiedTokens.getIfPresent(token);
+        if (verified == null || verified.isExpired()) {
+            Claims claims = signingKey().getParser().parseClaimsJws(token).getBody();
+            verified = new VerifiedToken(claims.getSubject(), getRoles(claims), claims.getExpiration());
+            verifiedTokens.put(token, verified);
+        }
 
-        return jwtParser.parseClaimsJws(token).getBody().getSubject();
+        redisService.isTokenInBlacklist(token);
+        return verified;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getRoles(Claims claims) {
+        Object roles = claims.get("roles");
+        if (roles instanceof List<?>) {
+            return Collections.unmodifiableList((List<String>) roles);
+        }
+        return Collections.emptyList();
     }
 
     // Request의 Header에서 AccessToken 값을 가져옵니다. "authorization" : "token"
@@ -176,13 +227,10 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
     // Expire Token
     @Override
     public void expireToken(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        // 블랙리스트에 등록되는 토큰은 로컬 캐시에서도 즉시 제거한다.
+        verifiedTokens.invalidate(token);
         try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = signingKey().getParser().parseClaimsJws(token).getBody();
 
             Date expiration = claims.getExpiration();
             Date now = new Date();
@@ -197,13 +245,7 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
     @Override
     public boolean validateToken(String jwtToken) {
         try {
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(jwtToken);
-
-            return !claims.getBody().getExpiration().before(new Date());
+            return !this.verify(jwtToken).isExpired();
         } catch (MalformedJwtException e) {
             throw new InvalidTokenException("4001", ErrorCode.INVALID_TOKEN_EXCEPTION);
         } catch (ExpiredJwtException e) {
@@ -228,4 +270,37 @@ public class JwtTokenProviderImpl implements JwtTokenProvider {
     public void setHeaderRefreshToken(HttpServletResponse response, String refreshToken) {
         response.setHeader("RefreshToken", "Bearer "+ refreshToken);
     }
+
+    @Getter
+    private static class SigningKey {
+        private final Key key;
+        private final JwtParser parser;
+
+        private SigningKey(Key key) {
+            this.key = key;
+            this.parser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build();
+        }
+    }
+
+    // 캐시 항목은 최대 TOKEN_CACHE_MAX_TTL 동안 유지되며, 토큰 만료 시각을 넘기지 않는다.
+    private static class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long untilExpiration = Duration.ofMillis(value.getExpiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0L, Math.min(TOKEN_CACHE_MAX_TTL.toNanos(), untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.meonghae.userservice.core.jwt;
+
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+// 서명 검증이 끝난 토큰의 정보 (로컬 캐시 저장용)
+@Getter
+public class VerifiedToken {
+
+    private final String email;
+
+    private final List<String> roles;
+
+    private final Date expiration;
+
+    public VerifiedToken(String email, List<String> roles, Date expiration) {
+        this.email = email;
+        this.roles = roles;
+        this.expiration = expiration;
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -4,7 +4,6 @@ import com.meonghae.userservice.domin.user.User;
 import com.meonghae.userservice.service.port.UserRepository;
 import com.meonghae.userservice.service.client.feign.PetServiceClient;
 import com.meonghae.userservice.service.client.feign.S3ServiceClient;
-import com.meonghae.userservice.dto.file.S3Request;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +17,7 @@ import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableScheduling
@@ -38,10 +38,14 @@ public class AppConfig implements SchedulingConfigurer {
                     List<User> usersToDelete = userRepository.findByDeletedIsTrueAndModifiedDateBefore(oneWeekAgo);
                     userRepository.deleteAll(usersToDelete);
 
-                    for (User user : usersToDelete) {
-                        S3Request requestDto = new S3Request(user.getEmail(), "USER");
-                        s3Service.deleteFileForUser(requestDto);
-                        petService.deletedByUserEmail(user.getEmail());
+                    // 탈퇴 회원들의 프로필 사진은 한 번의 요청으로 일괄 삭제
+                    List<String> emails = usersToDelete.stream().map(User::getEmail).collect(Collectors.toList());
+                    if (!emails.isEmpty()) {
+                        s3Service.deleteFilesForUsers(emails);
+                    }
+
+                    for (String email : emails) {
+                        petService.deletedByUserEmail(email);
                     }
                 },
                 triggerContext -> new CronTrigger("0 0 0 * * *").nextExecutionTime(triggerContext) // 매일 자정에 실행
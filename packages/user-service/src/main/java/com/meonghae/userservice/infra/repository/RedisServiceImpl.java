@@ -1,5 +1,6 @@
 package com.meonghae.userservice.infra.repository;
 
+import com.meonghae.auth.TokenBlacklist;
 import com.meonghae.userservice.service.port.RedisService;
 import io.jsonwebtoken.MalformedJwtException;
 import lombok.RequiredArgsConstructor;
@@ -56,14 +57,20 @@ public class RedisServiceImpl implements RedisService {
     public void addTokenToBlacklist(String token, long expiration) {
         ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
         valueOperations.set(token, Boolean.TRUE, expiration, TimeUnit.MILLISECONDS);
+
+        // Gateway 는 해시만 알면 되므로 원본 토큰 대신 SHA-256 해시를 전달한다.
+        String tokenHash = TokenBlacklist.hash(token);
+        redisTemplate.opsForZSet().add(TokenBlacklist.HASHES_KEY, tokenHash, System.currentTimeMillis() + expiration);
+        redisTemplate.convertAndSend(TokenBlacklist.CHANNEL, tokenHash);
     }
 
     @Override
     public void isTokenInBlacklist(String token) {
         ValueOperations<String, Object> valueOperations = redisTemplate.opsForValue();
-        Boolean isBlacklisted = (Boolean) valueOperations.get(token);
+        // 같은 키 공간에 리프레시 토큰 정보(Map)도 저장되므로 형변환 없이 비교한다.
+        Object isBlacklisted = valueOperations.get(token);
 
-        if (isBlacklisted != null && isBlacklisted.equals(Boolean.TRUE)) {
+        if (Boolean.TRUE.equals(isBlacklisted)) {
             throw new MalformedJwtException("Invalid JWT token");
         }
     }
@@ -3,9 +3,14 @@ package com.meonghae.userservice.infra.repository.fcmtoken;
 import com.meonghae.userservice.infra.entity.FCMTokenEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface FCMTokenJpaRepository extends JpaRepository<FCMTokenEntity, Long> {
 
     FCMTokenEntity findByEmail(String email);
 
+    List<FCMTokenEntity> findByEmailIn(Collection<String> emails);
+
     void deleteByEmail(String email);
 }
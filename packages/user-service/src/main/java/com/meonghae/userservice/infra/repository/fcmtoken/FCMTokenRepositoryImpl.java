@@ -6,6 +6,9 @@ import com.meonghae.userservice.service.port.FCMTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Repository
 @RequiredArgsConstructor
 public class FCMTokenRepositoryImpl implements FCMTokenRepository {
@@ -23,6 +26,14 @@ public class FCMTokenRepositoryImpl implements FCMTokenRepository {
         return fcmToken.toModel();
     }
 
+    @Override
+    public List<FCMToken> findByEmailIn(List<String> emails) {
+        return fcmTokenRepository.findByEmailIn(emails)
+                .stream()
+                .map(FCMTokenEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void save(FCMToken fcmToken) {
         fcmTokenRepository.save(FCMTokenEntity.from(fcmToken));
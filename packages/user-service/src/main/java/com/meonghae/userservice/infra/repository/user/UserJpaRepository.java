@@ -4,6 +4,7 @@ import com.meonghae.userservice.infra.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +12,8 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmail(String email);
 
+    List<UserEntity> findByEmailIn(Collection<String> emails);
+
     boolean existsByEmail(String email);
 
     boolean existsByEmailAndDeleted(String email, boolean deleted);
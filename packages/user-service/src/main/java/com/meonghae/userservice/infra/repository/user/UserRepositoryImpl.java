@@ -22,6 +22,14 @@ public class UserRepositoryImpl implements UserRepository {
         return userRepository.findByEmail(email).map(UserEntity::toModel);
     }
 
+    @Override
+    public List<User> findByEmailIn(List<String> emails) {
+        return userRepository.findByEmailIn(emails)
+                .stream()
+                .map(UserEntity::toModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void save(User user) {
         userRepository.save(UserEntity.from(user));
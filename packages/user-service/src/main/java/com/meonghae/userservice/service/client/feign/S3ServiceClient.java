@@ -27,4 +27,7 @@ public interface S3ServiceClient {
 
     @DeleteMapping("/files/users")
     ResponseEntity<String> deleteFileForUser(@RequestBody S3Request requestDto);
+
+    @DeleteMapping("/files/users/bulk")
+    ResponseEntity<String> deleteFilesForUsers(@RequestBody List<String> emails);
 }
@@ -2,10 +2,14 @@ package com.meonghae.userservice.service.port;
 
 import com.meonghae.userservice.domin.FCMToken.FCMToken;
 
+import java.util.List;
+
 public interface FCMTokenRepository {
 
     FCMToken findByEmail(String email);
 
+    List<FCMToken> findByEmailIn(List<String> emails);
+
     void save(FCMToken fcmToken);
 
     void deleteByEmail(String email);
@@ -10,6 +10,8 @@ public interface UserRepository {
 
     Optional<User> findByEmail(String email);
 
+    List<User> findByEmailIn(List<String> emails);
+
     void save(User user);
 
     boolean existsByEmail(String email);
@@ -5,6 +5,8 @@ import com.meonghae.userservice.dto.user.*;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
 
 public interface UserService {
 
@@ -14,8 +16,12 @@ public interface UserService {
 
     String sendNickname(String email);
 
+    Map<String, String> sendNicknames(List<String> emails);
+
     FCMResponse sendFCMToken(String email);
 
+    List<FCMResponse> sendFCMTokens(List<String> emails);
+
     UserMyPage viewMyPage(HttpServletRequest request);
 
     void signUp(UserRequest userDto, HttpServletRequest request, HttpServletResponse response);
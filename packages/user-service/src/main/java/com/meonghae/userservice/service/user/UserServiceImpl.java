@@ -32,6 +32,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static com.meonghae.userservice.core.exception.ErrorCode.*;
 
@@ -85,6 +86,16 @@ public class UserServiceImpl implements UserService {
         return user.map(User::getNickname).orElse(null);
     }
 
+    @Override
+    public Map<String, String> sendNicknames(List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findByEmailIn(emails)
+                .stream()
+                .collect(Collectors.toMap(User::getEmail, User::getNickname, (a, b) -> a));
+    }
+
     @Override
     public FCMResponse sendFCMToken(String email) {
         FCMToken fcmToken = fcmTokenRepository.findByEmail(email);
@@ -99,6 +110,20 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    @Override
+    public List<FCMResponse> sendFCMTokens(List<String> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return List.of();
+        }
+        return fcmTokenRepository.findByEmailIn(emails)
+                .stream()
+                .map(fcmToken -> FCMResponse.builder()
+                        .email(fcmToken.getEmail())
+                        .fcmToken(fcmToken.getToken())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public UserMyPage viewMyPage(HttpServletRequest request) {
         String email = this.findByEmailFromAccessToken(request);
@@ -13,6 +13,8 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -42,12 +44,24 @@ public class UserController {
         return userService.sendNickname(email);
     }
 
+    @Operation(summary = "Feign Client 전송용 API - 닉네임 목록")
+    @PostMapping("/send/nicknames")
+    public Map<String, String> sendNicknames(@RequestBody List<String> emails) {
+        return userService.sendNicknames(emails);
+    }
+
     @Operation(summary = "Feign Client 전송용 API - FCMToken")
     @GetMapping("/send/token")
     public FCMResponse sendFCMToken(@RequestParam String email) {
         return userService.sendFCMToken(email);
     }
 
+    @Operation(summary = "Feign Client 전송용 API - FCMToken 목록")
+    @PostMapping("/send/tokens")
+    public List<FCMResponse> sendFCMTokens(@RequestBody List<String> emails) {
+        return userService.sendFCMTokens(emails);
+    }
+
     @Operation(summary = "회원가입 API")
     @PostMapping(value = "/signup")
     public ResponseEntity<String> signUp(UserRequest userDto,
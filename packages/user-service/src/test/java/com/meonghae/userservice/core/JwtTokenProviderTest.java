@@ -130,4 +130,50 @@ public class JwtTokenProviderTest {
         // then
         assertThat(userEmail).isEqualTo(email);
     }
+
+    @Test
+    void 검증된_Token_은_반복_조회해도_같은_Email_을_반환한다() {
+        // given
+        String email = "test@test.com";
+        String accessToken = jwtTokenProvider.createAccessToken(email, UserRole.USER, "hi-test-1234");
+
+        // when
+        String first = jwtTokenProvider.getUserEmail(accessToken);
+        String second = jwtTokenProvider.getUserEmail(accessToken);
+
+        // then
+        assertThat(first).isEqualTo(email);
+        assertThat(second).isEqualTo(email);
+        assertThat(jwtTokenProvider.validateToken(accessToken)).isTrue();
+    }
+
+    @Test
+    void 검증_결과가_캐시된_Token_도_블랙리스트에_등록되면_검증에_실패한다() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken("test@test.com", UserRole.USER, "hi-test-1234");
+        jwtTokenProvider.getUserEmail(accessToken);
+
+        // when
+        redisService.addTokenToBlacklist(accessToken, 180000L);
+
+        // then
+        assertThatThrownBy(() -> jwtTokenProvider.validateToken(accessToken))
+                .isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.getUserEmail(accessToken))
+                .isInstanceOf(MalformedJwtException.class);
+    }
+
+    @Test
+    void 위조된_Token_은_캐시와_관계없이_검증에_실패한다() {
+        // given
+        String accessToken = jwtTokenProvider.createAccessToken("test@test.com", UserRole.USER, "hi-test-1234");
+        jwtTokenProvider.getUserEmail(accessToken);
+
+        // when
+        String forged = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        // then
+        assertThatThrownBy(() -> jwtTokenProvider.validateToken(forged))
+                .isInstanceOf(RuntimeException.class);
+    }
 }
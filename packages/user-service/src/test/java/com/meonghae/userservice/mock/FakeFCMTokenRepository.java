@@ -4,6 +4,7 @@ import com.meonghae.userservice.domin.FCMToken.FCMToken;
 import com.meonghae.userservice.service.port.FCMTokenRepository;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 public class FakeFCMTokenRepository implements FCMTokenRepository {
 
@@ -15,6 +16,13 @@ public class FakeFCMTokenRepository implements FCMTokenRepository {
         return token.orElse(null);
     }
 
+    @Override
+    public List<FCMToken> findByEmailIn(List<String> emails) {
+        return data.stream()
+                .filter(item -> emails.contains(item.getEmail()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void save(FCMToken fcmToken) {
         if (fcmToken.getId() == null) {
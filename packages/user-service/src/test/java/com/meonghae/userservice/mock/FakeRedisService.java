@@ -20,8 +20,8 @@ public class FakeRedisService implements RedisService {
     }
 
     public void isTokenInBlacklist(String token) {
-        Boolean isBlacklisted = (Boolean) values.get(token);
-        if (isBlacklisted != null && isBlacklisted.equals(Boolean.TRUE)) {
+        Object isBlacklisted = values.get(token);
+        if (Boolean.TRUE.equals(isBlacklisted)) {
             throw new MalformedJwtException("Invalid JWT token");
         }
     }
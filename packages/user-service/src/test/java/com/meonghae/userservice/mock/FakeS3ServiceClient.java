@@ -67,4 +67,10 @@ public class FakeS3ServiceClient implements S3ServiceClient {
         list.removeIf(item -> item.getEmail().equals(requestDto.getEmail()));
         return ResponseEntity.ok("삭제 성공");
     }
+
+    @Override
+    public ResponseEntity<String> deleteFilesForUsers(List<String> emails) {
+        list.removeIf(item -> emails.contains(item.getEmail()));
+        return ResponseEntity.ok("삭제 성공");
+    }
 }
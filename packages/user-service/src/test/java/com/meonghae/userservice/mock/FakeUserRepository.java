@@ -17,6 +17,13 @@ public class FakeUserRepository implements UserRepository {
         return data.stream().filter(item -> item.getEmail().equals(email)).findAny();
     }
 
+    @Override
+    public List<User> findByEmailIn(List<String> emails) {
+        return data.stream()
+                .filter(item -> emails.contains(item.getEmail()))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void save(User user) {
         if (user.getUid() == null) {
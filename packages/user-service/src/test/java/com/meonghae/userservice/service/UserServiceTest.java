@@ -4,8 +4,10 @@ import com.meonghae.userservice.core.exception.ErrorCode;
 import com.meonghae.userservice.core.exception.impl.NotFoundException;
 import com.meonghae.userservice.core.exception.impl.UnAuthorizedException;
 import com.meonghae.userservice.core.jwt.JwtTokenProviderImpl;
+import com.meonghae.userservice.domin.FCMToken.FCMToken;
 import com.meonghae.userservice.domin.user.User;
 import com.meonghae.userservice.domin.user.enums.UserRole;
+import com.meonghae.userservice.dto.fcmtoken.FCMResponse;
 import com.meonghae.userservice.dto.user.UserMyPage;
 import com.meonghae.userservice.dto.user.UserRequest;
 import com.meonghae.userservice.dto.user.UserResponse;
@@ -22,6 +24,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -33,6 +36,7 @@ public class UserServiceTest {
 
     private UserServiceImpl userService;
     private FakeUserRepository fakeUserRepository;
+    private FakeFCMTokenRepository fakeFCMTokenRepository;
     private FakeRedisService fakeRedisService;
 
     @BeforeEach
@@ -40,6 +44,7 @@ public class UserServiceTest {
         Map<String, Object> map = new HashMap<>();
 
         fakeUserRepository = new FakeUserRepository();
+        fakeFCMTokenRepository = new FakeFCMTokenRepository();
         fakeRedisService = new FakeRedisService(map);
 
         JwtTokenProviderImpl jwtTokenProvider = JwtTokenProviderImpl.builder()
@@ -52,7 +57,7 @@ public class UserServiceTest {
 
         this.userService = UserServiceImpl.builder()
                 .userRepository(fakeUserRepository)
-                .fcmTokenRepository(new FakeFCMTokenRepository())
+                .fcmTokenRepository(fakeFCMTokenRepository)
                 .redisService(fakeRedisService)
                 .jwtTokenProvider(jwtTokenProvider)
                 .s3Service(new FakeS3ServiceClient())
@@ -242,6 +247,46 @@ public class UserServiceTest {
         assertThat(userMyPage.getAge()).isEqualTo(user.getAge());
     }
 
+    @Test
+    void 여러_이메일의_닉네임을_한번에_조회_할_수_있다() {
+        // given
+        fakeUserRepository.save(User.builder()
+                .email("second@test.com")
+                .age(20)
+                .birth(LocalDate.of(2003, 1, 1))
+                .nickname("Second-User")
+                .userRole(UserRole.USER)
+                .deleted(false)
+                .build());
+
+        // when
+        Map<String, String> nicknames = userService.sendNicknames(
+                List.of("test@test.com", "second@test.com", "unknown@test.com"));
+
+        // then
+        assertThat(nicknames.size()).isEqualTo(2);
+        assertThat(nicknames.get("test@test.com")).isEqualTo("Test-User");
+        assertThat(nicknames.get("second@test.com")).isEqualTo("Second-User");
+        assertThat(nicknames.containsKey("unknown@test.com")).isFalse();
+    }
+
+    @Test
+    void 여러_이메일의_FCM_토큰을_한번에_조회_할_수_있다() {
+        // given
+        fakeFCMTokenRepository.save(FCMToken.builder()
+                .email("test@test.com")
+                .token("test-fcm-token")
+                .build());
+
+        // when
+        List<FCMResponse> tokens = userService.sendFCMTokens(List.of("test@test.com", "unknown@test.com"));
+
+        // then
+        assertThat(tokens.size()).isEqualTo(1);
+        assertThat(tokens.get(0).getEmail()).isEqualTo("test@test.com");
+        assertThat(tokens.get(0).getFcmToken()).isEqualTo("test-fcm-token");
+    }
+
     @Test
     void 회원_탈퇴를_할_수_있다() {
         // given